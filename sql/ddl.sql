@@ -49,6 +49,9 @@ create table fridge_ingredient
     PRIMARY KEY (fridge_ingredient_id)
 );
 
+# 유통기한 임박 알림 Job 조회용 인덱스
+create index idx_fridge_ingredient_expired_at on fridge_ingredient (expired_at);
+
 # 알림 테이블 생성
 create table notification
 (
@@ -56,13 +59,28 @@ create table notification
     member_id             bigint        not null,
     notification_type     enum ('INGREDIENT_EXPIRED','RECIPE_REVIEWED','RECIPE_RECOMMENDED'),
     notification_property json          not null,
+    dedup_key             varchar(64)   not null,
+    dispatch_id           varchar(36)   null,
     created_at            timestamp(6)  not null,
     checked_at            timestamp(6)  null,
 
     primary key (notification_id),
+    unique key uk_notification_dedup_key (dedup_key),
     foreign key (member_id) references member (member_id)
 );
 
+# 알림 발송 대기(outbox) 테이블 생성
+create table notification_outbox
+(
+    notification_outbox_id bigint unique not null auto_increment,
+    email                  varchar(50)   not null,
+    notification_type      enum ('INGREDIENT_EXPIRED','RECIPE_REVIEWED','RECIPE_RECOMMENDED') not null,
+    notification_property  json          not null,
+    created_at             timestamp(6)  not null,
+
+    primary key (notification_outbox_id)
+);
+
 # 레시피 테이블 생성
 CREATE TABLE recipe
 (
@@ -85,6 +103,15 @@ CREATE TABLE recipe
 select *
 from recipe;
 
+# 조회수 증가분 반영 기록 테이블 생성(같은 묶음의 중복 반영 방지)
+create table recipe_view_count_flush
+(
+    flush_id   varchar(36)  not null,
+    applied_at timestamp(6) not null,
+
+    primary key (flush_id)
+);
+
 # 레시피 재료 테이블 생성
 create table recipe_ingredient
 (
@@ -152,6 +179,7 @@ create table report
     created_at timestamp(6)  not null,
 
     primary key (report_id),
+    unique key uk_report_member_recipe (member_id, recipe_id),
     foreign key (member_id) references member (member_id),
     foreign key (recipe_id) references recipe (recipe_id)
 );
@@ -165,6 +193,7 @@ create table bookmark
     created_at  timestamp(6)  not null,
 
     primary key (bookmark_id),
+    unique key uk_bookmark_member_recipe (member_id, recipe_id),
     foreign key (member_id) references member (member_id),
     foreign key (recipe_id) references recipe (recipe_id)
 );
@@ -14,4 +14,11 @@ import java.lang.annotation.Target;
 public @interface DistributedLock {
 
 	String prefix();
+
+	/**
+	 * 락 key SpEL 표현식
+	 * <p>메서드 파라미터는 이름(#recipeId) 또는 순서(#p0, #a0)로 참조한다.
+	 * 예) {@code key = "#reviewReqDto.recipeId"}
+	 */
+	String key() default "#p0";
 }
@@ -0,0 +1,62 @@
+package team.rescue.aop;
+
+import static team.rescue.error.type.ServiceError.LOCK_ACQUISITION_FAIL;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import team.rescue.error.exception.ServiceException;
+
+/**
+ * JVM 내부 락(단일 서버 / 테스트 환경용)
+ * <p>key 해시로 고정 개수의 ReentrantLock 중 하나를 골라 쓴다(striped lock).
+ * 서로 다른 key 가 같은 stripe 를 공유할 수 있지만, 메모리 사용량이 key 수와 무관하다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "lock.type", havingValue = "local")
+public class LocalLockManager implements LockManager {
+
+	private static final int STRIPE_COUNT = 64;
+	private static final long WAIT_TIME = 5;
+
+	private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+	public LocalLockManager() {
+		for (int i = 0; i < STRIPE_COUNT; i++) {
+			stripes[i] = new ReentrantLock();
+		}
+	}
+
+	@Override
+	public boolean tryLock(String prefix, String key) {
+		try {
+			return getStripe(prefix, key).tryLock(WAIT_TIME, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Local lock failed", e);
+			throw new ServiceException(LOCK_ACQUISITION_FAIL);
+		}
+	}
+
+	@Override
+	public void unlock(String prefix, String key) {
+		ReentrantLock lock = getStripe(prefix, key);
+
+		if (lock.isHeldByCurrentThread()) {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String getType() {
+		return "local";
+	}
+
+	private ReentrantLock getStripe(String prefix, String key) {
+		int hash = getLockKey(prefix, key).hashCode();
+		return stripes[(hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1)];
+	}
+}
@@ -1,12 +1,26 @@
 package team.rescue.aop;
 
+import static team.rescue.error.type.ServiceError.LOCK_ACQUISITION_FAIL;
+import static team.rescue.error.type.ServiceError.LOCK_ALREADY_ASSIGNED;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
+import team.rescue.error.exception.ServiceException;
 
 @Component
 @Aspect
@@ -14,20 +28,66 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class LockAopAspect {
 
+	private static final ExpressionParser PARSER = new SpelExpressionParser();
+	private static final ParameterNameDiscoverer NAME_DISCOVERER =
+			new DefaultParameterNameDiscoverer();
+
+	private final Map<String, Expression> expressionCache = new ConcurrentHashMap<>();
+
 	private final LockManager lockManager;
+	private final LockMetrics lockMetrics;
 
-	@Around("@annotation(DistributedLock) && args(recipeId, ..)")
-	public Object distributeLock(ProceedingJoinPoint pjp, Long recipeId) throws Throwable {
+	@Around("@annotation(team.rescue.aop.DistributedLock)")
+	public Object distributeLock(ProceedingJoinPoint pjp) throws Throwable {
 
 		MethodSignature signature = (MethodSignature) pjp.getSignature();
-		DistributedLock lock = signature.getMethod().getAnnotation(DistributedLock.class);
+		Method method = signature.getMethod();
+		DistributedLock lock = method.getAnnotation(DistributedLock.class);
 
-		lockManager.lock(lock.prefix(), String.valueOf(recipeId));
+		String prefix = lock.prefix();
+		String key = resolveKey(lock.key(), method, pjp.getArgs());
+		String backend = lockManager.getType();
 
+		long waitStart = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = lockManager.tryLock(prefix, key);
+		} catch (RuntimeException e) {
+			lockMetrics.recordWait(prefix, backend, "error", System.nanoTime() - waitStart);
+			throw e;
+		}
+
+		if (!acquired) {
+			lockMetrics.recordWait(prefix, backend, "timeout", System.nanoTime() - waitStart);
+			lockMetrics.recordTimeout(prefix, backend);
+			log.error("락 획득 실패! {}:{}", prefix, key);
+			throw new ServiceException(LOCK_ALREADY_ASSIGNED);
+		}
+		lockMetrics.recordWait(prefix, backend, "acquired", System.nanoTime() - waitStart);
+
+		long holdStart = System.nanoTime();
 		try {
 			return pjp.proceed();
 		} finally {
-			lockManager.unlock(lock.prefix(), String.valueOf(recipeId));
+			lockManager.unlock(prefix, key);
+			lockMetrics.recordHold(prefix, backend, System.nanoTime() - holdStart);
+		}
+	}
+
+	/**
+	 * {@link DistributedLock#key()} SpEL 을 메서드 인자로 평가해서 락 key 생성
+	 */
+	private String resolveKey(String expression, Method method, Object[] args) {
+		MethodBasedEvaluationContext context =
+				new MethodBasedEvaluationContext(TypedValue.NULL, method, args, NAME_DISCOVERER);
+
+		Object key = expressionCache.computeIfAbsent(expression, PARSER::parseExpression)
+				.getValue(context);
+		if (key == null) {
+			log.error("락 key 평가 결과 없음 method={}, key={}", method.getName(), expression);
+			throw new ServiceException(LOCK_ACQUISITION_FAIL);
 		}
+
+		return String.valueOf(key);
 	}
 }
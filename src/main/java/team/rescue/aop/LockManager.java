@@ -1,48 +1,40 @@
 package team.rescue.aop;
 
-import static team.rescue.error.type.ServiceError.LOCK_ACQUISITION_FAIL;
-import static team.rescue.error.type.ServiceError.LOCK_ALREADY_ASSIGNED;
-
-import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
-import org.springframework.stereotype.Component;
-import team.rescue.error.exception.ServiceException;
-
-@Component
-@RequiredArgsConstructor
-@Slf4j
-public class LockManager {
-
-	private final RedissonClient redissonClient;
-
-	public void lock(String prefix, String key) {
-		RLock lock = redissonClient.getLock(getLockKey(prefix, key));
-		log.info("Lock 획득 시도 {}", getLockKey(prefix, key));
-
-		try {
-			// 5초 시도, 10초안에 해제
-			boolean available = lock.tryLock(5, 10, TimeUnit.SECONDS);
-
-			if (!available) {
-				log.error("락 획득 실패!");
-				throw new ServiceException(LOCK_ALREADY_ASSIGNED);
-			}
-		} catch (Exception e) {
-			log.error("Redis lock failed", e);
-			throw new ServiceException(LOCK_ACQUISITION_FAIL);
-		}
+/**
+ * 분산 락 백엔드 전략
+ * <p>{@code lock.type} 설정값으로 구현체를 선택한다.
+ * <ul>
+ *   <li>redisson(기본값): Redis 기반 분산 락, 다중 서버 환경</li>
+ *   <li>local: JVM 내부 striped ReentrantLock, 단일 서버 / 테스트 환경</li>
+ *   <li>none: 락 미사용</li>
+ * </ul>
+ */
+public interface LockManager {
+
+	/**
+	 * 락 획득 시도
+	 *
+	 * @param prefix 락 prefix
+	 * @param key    락 key
+	 * @return 대기 시간 안에 획득했으면 true, 시간 초과면 false
+	 */
+	boolean tryLock(String prefix, String key);
+
+	/**
+	 * 락 해제
+	 * <p>현재 스레드가 보유한 락이 아니라면(리스 만료 등) 아무것도 하지 않는다.
+	 *
+	 * @param prefix 락 prefix
+	 * @param key    락 key
+	 */
+	void unlock(String prefix, String key);
+
+	/**
+	 * 메트릭 태그용 백엔드 이름
+	 */
+	String getType();
+
+	default String getLockKey(String prefix, String key) {
+		return prefix + ":" + key;
 	}
-
-	public void unlock(String prefix, String key) {
-		log.info("{} lock 해제", getLockKey(prefix, key));
-		redissonClient.getLock(getLockKey(prefix, key)).unlock();
-	}
-
-	private String getLockKey(String prefix, String recipeId) {
-		return prefix + ":" + recipeId;
-	}
-
 }
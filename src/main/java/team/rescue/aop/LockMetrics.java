@@ -0,0 +1,48 @@
+package team.rescue.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락 경합 메트릭
+ * <ul>
+ *   <li>lock.wait: 락 획득까지 걸린 시간(result=acquired|timeout|error)</li>
+ *   <li>lock.timeout: 대기 시간 초과 횟수</li>
+ *   <li>lock.hold: 락을 잡고 있던 시간</li>
+ * </ul>
+ * 모든 메트릭은 prefix, backend 태그로 구분한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LockMetrics {
+
+	private static final String WAIT = "lock.wait";
+	private static final String TIMEOUT = "lock.timeout";
+	private static final String HOLD = "lock.hold";
+
+	private final MeterRegistry meterRegistry;
+
+	public void recordWait(String prefix, String backend, String result, long nanos) {
+		Timer.builder(WAIT)
+				.tag("prefix", prefix)
+				.tag("backend", backend)
+				.tag("result", result)
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordTimeout(String prefix, String backend) {
+		meterRegistry.counter(TIMEOUT, "prefix", prefix, "backend", backend).increment();
+	}
+
+	public void recordHold(String prefix, String backend, long nanos) {
+		Timer.builder(HOLD)
+				.tag("prefix", prefix)
+				.tag("backend", backend)
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+}
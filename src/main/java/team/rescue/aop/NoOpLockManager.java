@@ -0,0 +1,26 @@
+package team.rescue.aop;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 락을 걸지 않는 LockManager
+ */
+@Component
+@ConditionalOnProperty(name = "lock.type", havingValue = "none")
+public class NoOpLockManager implements LockManager {
+
+	@Override
+	public boolean tryLock(String prefix, String key) {
+		return true;
+	}
+
+	@Override
+	public void unlock(String prefix, String key) {
+	}
+
+	@Override
+	public String getType() {
+		return "none";
+	}
+}
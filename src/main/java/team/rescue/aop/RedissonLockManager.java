@@ -0,0 +1,54 @@
+package team.rescue.aop;
+
+import static team.rescue.error.type.ServiceError.LOCK_ACQUISITION_FAIL;
+
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import team.rescue.error.exception.ServiceException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "lock.type", havingValue = "redisson", matchIfMissing = true)
+public class RedissonLockManager implements LockManager {
+
+	private static final long WAIT_TIME = 5;
+	private static final long LEASE_TIME = 10;
+
+	private final RedissonClient redissonClient;
+
+	@Override
+	public boolean tryLock(String prefix, String key) {
+		RLock lock = redissonClient.getLock(getLockKey(prefix, key));
+		log.info("Lock 획득 시도 {}", getLockKey(prefix, key));
+
+		try {
+			// 5초 시도, 10초안에 해제
+			return lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.error("Redis lock failed", e);
+			throw new ServiceException(LOCK_ACQUISITION_FAIL);
+		}
+	}
+
+	@Override
+	public void unlock(String prefix, String key) {
+		RLock lock = redissonClient.getLock(getLockKey(prefix, key));
+
+		if (lock.isHeldByCurrentThread()) {
+			log.info("{} lock 해제", getLockKey(prefix, key));
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String getType() {
+		return "redisson";
+	}
+}
@@ -6,9 +6,7 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.time.LocalDate;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -22,7 +20,6 @@ import team.rescue.auth.dto.LoginDto.LoginReqDto;
 import team.rescue.auth.dto.LoginDto.LoginResDto;
 import team.rescue.auth.provider.JwtTokenProvider;
 import team.rescue.auth.type.JwtTokenType;
-import team.rescue.auth.type.RoleType;
 import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.common.redis.RedisPrefix;
 import team.rescue.common.redis.RedisRepository;
@@ -30,16 +27,8 @@ import team.rescue.error.exception.AuthException;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.error.type.AuthError;
 import team.rescue.error.type.ServiceError;
-import team.rescue.fridge.entity.Fridge;
-import team.rescue.fridge.entity.FridgeIngredient;
-import team.rescue.fridge.repository.FridgeIngredientRepository;
-import team.rescue.fridge.repository.FridgeRepository;
 import team.rescue.member.entity.Member;
 import team.rescue.member.repository.MemberRepository;
-import team.rescue.notification.entity.NotificationProperty;
-import team.rescue.notification.event.NotificationEvent;
-import team.rescue.notification.event.NotificationEventPublisher;
-import team.rescue.notification.type.NotificationType;
 
 @Slf4j
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
@@ -52,27 +41,18 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 	private final AuthenticationManager authenticationManager;
 	private final RedisRepository redisUtil;
 	private final MemberRepository memberRepository;
-	private final NotificationEventPublisher notificationEventPublisher;
-	private final FridgeRepository fridgeRepository;
-	private final FridgeIngredientRepository fridgeIngredientRepository;
 
 	public JwtAuthenticationFilter(
 			AuthenticationManager authenticationManager,
 			ObjectMapper objectMapper,
 			RedisRepository redisUtil,
-			MemberRepository memberRepository,
-			NotificationEventPublisher notificationEventPublisher,
-			FridgeRepository fridgeRepository,
-			FridgeIngredientRepository fridgeIngredientRepository
+			MemberRepository memberRepository
 	) {
 		setFilterProcessesUrl(LOGIN_PATH);
 		this.authenticationManager = authenticationManager;
 		this.objectMapper = objectMapper;
 		this.redisUtil = redisUtil;
 		this.memberRepository = memberRepository;
-		this.notificationEventPublisher = notificationEventPublisher;
-		this.fridgeRepository = fridgeRepository;
-		this.fridgeIngredientRepository = fridgeIngredientRepository;
 	}
 
 	@Override
@@ -135,42 +115,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 		// refresh token을 Header에 담아서 클라이언트에게 전달
 		response.setHeader(HEADER_REFRESH_TOKEN, refreshToken);
 
-		validateFridgeIngredientsExpirationDate(principalDetails);
-
 		new ObjectMapper().writeValue(response.getOutputStream(), loginResponse);
 
 	}
 
-	private void validateFridgeIngredientsExpirationDate(PrincipalDetails principalDetails) {
-
-		if (principalDetails.getMember().getRole() == RoleType.GUEST) {
-			return;
-		}
-
-		Fridge fridge = fridgeRepository.findByMember(principalDetails.getMember())
-				.orElseThrow(() -> new ServiceException(ServiceError.FRIDGE_NOT_FOUND));
-
-		List<FridgeIngredient> fridgeIngredients = fridgeIngredientRepository.findByFridge(fridge);
-
-		LocalDate today = LocalDate.now();
-
-		for (FridgeIngredient fridgeIngredient : fridgeIngredients) {
-			if (fridgeIngredient.getExpiredAt() != null && today.plusDays(1)
-					.isEqual(fridgeIngredient.getExpiredAt())) {
-				NotificationEvent event = NotificationEvent.builder()
-						.email(principalDetails.getMember().getEmail())
-						.notificationType(NotificationType.INGREDIENT_EXPIRED)
-						.notificationProperty(NotificationProperty.builder()
-								.contents(fridgeIngredient.getName() + "의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!")
-								.originId(fridgeIngredient.getId())
-								.originUserId(null)
-								.build())
-						.build();
-				notificationEventPublisher.publishEvent(event);
-			}
-		}
-	}
-
 	/**
 	 * 로그인 인증 실패 시 호출되는 메서드
 	 */
@@ -1,14 +1,35 @@
 package team.rescue.common.file;
 
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -22,11 +43,27 @@ import team.rescue.util.ImageUtil;
 public class FileService {
 
 	private final AmazonS3 s3Client;
+	@Qualifier("s3UploadExecutor")
+	private final Executor s3UploadExecutor;
+	private final S3StreamingUploader s3StreamingUploader;
+	private final ImageDeletionQueue imageDeletionQueue;
 
 	@Value("${cloud.aws.s3.bucket}")
 	private String bucketName;
-	private static final String S3_BUCKET_DIR_PREFIX = "origin/";
 
+	private static final int MAX_RESIZED_SIZE = Arrays.stream(ImageVariant.values())
+			.mapToInt(ImageVariant::getMaxSize)
+			.max()
+			.orElse(0);
+
+	/**
+	 * 이미지 업로드
+	 * <p>원본과 함께 썸네일, 중간 크기 변형을 만들어 각 prefix 에 저장한다.
+	 * ImageIO 가 읽지 못하는 이미지 형식(WebP, HEIC 등)은 원본만 저장하고, 응답에서는 원본 URL 을 변형 URL 로 쓴다.
+	 *
+	 * @param image 업로드할 이미지
+	 * @return 원본 이미지 URL
+	 */
 	public String uploadImageToS3(MultipartFile image) {
 
 		log.info("[S3 이미지 업로드] imageName={}", image.getOriginalFilename());
@@ -34,38 +71,104 @@ public class FileService {
 		// 파일 존재 여부 확인
 		validateFile(image);
 
-		if (image.getOriginalFilename() == null) {
-			throw new ServiceException(ServiceError.FILE_EXTENSION_INVALID);
+		String fileName = ImageUtil.generateImageName(image.getOriginalFilename());
+
+		// 축소본은 디코딩한 이미지로 생성
+		BufferedImage source = readImage(image);
+		if (source != null) {
+			fileName = ImageVariant.markResized(fileName);
+			for (ImageVariant variant : ImageVariant.values()) {
+				if (variant.isResized()) {
+					byte[] resized = resize(source, variant);
+					s3StreamingUploader.upload(bucketName, variant.toKey(fileName),
+							new ByteArrayInputStream(resized), resized.length,
+							ImageVariant.RESIZED_CONTENT_TYPE);
+				}
+			}
 		}
-		String fileName =
-				S3_BUCKET_DIR_PREFIX + ImageUtil.generateImageName(image.getOriginalFilename());
 
-		ObjectMetadata objectMetadata = new ObjectMetadata();
-		objectMetadata.setContentType(image.getContentType());
-		objectMetadata.setContentLength(image.getSize());
+		// 원본은 메모리에 올리지 않고 업로드 스트림 그대로 전송
+		String originKey = ImageVariant.ORIGINAL.toKey(fileName);
+		try (InputStream inputStream = image.getInputStream()) {
+			s3StreamingUploader.upload(bucketName, originKey, inputStream, image.getSize(),
+					image.getContentType());
+		} catch (IOException e) {
+			throw new ServiceException(ServiceError.FILE_UPLOAD_FAILURE);
+		}
+
+		return s3Client.getUrl(bucketName, originKey).toString();
+	}
+
+	/**
+	 * 여러 이미지 병렬 업로드
+	 * <p>비어 있는 파일은 업로드하지 않고 같은 위치에 null 을 돌려준다.
+	 * 하나라도 실패하면 이미 올라간 이미지를 삭제한 뒤 예외를 던진다.
+	 *
+	 * @param images 업로드할 이미지 목록
+	 * @return 입력 순서와 같은 이미지 URL 목록
+	 */
+	public List<String> uploadImagesToS3(List<MultipartFile> images) {
+
+		log.info("[S3 이미지 병렬 업로드] count={}", images.size());
+
+		List<CompletableFuture<String>> futures = images.stream()
+				.map(image -> image == null || image.isEmpty()
+						? CompletableFuture.<String>completedFuture(null)
+						: CompletableFuture.supplyAsync(() -> uploadImageToS3(image), s3UploadExecutor))
+				.toList();
 
 		try {
-			PutObjectRequest putObjectRequest = new PutObjectRequest(
-					bucketName, fileName, image.getInputStream(), objectMetadata
-			);
-			s3Client.putObject(putObjectRequest);
-		} catch (IOException e) {
-			throw new RuntimeException(e);
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			// 성공한 업로드는 고아 객체가 되므로 정리
+			deleteImagesQuietly(futures.stream()
+					.filter(future -> !future.isCompletedExceptionally())
+					.map(CompletableFuture::join)
+					.toList());
+
+			if (e.getCause() instanceof ServiceException serviceException) {
+				throw serviceException;
+			}
+			log.error("S3 이미지 병렬 업로드 실패", e.getCause());
+			throw new ServiceException(ServiceError.FILE_UPLOAD_FAILURE);
 		}
 
-		return s3Client.getUrl(bucketName, fileName).toString();
+		List<String> imageUrls = new ArrayList<>(futures.size());
+		futures.forEach(future -> imageUrls.add(future.join()));
+		return imageUrls;
+	}
+
+	/**
+	 * 이미지 삭제(실패해도 예외를 던지지 않음)
+	 * <p>롤백된 요청에서 업로드한 이미지 정리용
+	 *
+	 * @param imagePaths 삭제할 이미지 URL 목록, null 원소는 무시
+	 */
+	public void deleteImagesQuietly(Collection<String> imagePaths) {
+		imagePaths.stream()
+				.filter(Objects::nonNull)
+				.forEach(imagePath -> {
+					try {
+						deleteImages(imagePath);
+					} catch (Exception e) {
+						log.warn("고아 이미지 정리 실패 imagePath={}", imagePath);
+					}
+				});
 	}
 
 	public void deleteImages(String  imagePath) {
 		log.info("[S3 이미지 삭제] imagePath={}", imagePath);
 
 		// 파일 이름 추출
-		String fileName = S3_BUCKET_DIR_PREFIX + extractFileName(imagePath);
+		String fileName = extractFileName(imagePath);
 
 		try {
-			DeleteObjectRequest deleteObjectRequest = new DeleteObjectRequest(bucketName, fileName);
+			// 원본과 변형 이미지 한 번에 삭제(없는 key 는 무시됨)
+			DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+					.withKeys(toKeys(fileName).toArray(String[]::new))
+					.withQuiet(true);
 
-			s3Client.deleteObject(deleteObjectRequest);
+			s3Client.deleteObjects(deleteObjectsRequest);
 			log.info("S3 이미지 '{}' 삭제 성공", fileName);
 		} catch (Exception e) {
 			log.error("S3 이미지 '{}' 삭제 실패: {}", fileName, e.getMessage());
@@ -73,6 +176,118 @@ public class FileService {
 		}
 	}
 
+	/**
+	 * 커밋 후 이미지 삭제 예약
+	 * <p>S3 삭제를 트랜잭션에서 분리해, 삭제 실패가 DB 롤백으로 이어지지 않도록 한다.
+	 * 실제 삭제는 {@link ImageDeletionQueue} 가 묶어서 처리한다.
+	 *
+	 * @param imagePaths 삭제할 이미지 URL 목록, 비어 있는 값은 무시
+	 */
+	public void deleteImagesAfterCommit(Collection<String> imagePaths) {
+		List<String> keys = imagePaths.stream()
+				.filter(imagePath -> imagePath != null && !imagePath.isBlank())
+				.flatMap(imagePath -> toKeys(extractFileName(imagePath)).stream())
+				.toList();
+
+		log.info("[S3 이미지 삭제 예약] count={}", keys.size());
+		imageDeletionQueue.enqueueAfterCommit(keys);
+	}
+
+	private List<String> toKeys(String fileName) {
+		return Arrays.stream(ImageVariant.values())
+				.map(variant -> variant.toKey(fileName))
+				.toList();
+	}
+
+	/**
+	 * 업로드 이미지 디코딩
+	 * <p>가장 큰 축소본의 두 배보다 큰 이미지는 읽을 때부터 픽셀을 건너뛰어(subsampling)
+	 * 디코딩 메모리가 원본 해상도에 비례해 커지지 않도록 한다.
+	 * EXIF 방향 정보가 있으면 회전 / 반전해 돌려준다.
+	 *
+	 * @return 디코딩한 이미지, ImageIO 가 지원하지 않는 이미지 형식이면 null
+	 */
+	private BufferedImage readImage(MultipartFile image) {
+		try (ImageInputStream input = ImageIO.createImageInputStream(image.getInputStream())) {
+			Iterator<ImageReader> readers = input == null
+					? Collections.emptyIterator()
+					: ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				String contentType = image.getContentType();
+				if (contentType == null || !contentType.startsWith("image/")) {
+					throw new ServiceException(ServiceError.FILE_EXTENSION_INVALID);
+				}
+				log.info("[S3 이미지 업로드] 축소본 미지원 형식, 원본만 저장 contentType={}", contentType);
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				// EXIF 방향을 읽기 위해 메타데이터도 함께 읽는다
+				reader.setInput(input, true, false);
+				Orientation orientation = readOrientation(reader);
+
+				int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+				int subsampling = Math.max(1, longSide / (MAX_RESIZED_SIZE * 2));
+
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				BufferedImage decoded = reader.read(0, param);
+
+				return orientation == null || orientation == Orientation.TOP_LEFT
+						? decoded
+						: ExifFilterUtils.getFilterForOrientation(orientation).apply(decoded);
+			} finally {
+				reader.dispose();
+			}
+		} catch (IOException e) {
+			// 지원하는 형식이지만 깨진 이미지
+			throw new ServiceException(ServiceError.FILE_EXTENSION_INVALID);
+		}
+	}
+
+	/**
+	 * EXIF 방향 정보(휴대폰 사진의 회전 정보) 조회
+	 *
+	 * @return 방향, 정보가 없거나 읽지 못하면 null
+	 */
+	private Orientation readOrientation(ImageReader reader) {
+		try {
+			return ExifUtils.getExifOrientation(reader, 0);
+		} catch (Exception e) {
+			log.debug("EXIF 방향 정보 조회 실패", e);
+			return null;
+		}
+	}
+
+	/**
+	 * 긴 변이 변형 최대 크기를 넘으면 비율을 유지해 축소하고 JPEG 으로 재인코딩
+	 * <p>작은 이미지는 확대하지 않는다.
+	 */
+	private byte[] resize(BufferedImage source, ImageVariant variant) {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		int longSide = Math.max(source.getWidth(), source.getHeight());
+
+		try {
+			Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(source);
+			if (longSide > variant.getMaxSize()) {
+				builder.size(variant.getMaxSize(), variant.getMaxSize());
+			} else {
+				builder.scale(1.0);
+			}
+
+			builder.imageType(BufferedImage.TYPE_INT_RGB) // JPEG 은 알파 채널 미지원
+					.outputFormat(ImageVariant.RESIZED_FORMAT)
+					.outputQuality(ImageVariant.RESIZED_QUALITY)
+					.toOutputStream(outputStream);
+		} catch (IOException e) {
+			log.error("이미지 리사이징 실패 variant={}", variant, e);
+			throw new ServiceException(ServiceError.FILE_RESIZING_FAILURE);
+		}
+
+		return outputStream.toByteArray();
+	}
+
 	private String extractFileName(String filePath) {
 		if (filePath == null || filePath.isEmpty()) {
 			throw new ServiceException(ServiceError.FILE_PATH_INVALID);
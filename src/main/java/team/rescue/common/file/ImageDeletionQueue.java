@@ -0,0 +1,145 @@
+package team.rescue.common.file;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException.DeleteError;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * S3 객체 지연 삭제 큐
+ * <p>트랜잭션 안에서 요청된 삭제는 커밋 후에 큐에 들어가고, 롤백되면 버려진다.
+ * 큐에 쌓인 key 는 스케줄러가 DeleteObjects API 로 최대 1000개씩 묶어서 삭제하며,
+ * 실패한 key 는 다음 주기에 다시 시도한다.
+ * <p>큐는 메모리에만 있으므로 서버가 내려가면 남은 key 는 S3 에 고아 객체로 남을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageDeletionQueue {
+
+	// DeleteObjects API 한 번에 지정 가능한 최대 key 수
+	public static final int MAX_KEYS_PER_REQUEST = 1000;
+	private static final int MAX_ATTEMPTS = 5;
+
+	private final AmazonS3 s3Client;
+	private final Queue<PendingDeletion> queue = new ConcurrentLinkedQueue<>();
+
+	@Value("${cloud.aws.s3.bucket}")
+	private String bucketName;
+
+	/**
+	 * 커밋 후 삭제 예약
+	 * <p>트랜잭션 밖에서 호출하면 바로 큐에 넣는다.
+	 *
+	 * @param keys 삭제할 S3 key 목록
+	 */
+	public void enqueueAfterCommit(Collection<String> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		List<String> pendingKeys = List.copyOf(keys);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			enqueue(pendingKeys);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				enqueue(pendingKeys);
+			}
+		});
+	}
+
+	/**
+	 * 큐에 쌓인 key 일괄 삭제
+	 * <p>호출 시점에 쌓여 있던 key 까지만 처리하고, 이번에 실패해 다시 들어간 key 는 다음 호출에서 처리한다.
+	 *
+	 * @return 삭제 요청에 성공한 key 수
+	 */
+	public int flush() {
+		int remaining = queue.size();
+		int deleted = 0;
+
+		while (remaining > 0) {
+			List<PendingDeletion> batch = poll(Math.min(remaining, MAX_KEYS_PER_REQUEST));
+			if (batch.isEmpty()) {
+				break;
+			}
+
+			remaining -= batch.size();
+			deleted += delete(batch);
+		}
+
+		return deleted;
+	}
+
+	public int size() {
+		return queue.size();
+	}
+
+	private void enqueue(List<String> keys) {
+		keys.forEach(key -> queue.add(new PendingDeletion(key, 0)));
+	}
+
+	private List<PendingDeletion> poll(int limit) {
+		List<PendingDeletion> batch = new ArrayList<>();
+
+		PendingDeletion pendingDeletion;
+		while (batch.size() < limit && (pendingDeletion = queue.poll()) != null) {
+			batch.add(pendingDeletion);
+		}
+
+		return batch;
+	}
+
+	private int delete(List<PendingDeletion> batch) {
+		DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucketName)
+				.withKeys(batch.stream().map(PendingDeletion::key).toArray(String[]::new))
+				.withQuiet(true);
+
+		try {
+			s3Client.deleteObjects(deleteObjectsRequest);
+			return batch.size();
+		} catch (MultiObjectDeleteException e) {
+			// 일부 key 만 실패한 경우 실패한 key 만 재시도
+			Set<String> failedKeys = e.getErrors().stream()
+					.map(DeleteError::getKey)
+					.collect(Collectors.toSet());
+			retry(batch.stream().filter(deletion -> failedKeys.contains(deletion.key())).toList());
+			return batch.size() - failedKeys.size();
+		} catch (Exception e) {
+			log.warn("[S3 이미지 일괄 삭제] 실패 count={}, message={}", batch.size(), e.getMessage());
+			retry(batch);
+			return 0;
+		}
+	}
+
+	private void retry(List<PendingDeletion> failed) {
+		for (PendingDeletion deletion : failed) {
+			if (deletion.attempt() + 1 >= MAX_ATTEMPTS) {
+				log.error("[S3 이미지 일괄 삭제] 재시도 초과로 포기 key={}", deletion.key());
+				continue;
+			}
+			queue.add(new PendingDeletion(deletion.key(), deletion.attempt() + 1));
+		}
+	}
+
+	private record PendingDeletion(String key, int attempt) {
+
+	}
+}
@@ -0,0 +1,86 @@
+package team.rescue.common.file;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 해상도별 변형
+ * <p>원본은 {@code origin/} 에 그대로, 축소본은 긴 변 기준으로 줄여 JPEG 으로 재인코딩해 저장한다.
+ * 축소본 URL 은 원본 URL 에서 prefix 와 확장자만 바꿔 만든다.
+ * <p>축소본을 함께 저장한 원본은 파일 이름에 {@link #RESIZED_MARKER} 를 붙인다.
+ * 표시가 없는 원본(변형 도입 전 업로드, ImageIO 가 읽지 못하는 형식)은 축소본 URL 대신 원본 URL 을 쓴다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+	THUMBNAIL("thumbnail/", 320),
+	MEDIUM("medium/", 960),
+	ORIGINAL("origin/", 0);
+
+	public static final String RESIZED_FORMAT = "jpg";
+	public static final String RESIZED_CONTENT_TYPE = "image/jpeg";
+	public static final double RESIZED_QUALITY = 0.8;
+	public static final String RESIZED_MARKER = "_rs";
+
+	private final String prefix;
+	private final int maxSize; // 긴 변 최대 픽셀, 0 이면 원본
+
+	public boolean isResized() {
+		return maxSize > 0;
+	}
+
+	/**
+	 * 원본 파일 이름으로 변형 이미지 S3 key 생성
+	 *
+	 * @param fileName 원본 파일 이름(prefix 제외)
+	 * @return S3 key
+	 */
+	public String toKey(String fileName) {
+		if (!isResized()) {
+			return prefix + fileName;
+		}
+
+		int separatorPos = fileName.lastIndexOf(".");
+		String baseName = separatorPos < 0 ? fileName : fileName.substring(0, separatorPos);
+		return prefix + baseName + "." + RESIZED_FORMAT;
+	}
+
+	/**
+	 * 원본 이미지 URL 로 변형 이미지 URL 생성
+	 *
+	 * @param originUrl 원본 이미지 URL
+	 * @return 변형 이미지 URL, 원본 URL 이 없거나 형식이 다르거나 축소본이 없는 이미지면 원본 URL
+	 */
+	public String toUrl(String originUrl) {
+		String originPrefix = "/" + ORIGINAL.prefix;
+		if (!isResized() || originUrl == null || !originUrl.contains(originPrefix)) {
+			return originUrl;
+		}
+
+		int prefixPos = originUrl.lastIndexOf(originPrefix);
+		String fileName = originUrl.substring(prefixPos + originPrefix.length());
+		if (!hasResized(fileName)) {
+			return originUrl;
+		}
+		return originUrl.substring(0, prefixPos + 1) + toKey(fileName);
+	}
+
+	/**
+	 * 축소본을 함께 저장한 원본 파일 이름으로 변경(확장자 앞에 표시 추가)
+	 */
+	public static String markResized(String fileName) {
+		int separatorPos = fileName.lastIndexOf(".");
+		return separatorPos < 0
+				? fileName + RESIZED_MARKER
+				: fileName.substring(0, separatorPos) + RESIZED_MARKER + fileName.substring(separatorPos);
+	}
+
+	/**
+	 * 원본 파일 이름으로 축소본 저장 여부 확인
+	 */
+	public static boolean hasResized(String fileName) {
+		int separatorPos = fileName.lastIndexOf(".");
+		String baseName = separatorPos < 0 ? fileName : fileName.substring(0, separatorPos);
+		return baseName.endsWith(RESIZED_MARKER);
+	}
+}
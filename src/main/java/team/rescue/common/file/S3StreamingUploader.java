@@ -0,0 +1,108 @@
+package team.rescue.common.file;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import team.rescue.error.exception.ServiceException;
+import team.rescue.error.type.ServiceError;
+
+/**
+ * 입력 스트림을 S3 로 바로 흘려보내는 업로더
+ * <p>파트 크기 이하의 파일은 content-length 를 지정한 단일 PUT 으로 스트리밍하고,
+ * 그보다 크면 고정 크기 버퍼 하나를 재사용하는 멀티파트 업로드로 보낸다.
+ * 업로드 한 건이 쓰는 메모리는 파일 크기와 무관하게 파트 크기로 제한된다.
+ * <p>현재 업로드 제한(spring.servlet.multipart.max-file-size: 2MB)에서는 항상 단일 PUT 으로 보내고,
+ * 멀티파트 업로드는 제한을 파트 크기보다 크게 올렸을 때만 사용된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+	// S3 멀티파트 최소 파트 크기(마지막 파트 제외)
+	public static final int PART_SIZE = 5 * 1024 * 1024;
+
+	private final AmazonS3 s3Client;
+
+	/**
+	 * 스트림 업로드
+	 *
+	 * @param bucketName    버킷
+	 * @param key           저장 key
+	 * @param inputStream   업로드할 데이터(호출자가 닫음)
+	 * @param contentLength 데이터 길이
+	 * @param contentType   Content-Type
+	 */
+	public void upload(
+			String bucketName,
+			String key,
+			InputStream inputStream,
+			long contentLength,
+			String contentType
+	) {
+
+		if (contentLength <= PART_SIZE) {
+			ObjectMetadata objectMetadata = new ObjectMetadata();
+			objectMetadata.setContentType(contentType);
+			objectMetadata.setContentLength(contentLength);
+
+			s3Client.putObject(new PutObjectRequest(bucketName, key, inputStream, objectMetadata));
+			return;
+		}
+
+		uploadMultipart(bucketName, key, inputStream, contentType);
+	}
+
+	private void uploadMultipart(
+			String bucketName,
+			String key,
+			InputStream inputStream,
+			String contentType
+	) {
+
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentType(contentType);
+
+		String uploadId = s3Client.initiateMultipartUpload(
+				new InitiateMultipartUploadRequest(bucketName, key, objectMetadata)).getUploadId();
+
+		try {
+			byte[] buffer = new byte[PART_SIZE];
+			List<PartETag> partETags = new ArrayList<>();
+
+			int partNumber = 1;
+			int read;
+			while ((read = inputStream.readNBytes(buffer, 0, PART_SIZE)) > 0) {
+				UploadPartRequest uploadPartRequest = new UploadPartRequest()
+						.withBucketName(bucketName)
+						.withKey(key)
+						.withUploadId(uploadId)
+						.withPartNumber(partNumber++)
+						.withInputStream(new ByteArrayInputStream(buffer, 0, read))
+						.withPartSize(read);
+
+				partETags.add(s3Client.uploadPart(uploadPartRequest).getPartETag());
+			}
+
+			s3Client.completeMultipartUpload(
+					new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+		} catch (IOException | RuntimeException e) {
+			log.error("S3 멀티파트 업로드 실패 key={}", key, e);
+			s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+			throw new ServiceException(ServiceError.FILE_UPLOAD_FAILURE);
+		}
+	}
+}
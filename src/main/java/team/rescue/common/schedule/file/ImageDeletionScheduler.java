@@ -0,0 +1,31 @@
+package team.rescue.common.schedule.file;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.common.file.ImageDeletionQueue;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ImageDeletionScheduler {
+
+	private final ImageDeletionQueue imageDeletionQueue;
+
+	/**
+	 * 커밋된 삭제 요청 S3 일괄 반영
+	 */
+	@Scheduled(fixedDelay = 1000 * 10) // 10초 간격
+	public void deleteImages() {
+		if (imageDeletionQueue.size() == 0) {
+			return;
+		}
+
+		int deleted = imageDeletionQueue.flush();
+		log.info("[Image Deletion] {} objects deleted, {} pending.", deleted,
+				imageDeletionQueue.size());
+	}
+}
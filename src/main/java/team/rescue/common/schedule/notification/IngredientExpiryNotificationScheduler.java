@@ -0,0 +1,56 @@
+package team.rescue.common.schedule.notification;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.notification.batch.IngredientExpiryNotificationJobConfig;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class IngredientExpiryNotificationScheduler {
+
+	private static final String ZONE = "Asia/Seoul";
+
+	private final JobLauncher jobLauncher;
+	private final Job ingredientExpiryNotificationJob;
+
+	/**
+	 * 내일 유통기한이 끝나는 재료 알림 Job 실행
+	 * <p>실패한 기준일을 다시 실행하면 마지막으로 커밋된 chunk 다음부터 이어서 처리한다.
+	 */
+	@Scheduled(cron = "0 0 9 * * *", zone = ZONE) // 매일 오전 9시
+	public void notifyExpiringIngredients() {
+		JobParameters jobParameters = new JobParametersBuilder()
+				.addLocalDate(IngredientExpiryNotificationJobConfig.TARGET_DATE,
+						LocalDate.now(ZoneId.of(ZONE)))
+				.toJobParameters();
+
+		try {
+			JobExecution jobExecution = jobLauncher.run(ingredientExpiryNotificationJob, jobParameters);
+			if (jobExecution.getStatus() != BatchStatus.COMPLETED) {
+				log.error("[Ingredient Expiry] Job 실패 status={}", jobExecution.getStatus());
+				return;
+			}
+
+			log.info("[Ingredient Expiry] Job 완료 targetDate={}",
+					jobParameters.getLocalDate(IngredientExpiryNotificationJobConfig.TARGET_DATE));
+		} catch (JobInstanceAlreadyCompleteException e) {
+			log.info("[Ingredient Expiry] 이미 완료된 기준일 - 건너뜀");
+		} catch (Exception e) {
+			log.error("[Ingredient Expiry] Job 실행 실패", e);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package team.rescue.common.schedule.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.notification.service.NotificationService;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final NotificationService notificationService;
+
+	/**
+	 * outbox 에 쌓인 알림 발송
+	 * <p>한 번에 BATCH_SIZE 건씩, outbox 가 빌 때까지 이어서 처리한다.
+	 */
+	@Scheduled(fixedDelay = 1000) // 1초 간격
+	public void dispatchNotifications() {
+		int total = 0;
+		int dispatched;
+		try {
+			do {
+				dispatched = notificationService.dispatchOutbox(BATCH_SIZE);
+				total += dispatched;
+			} while (dispatched == BATCH_SIZE);
+		} catch (Exception e) {
+			log.error("[Notification] outbox 발송 실패", e);
+		}
+
+		if (total > 0) {
+			log.info("[Notification] {} outbox rows dispatched.", total);
+		}
+	}
+}
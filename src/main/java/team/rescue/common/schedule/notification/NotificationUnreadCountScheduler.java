@@ -0,0 +1,47 @@
+package team.rescue.common.schedule.notification;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
+import team.rescue.notification.service.NotificationService;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class NotificationUnreadCountScheduler {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+	private final NotificationService notificationService;
+
+	/**
+	 * Redis 미확인 알림 수를 DB 기준으로 보정
+	 * <p>캐시가 있는 회원만 BATCH_SIZE 명씩 GROUP BY 한 번으로 세어 맞춘다.
+	 */
+	@Scheduled(fixedDelay = 1000 * 60 * 10) // 10분 간격
+	public void reconcileUnreadCounts() {
+		List<Long> memberIds = notificationUnreadCountRepository.findCachedMemberIds();
+		if (memberIds.isEmpty()) {
+			return;
+		}
+
+		int corrected = 0;
+		for (int from = 0; from < memberIds.size(); from += BATCH_SIZE) {
+			List<Long> batch = memberIds.subList(from, Math.min(from + BATCH_SIZE, memberIds.size()));
+			try {
+				corrected += notificationService.reconcileUnreadCounts(batch);
+			} catch (Exception e) {
+				log.error("[Notification] 미확인 알림 수 보정 실패", e);
+			}
+		}
+
+		log.info("[Notification] unread count reconciled. members={}, corrected={}",
+				memberIds.size(), corrected);
+	}
+}
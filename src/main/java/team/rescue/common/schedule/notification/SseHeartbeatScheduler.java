@@ -0,0 +1,35 @@
+package team.rescue.common.schedule.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.notification.service.SseDeliveryService;
+import team.rescue.notification.service.SseEmitterService;
+
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+	private final SseEmitterService sseEmitterService;
+	private final SseDeliveryService sseDeliveryService;
+
+	/**
+	 * SSE 연결 heartbeat 전송
+	 * <p>프록시의 유휴 연결 종료를 막고, 끊긴 연결은 전송 실패로 감지해 정리한다.
+	 */
+	@Scheduled(fixedDelay = 1000 * 30) // 30초 간격
+	public void sendHeartbeat() {
+		sseEmitterService.sendHeartbeat();
+	}
+
+	/**
+	 * 전송 시간 초과 연결 정리
+	 * <p>받지 않는 클라이언트에 대한 전송이 전송 스레드를 계속 잡고 있지 않도록 한다.
+	 */
+	@Scheduled(fixedDelay = 1000) // 1초 간격
+	public void disconnectStalled() {
+		sseDeliveryService.disconnectStalled();
+	}
+}
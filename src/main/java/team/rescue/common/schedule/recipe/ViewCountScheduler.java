@@ -0,0 +1,69 @@
+package team.rescue.common.schedule.recipe;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.recipe.service.RecipeService;
+import team.rescue.search.repository.RecipeSearchRepository;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class ViewCountScheduler {
+
+	// 반영 기록 보관 기간(대기 중인 묶음은 1분마다 재시도되므로 충분히 김)
+	private static final long FLUSH_RETENTION_DAYS = 7;
+
+	private final RecipeViewCountRepository recipeViewCountRepository;
+	private final RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+	private final RecipeService recipeService;
+	private final RecipeSearchRepository recipeSearchRepository;
+
+	/**
+	 * Redis 에 누적된 조회수 증가분을 DB, ES 에 반영
+	 * <p>누적분을 새 묶음으로 분리한 뒤, 이전 실패분을 포함해 대기 중인 묶음을 모두 반영한다.
+	 * 묶음은 DB 반영이 커밋된 뒤에 삭제하므로 실패 시 다음 주기에 다시 시도하고,
+	 * 이미 반영된 묶음은 DB 반영 기록으로 걸러진다. ES 는 최신 조회수를 덮어쓰므로 실패해도 다음 반영 때 맞춰진다.
+	 */
+	@Scheduled(fixedDelay = 1000 * 60) // 1분 간격
+	public void flushViewCount() {
+		recipeViewCountRepository.claim();
+
+		Map<String, Map<Long, Integer>> batches = recipeViewCountRepository.findPending();
+		batches.forEach((flushId, deltas) -> {
+			Map<Long, Integer> viewCounts = deltas.isEmpty()
+					? Map.of()
+					: recipeService.flushViewCounts(flushId, deltas);
+			recipeViewCountRepository.complete(flushId);
+
+			if (viewCounts.isEmpty()) {
+				return;
+			}
+
+			try {
+				recipeSearchRepository.updateViewCounts(viewCounts);
+			} catch (Exception e) {
+				log.error("[View Count] Recipe Document 조회수 갱신 실패", e);
+			}
+
+			log.info("[View Count] {} recipes updated. flushId={}", viewCounts.size(), flushId);
+		});
+	}
+
+	/**
+	 * 오래된 조회수 반영 기록 삭제
+	 */
+	@Scheduled(cron = "0 30 4 * * *") // 매일 04:30
+	public void deleteFlushHistory() {
+		int deleted = recipeViewCountBulkRepository.deleteAppliedBefore(
+				LocalDateTime.now().minusDays(FLUSH_RETENTION_DAYS));
+		log.info("[View Count] {} flush records deleted.", deleted);
+	}
+}
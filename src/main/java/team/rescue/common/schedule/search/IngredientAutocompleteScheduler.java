@@ -0,0 +1,27 @@
+package team.rescue.common.schedule.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import team.rescue.search.service.IngredientAutocompleteIndex;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+public class IngredientAutocompleteScheduler {
+
+	private final IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	/**
+	 * 재료 자동완성 trie 전체 재적재
+	 * <p>다른 서버에서 커밋된 레시피 재료 변경을 반영한다.
+	 */
+	@Scheduled(initialDelay = 1000 * 60 * 10, fixedDelay = 1000 * 60 * 10) // 10분 간격
+	public void reloadIngredients() {
+		int loaded = ingredientAutocompleteIndex.reload();
+		log.info("[Ingredient Autocomplete] {} ingredients loaded.", loaded);
+	}
+}
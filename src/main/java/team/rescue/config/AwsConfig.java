@@ -5,10 +5,14 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Slf4j
 @Configuration
@@ -23,7 +27,14 @@ public class AwsConfig {
 	@Value("${cloud.aws.region.static}")
 	private String region;
 
+	@Value("${cloud.aws.s3.upload.pool-size:8}")
+	private int uploadPoolSize;
+
+	@Value("${cloud.aws.s3.upload.queue-capacity:64}")
+	private int uploadQueueCapacity;
+
 	@Bean
+	@ConditionalOnProperty(name = "cloud.aws.s3.mode", havingValue = "aws", matchIfMissing = true)
 	public AmazonS3 s3Client() {
 		AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 		return AmazonS3ClientBuilder
@@ -33,4 +44,23 @@ public class AwsConfig {
 				.build();
 	}
 
+	/**
+	 * S3 업로드 전용 스레드 풀
+	 * <p>큐가 가득 차면 요청 스레드에서 직접 업로드해 풀 크기 이상으로 S3 요청이 몰리지 않도록 한다.
+	 * <p>Executor 빈이 여러 개이므로 주입받는 쪽은 {@code @Qualifier("s3UploadExecutor")} 로 지정한다.
+	 * Executor 빈을 직접 등록하면 Spring Boot 의 기본 applicationTaskExecutor 는 만들어지지 않는다
+	 * (현재 @Async 사용처 없음).
+	 */
+	@Bean
+	public Executor s3UploadExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(uploadPoolSize);
+		executor.setMaxPoolSize(uploadPoolSize);
+		executor.setQueueCapacity(uploadQueueCapacity);
+		executor.setThreadNamePrefix("s3-upload-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.initialize();
+		return executor;
+	}
 }
@@ -1,6 +1,5 @@
 package team.rescue.config;
 
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.redisson.Redisson;
 import org.redisson.api.RedissonClient;
@@ -12,10 +11,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import team.rescue.notification.RedisSubscriber;
+import team.rescue.notification.service.RedisMessageService;
 
 @Configuration
 @EnableCaching
@@ -55,15 +56,6 @@ public class RedisConfig {
 		return redisTemplate;
 	}
 
-	@Bean
-	public RedisTemplate<String, List<String>> listRedisTemplate() {
-		RedisTemplate<String, List<String>> redisTemplate = new RedisTemplate<>();
-		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new Jackson2JsonRedisSerializer<>(List.class));
-		redisTemplate.setConnectionFactory(redisConnectionFactory());
-		return redisTemplate;
-	}
-
 	@Bean
 	public RedissonClient redissonClient() {
 		Config config = new Config();
@@ -74,10 +66,15 @@ public class RedisConfig {
 
 	@Bean
 	public RedisMessageListenerContainer redisMessageListenerContainer(
-			RedisConnectionFactory redisConnectionFactory) {
+			RedisConnectionFactory redisConnectionFactory,
+			RedisSubscriber redisSubscriber
+	) {
 		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
 
 		container.setConnectionFactory(redisConnectionFactory);
+		// 접속자마다 SUBSCRIBE 하지 않고 노드당 PSUBSCRIBE 한 번
+		container.addMessageListener(redisSubscriber,
+				PatternTopic.of(RedisMessageService.CHANNEL_PATTERN));
 
 		return container;
 	}
@@ -32,10 +32,7 @@ import team.rescue.auth.handler.OAuthAuthorizationSuccessHandler;
 import team.rescue.auth.service.AuthService;
 import team.rescue.auth.service.OAuthService;
 import team.rescue.common.redis.RedisRepository;
-import team.rescue.fridge.repository.FridgeIngredientRepository;
-import team.rescue.fridge.repository.FridgeRepository;
 import team.rescue.member.repository.MemberRepository;
-import team.rescue.notification.event.NotificationEventPublisher;
 
 @Slf4j
 @Configuration
@@ -50,9 +47,6 @@ public class SecurityConfig {
 	private final RedisRepository redisUtil;
 	private final ObjectMapper objectMapper;
 	private final MemberRepository memberRepository;
-	private final NotificationEventPublisher notificationEventPublisher;
-	private final FridgeRepository fridgeRepository;
-	private final FridgeIngredientRepository fridgeIngredientRepository;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -131,8 +125,7 @@ public class SecurityConfig {
 
 			builder.addFilter(
 					new JwtAuthenticationFilter(authenticationManager, objectMapper, redisUtil,
-							memberRepository, notificationEventPublisher, fridgeRepository,
-							fridgeIngredientRepository));
+							memberRepository));
 			builder.addFilter(new JwtAuthorizationFilter(authenticationManager));
 			super.configure(builder);
 		}
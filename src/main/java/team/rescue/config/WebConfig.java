@@ -1,12 +1,14 @@
 package team.rescue.config;
 
 import java.util.Properties;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
@@ -26,6 +28,9 @@ public class WebConfig {
 	@Value("${spring.mail.password}")
 	private String password;
 
+	@Value("${sse.delivery.pool-size:8}")
+	private int sseDeliveryPoolSize;
+
 	private static final String ENCODING = "UTF-8";
 
 
@@ -57,4 +62,20 @@ public class WebConfig {
 
 		return new BCryptPasswordEncoder();
 	}
+
+	/**
+	 * SSE 전송 전용 스레드 풀
+	 * <p>연결마다 전송 작업은 최대 하나만 등록되므로 작업 큐 크기는 연결 수를 넘지 않는다.
+	 * 느린 클라이언트에 대한 전송이 풀 스레드를 잡고 있어도 Redis 리스너 스레드는 막히지 않는다.
+	 * 전송이 sse.delivery.send-timeout 을 넘으면 연결을 끊고 스레드를 돌려받는다({@code SseDeliveryService#disconnectStalled}).
+	 */
+	@Bean
+	public Executor sseDeliveryExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(sseDeliveryPoolSize);
+		executor.setMaxPoolSize(sseDeliveryPoolSize);
+		executor.setThreadNamePrefix("sse-delivery-");
+		executor.initialize();
+		return executor;
+	}
 }
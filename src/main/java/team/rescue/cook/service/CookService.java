@@ -1,10 +1,8 @@
 package team.rescue.cook.service;
 
-import static team.rescue.error.type.ServiceError.INGREDIENT_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.RECIPE_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.USER_NOT_FOUND;
 
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,9 +12,7 @@ import team.rescue.cook.dto.CookDto.CookInfoDto;
 import team.rescue.cook.entity.Cook;
 import team.rescue.cook.repository.CookRepository;
 import team.rescue.error.exception.ServiceException;
-import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUseDto;
-import team.rescue.fridge.entity.FridgeIngredient;
-import team.rescue.fridge.repository.FridgeIngredientRepository;
+import team.rescue.fridge.service.FridgeService;
 import team.rescue.member.entity.Member;
 import team.rescue.member.repository.MemberRepository;
 import team.rescue.recipe.entity.Recipe;
@@ -31,32 +27,24 @@ public class CookService {
 	private final MemberRepository memberRepository;
 	private final RecipeRepository recipeRepository;
 	private final CookRepository cookRepository;
-	private final FridgeIngredientRepository fridgeIngredientRepository;
-
+	private final FridgeService fridgeService;
+
+	/**
+	 * 요리 완료
+	 * <p>사용한 냉장고 재료 반영(소유 확인, 일괄 삭제 / 수정)과 요리 기록 저장을 한 트랜잭션에서 처리한다.
+	 *
+	 * @param cookCreateDto 요리한 레시피, 삭제 / 수정할 냉장고 재료
+	 * @param email         요청 유저 이메일
+	 * @return 요리 완료 정보
+	 */
 	@Transactional
 	public CookInfoDto completeCook(CookCreateDto cookCreateDto, String email) {
 		Member member = memberRepository.findUserByEmail(email)
 				.orElseThrow(() -> new ServiceException(USER_NOT_FOUND));
 
-		List<Long> deleteList = cookCreateDto.getDelete();
-
-		for (Long id : deleteList) {
-			fridgeIngredientRepository.deleteById(id);
-		}
-
-		List<FridgeIngredientUseDto> fridgeIngredientUseDtoList = cookCreateDto.getUpdate();
-
-		for (FridgeIngredientUseDto fridgeIngredientUseDto : fridgeIngredientUseDtoList) {
-			FridgeIngredient fridgeIngredient = fridgeIngredientRepository.findById(
-							fridgeIngredientUseDto.getId())
-					.orElseThrow(() -> new ServiceException(INGREDIENT_NOT_FOUND));
-
-			fridgeIngredient.updateFridgeIngredient(fridgeIngredient.getName(),
-					fridgeIngredientUseDto.getMemo(), fridgeIngredient.getExpiredAt());
-
-			fridgeIngredientRepository.save(fridgeIngredient);
-		}
+		fridgeService.useIngredients(member, cookCreateDto.getDelete(), cookCreateDto.getUpdate());
 
+		// 재료 일괄 삭제로 영속성 컨텍스트가 비워지므로 레시피는 이후에 조회
 		Recipe recipe = recipeRepository.findById(cookCreateDto.getRecipeId())
 				.orElseThrow(() -> new ServiceException(RECIPE_NOT_FOUND));
 
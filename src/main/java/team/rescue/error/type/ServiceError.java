@@ -34,6 +34,9 @@ public enum ServiceError {
 	RECIPE_INGREDIENT_NOT_FOUND(HttpStatus.NOT_FOUND, "레시피 재료를 찾을 수 없습니다."),
 	RECIPE_STEP_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 레시피 스탭을 찾을 수 없습니다."),
 
+	// Bookmark
+	BOOKMARK_ALREADY_PROCESSING(HttpStatus.CONFLICT, "이미 처리 중인 북마크 요청입니다."),
+
 	// Report
 	REPORT_ALREADY_REPORTED(HttpStatus.CONFLICT, "이미 신고한 레시입니다."),
 
@@ -45,6 +48,7 @@ public enum ServiceError {
 
 	// Notification
 	NOTIFICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "알림 정보가 없습니다."),
+	NOTIFICATION_SAVE_FAILURE(HttpStatus.INTERNAL_SERVER_ERROR, "알림 저장에 실패했습니다."),
 
 	// Review
 	REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "리뷰 정보가 없습니다."),
@@ -52,6 +56,8 @@ public enum ServiceError {
 
 	// search
 	SEARCH_KEYWORD_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 키워드의 결과가 없습니다."),
+	SEARCH_CURSOR_INVALID(HttpStatus.BAD_REQUEST, "잘못된 검색 커서입니다."),
+	SEARCH_SIZE_INVALID(HttpStatus.BAD_REQUEST, "조회 개수는 1 ~ 100 사이여야 합니다."),
 
 	// Lock
 	LOCK_ACQUISITION_FAIL(HttpStatus.BAD_REQUEST, "잠시 후 다시 시도해주세요."),
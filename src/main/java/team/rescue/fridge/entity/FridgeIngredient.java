@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,7 +18,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "fridge_ingredient")
+@Table(name = "fridge_ingredient", indexes = {
+		@Index(name = "idx_fridge_ingredient_expired_at", columnList = "expired_at")
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
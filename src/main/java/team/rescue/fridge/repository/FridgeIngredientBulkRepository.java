@@ -0,0 +1,77 @@
+package team.rescue.fridge.repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import team.rescue.fridge.entity.Fridge;
+import team.rescue.fridge.entity.FridgeIngredient;
+
+/**
+ * 냉장고 재료 JDBC 일괄 저장소
+ * <p>IDENTITY 전략 엔티티는 Hibernate 가 INSERT 를 묶지 않으므로, JDBC batch 로 직접 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FridgeIngredientBulkRepository {
+
+	private static final String INSERT_FRIDGE_INGREDIENT =
+			"INSERT INTO fridge_ingredient (fridge_id, name, memo, expired_at) VALUES (?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 냉장고 재료 일괄 저장
+	 *
+	 * @param fridge      재료를 저장할 냉장고
+	 * @param ingredients 저장할 재료 목록(ID 없음)
+	 * @return 생성된 ID 가 채워진 재료 목록(영속성 컨텍스트에는 올라가지 않음)
+	 */
+	public List<FridgeIngredient> saveAll(Fridge fridge, List<FridgeIngredient> ingredients) {
+		if (ingredients.isEmpty()) {
+			return List.of();
+		}
+
+		return jdbcTemplate.execute((ConnectionCallback<List<FridgeIngredient>>) connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(
+					INSERT_FRIDGE_INGREDIENT, Statement.RETURN_GENERATED_KEYS)) {
+
+				for (FridgeIngredient ingredient : ingredients) {
+					statement.setLong(1, fridge.getId());
+					statement.setString(2, ingredient.getName());
+					statement.setString(3, ingredient.getMemo());
+					if (ingredient.getExpiredAt() == null) {
+						statement.setNull(4, Types.DATE);
+					} else {
+						statement.setDate(4, Date.valueOf(ingredient.getExpiredAt()));
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+
+				List<FridgeIngredient> saved = new ArrayList<>(ingredients.size());
+				try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+					for (FridgeIngredient ingredient : ingredients) {
+						generatedKeys.next();
+						saved.add(FridgeIngredient.builder()
+								.id(generatedKeys.getLong(1))
+								.fridge(fridge)
+								.name(ingredient.getName())
+								.memo(ingredient.getMemo())
+								.expiredAt(ingredient.getExpiredAt())
+								.build());
+					}
+				}
+
+				return saved;
+			}
+		});
+	}
+}
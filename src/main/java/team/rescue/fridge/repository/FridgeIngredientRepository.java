@@ -1,8 +1,11 @@
 package team.rescue.fridge.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import team.rescue.fridge.entity.Fridge;
 import team.rescue.fridge.entity.FridgeIngredient;
@@ -15,4 +18,13 @@ public interface FridgeIngredientRepository extends JpaRepository<FridgeIngredie
 
 	List<FridgeIngredient> findByFridge(Fridge fridge);
 
+	@Query("SELECT fi FROM FridgeIngredient fi WHERE fi.id IN :ids AND fi.fridge = :fridge")
+	List<FridgeIngredient> findAllByIdInAndFridge(Collection<Long> ids, Fridge fridge);
+
+	long countByIdIn(Collection<Long> ids);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("DELETE FROM FridgeIngredient fi WHERE fi.id IN :ids AND fi.fridge = :fridge")
+	int deleteAllByIdInAndFridge(Collection<Long> ids, Fridge fridge);
+
 }
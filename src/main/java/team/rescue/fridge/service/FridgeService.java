@@ -5,7 +5,16 @@ import static team.rescue.error.type.ServiceError.FRIDGE_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.INGREDIENT_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.USER_NOT_FOUND;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +26,10 @@ import team.rescue.fridge.dto.FridgeDto;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientCreateDto;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientInfoDto;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUpdateDto;
+import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUseDto;
 import team.rescue.fridge.entity.Fridge;
 import team.rescue.fridge.entity.FridgeIngredient;
+import team.rescue.fridge.repository.FridgeIngredientBulkRepository;
 import team.rescue.fridge.repository.FridgeIngredientRepository;
 import team.rescue.fridge.repository.FridgeRepository;
 import team.rescue.member.entity.Member;
@@ -33,6 +44,7 @@ public class FridgeService {
 	private final FridgeRepository fridgeRepository;
 	private final MemberRepository memberRepository;
 	private final FridgeIngredientRepository fridgeIngredientRepository;
+	private final FridgeIngredientBulkRepository fridgeIngredientBulkRepository;
 
 	/**
 	 * 냉장고 생성
@@ -72,12 +84,13 @@ public class FridgeService {
 	}
 
 	/**
-	 * <p>입력받은 리스트를 순회하면서 냉장고에 재료를 저장
-	 * 이름, 메모, 유통기한이 모두 동일한 재료가 두 번 입력되는 경우 재료 등록 처리 하지 않음
+	 * <p>냉장고에 재료를 일괄 저장
+	 * 이름, 메모, 유통기한이 모두 동일한 재료가 이미 있거나 요청 안에서 두 번 입력되는 경우 재료 등록 처리 하지 않음
+	 * <p>기존 재료는 한 번만 조회해 중복 판단과 응답에 같이 사용하고, 신규 재료는 JDBC batch 로 저장한다.
 	 *
 	 * @param email                         유저 이메일
 	 * @param fridgeIngredientCreateDtoList 생성할 재료 리스트
-	 * @return 생성한 재료 목록
+	 * @return 기존 재료와 생성한 재료를 합친 냉장고 재료 목록
 	 */
 	@Transactional
 	public List<FridgeIngredientInfoDto> addIngredient(
@@ -91,29 +104,42 @@ public class FridgeService {
 		Fridge fridge = fridgeRepository.findByMember(member)
 				.orElseThrow(() -> new ServiceException(FRIDGE_NOT_FOUND));
 
+		List<FridgeIngredient> fridgeIngredients = fridgeIngredientRepository.findByFridge(fridge);
+
+		Set<IngredientKey> existingKeys = fridgeIngredients.stream()
+				.map(IngredientKey::of)
+				.collect(Collectors.toCollection(HashSet::new));
+
+		List<FridgeIngredient> newIngredients = new ArrayList<>();
 		for (FridgeIngredientCreateDto fridgeIngredientCreateDto : fridgeIngredientCreateDtoList) {
-			if (!fridgeIngredientRepository.existsByNameAndMemoAndExpiredAtAndFridge(
-					fridgeIngredientCreateDto.getName(),
-					fridgeIngredientCreateDto.getMemo(),
-					fridgeIngredientCreateDto.getExpiredAt(),
-					fridge)) {
-
-				FridgeIngredient fridgeIngredient = FridgeIngredient.builder()
-						.fridge(fridge)
-						.name(fridgeIngredientCreateDto.getName())
-						.memo(fridgeIngredientCreateDto.getMemo())
-						.expiredAt(fridgeIngredientCreateDto.getExpiredAt())
-						.build();
-
-				fridgeIngredientRepository.save(fridgeIngredient);
+			FridgeIngredient fridgeIngredient = FridgeIngredient.builder()
+					.fridge(fridge)
+					.name(fridgeIngredientCreateDto.getName())
+					.memo(fridgeIngredientCreateDto.getMemo())
+					.expiredAt(fridgeIngredientCreateDto.getExpiredAt())
+					.build();
+
+			// 기존 재료, 앞서 입력된 재료와 중복이면 제외
+			if (existingKeys.add(IngredientKey.of(fridgeIngredient))) {
+				newIngredients.add(fridgeIngredient);
 			}
 		}
 
-		List<FridgeIngredient> fridgeIngredients = fridgeIngredientRepository.findByFridge(fridge);
-		return fridgeIngredients.stream().map(FridgeIngredientInfoDto::of)
+		List<FridgeIngredient> mergedIngredients = new ArrayList<>(fridgeIngredients);
+		mergedIngredients.addAll(fridgeIngredientBulkRepository.saveAll(fridge, newIngredients));
+
+		return mergedIngredients.stream().map(FridgeIngredientInfoDto::of)
 				.collect(Collectors.toList());
 	}
 
+	/**
+	 * <p>냉장고 재료 일괄 수정 / 삭제
+	 * <p>대상 재료를 {@code id IN (...) AND fridge_id = ?} 한 번으로 조회해 소유 여부를 확인한다.
+	 *
+	 * @param email                     유저 이메일
+	 * @param fridgeIngredientUpdateDto 삭제할 재료 ID 목록, 수정할 재료 목록
+	 * @return 수정 후 냉장고 재료 목록
+	 */
 	@Transactional
 	public List<FridgeIngredientInfoDto> updateIngredient(String email,
 			FridgeIngredientUpdateDto fridgeIngredientUpdateDto) {
@@ -123,11 +149,17 @@ public class FridgeService {
 		Fridge fridge = fridgeRepository.findByMember(member)
 				.orElseThrow(() -> new ServiceException(FRIDGE_NOT_FOUND));
 
-		List<Long> deleteItemList = fridgeIngredientUpdateDto.getDelete();
-		deleteIngredient(deleteItemList, fridge);
+		Map<Long, Consumer<FridgeIngredient>> updates = new HashMap<>();
+		for (FridgeIngredientInfoDto fridgeIngredientInfoDto
+				: nullToEmpty(fridgeIngredientUpdateDto.getUpdate())) {
+			updates.put(fridgeIngredientInfoDto.getId(),
+					fridgeIngredient -> fridgeIngredient.updateFridgeIngredient(
+							fridgeIngredientInfoDto.getName(),
+							fridgeIngredientInfoDto.getMemo(),
+							fridgeIngredientInfoDto.getExpiredAt()));
+		}
 
-		List<FridgeIngredientInfoDto> updateItemList = fridgeIngredientUpdateDto.getUpdate();
-		modifyIngredient(updateItemList, fridge);
+		applyIngredientChanges(fridge, nullToEmpty(fridgeIngredientUpdateDto.getDelete()), updates);
 
 		List<FridgeIngredient> fridgeIngredientList = fridgeIngredientRepository.findByFridge(
 				fridge);
@@ -136,36 +168,99 @@ public class FridgeService {
 				.collect(Collectors.toList());
 	}
 
-	private void deleteIngredient(List<Long> deleteItemList, Fridge fridge) {
-			for (Long id : deleteItemList) {
-				FridgeIngredient fridgeIngredient = fridgeIngredientRepository.findById(id)
-						.orElseThrow(() -> new ServiceException(INGREDIENT_NOT_FOUND));
+	/**
+	 * 요리에 사용한 재료 반영
+	 * <p>다 쓴 재료는 삭제하고, 남은 재료는 메모만 수정한다.
+	 *
+	 * @param member         요리한 유저
+	 * @param deleteItemList 삭제할 재료 ID 목록
+	 * @param useItemList    메모를 수정할 재료 목록
+	 */
+	@Transactional
+	public void useIngredients(
+			Member member,
+			List<Long> deleteItemList,
+			List<FridgeIngredientUseDto> useItemList
+	) {
+
+		Fridge fridge = fridgeRepository.findByMember(member)
+				.orElseThrow(() -> new ServiceException(FRIDGE_NOT_FOUND));
 
-				if (fridgeIngredient.getFridge() != fridge) {
-					throw new AuthException(ACCESS_DENIED);
-				}
+		Map<Long, Consumer<FridgeIngredient>> updates = new HashMap<>();
+		for (FridgeIngredientUseDto fridgeIngredientUseDto : nullToEmpty(useItemList)) {
+			updates.put(fridgeIngredientUseDto.getId(),
+					fridgeIngredient -> fridgeIngredient.updateFridgeIngredient(
+							fridgeIngredient.getName(),
+							fridgeIngredientUseDto.getMemo(),
+							fridgeIngredient.getExpiredAt()));
+		}
 
-				fridgeIngredientRepository.deleteById(id);
-			}
+		applyIngredientChanges(fridge, nullToEmpty(deleteItemList), updates);
 	}
 
-	private void modifyIngredient(List<FridgeIngredientInfoDto> updateItemList, Fridge
-			fridge) {
-		for (FridgeIngredientInfoDto fridgeIngredientInfoDto : updateItemList) {
-			FridgeIngredient fridgeIngredient = fridgeIngredientRepository.findById(
-							fridgeIngredientInfoDto.getId())
-					.orElseThrow(() -> new ServiceException(INGREDIENT_NOT_FOUND));
+	/**
+	 * 재료 수정 / 삭제 일괄 반영
+	 * <p>대상 재료를 한 번에 조회해 소유 여부를 확인한 뒤, 수정은 변경 감지(JDBC batch)로,
+	 * 삭제는 DELETE 한 번으로 처리한다. 수정 내용은 삭제 쿼리 직전에 flush 된다.
+	 */
+	private void applyIngredientChanges(
+			Fridge fridge,
+			Collection<Long> deleteItemList,
+			Map<Long, Consumer<FridgeIngredient>> updates
+	) {
+
+		Set<Long> deleteIds = new HashSet<>(deleteItemList);
+		Set<Long> targetIds = new HashSet<>(deleteIds);
+		targetIds.addAll(updates.keySet());
+
+		if (targetIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, FridgeIngredient> targets = loadOwnedIngredients(targetIds, fridge);
+		updates.forEach((id, update) -> update.accept(targets.get(id)));
+
+		if (!deleteIds.isEmpty()) {
+			fridgeIngredientRepository.deleteAllByIdInAndFridge(deleteIds, fridge);
+		}
+	}
+
+	/**
+	 * 요청한 재료를 한 번에 조회하고 모두 해당 냉장고 소유인지 확인
+	 * <p>조회되지 않은 ID 가 있을 때만 다른 냉장고 재료인지 추가로 확인한다.
+	 */
+	private Map<Long, FridgeIngredient> loadOwnedIngredients(Set<Long> ids, Fridge fridge) {
+		Map<Long, FridgeIngredient> ingredients =
+				fridgeIngredientRepository.findAllByIdInAndFridge(ids, fridge).stream()
+						.collect(Collectors.toMap(FridgeIngredient::getId, Function.identity()));
+
+		if (ingredients.size() != ids.size()) {
+			Set<Long> missingIds = new HashSet<>(ids);
+			missingIds.removeAll(ingredients.keySet());
 
-			if (fridgeIngredient.getFridge() != fridge) {
+			if (fridgeIngredientRepository.countByIdIn(missingIds) > 0) {
 				throw new AuthException(ACCESS_DENIED);
 			}
+			throw new ServiceException(INGREDIENT_NOT_FOUND);
+		}
+
+		return ingredients;
+	}
+
+	private <T> List<T> nullToEmpty(List<T> list) {
+		return list == null ? List.of() : list;
+	}
 
-			fridgeIngredient.updateFridgeIngredient(
-					fridgeIngredientInfoDto.getName(),
-					fridgeIngredientInfoDto.getMemo(),
-					fridgeIngredientInfoDto.getExpiredAt());
+	/**
+	 * 재료 중복 판단 기준(이름, 메모, 유통기한)
+	 */
+	private record IngredientKey(String name, String memo, LocalDate expiredAt) {
 
-			fridgeIngredientRepository.save(fridgeIngredient);
+		private static IngredientKey of(FridgeIngredient fridgeIngredient) {
+			return new IngredientKey(
+					fridgeIngredient.getName(),
+					fridgeIngredient.getMemo(),
+					fridgeIngredient.getExpiredAt());
 		}
 	}
 }
@@ -1,5 +1,7 @@
 package team.rescue.member.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
@@ -13,5 +15,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
 
 	Optional<Member> findUserByEmail(String email);
 
+	List<Member> findAllByEmailIn(Collection<String> emails);
+
 	Optional<Member> findByProviderAndProviderId(ProviderType provider, String providerId);
 }
@@ -2,21 +2,25 @@ package team.rescue.notification;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.stereotype.Component;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.service.RedisMessageService;
 import team.rescue.notification.service.SseEmitterService;
 
+/**
+ * 알림 채널 패턴(channel:*) 구독 리스너
+ * <p>노드마다 하나만 등록되며, 이 노드에 연결된 유저의 메시지만 역직렬화해서 전달한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class RedisSubscriber implements MessageListener {
 
-	private static final String CHANNEL_PREFIX = "channel:";
-
 	private final ObjectMapper objectMapper;
 	private final SseEmitterService sseEmitterService;
 
@@ -24,8 +28,13 @@ public class RedisSubscriber implements MessageListener {
 	public void onMessage(Message message, byte[] pattern) {
 		try {
 
-			log.info("RedisSubscriber onMessage");
-			String channel = new String(message.getChannel()).substring(CHANNEL_PREFIX.length());
+			String channel = new String(message.getChannel(), StandardCharsets.UTF_8)
+					.substring(RedisMessageService.CHANNEL_PREFIX.length());
+
+			// 다른 노드에 연결된 유저의 메시지는 바로 버린다
+			if (!sseEmitterService.hasEmitter(channel)) {
+				return;
+			}
 
 			NotificationInfoDto notificationInfoDto = objectMapper.readValue(message.getBody(),
 					NotificationInfoDto.class);
@@ -0,0 +1,18 @@
+package team.rescue.notification.batch;
+
+/**
+ * 유통기한 임박 재료 한 건
+ *
+ * @param memberId     냉장고 주인 ID
+ * @param email        냉장고 주인 이메일(알림 채널)
+ * @param ingredientId 재료 ID
+ * @param name         재료 이름
+ */
+public record ExpiringIngredient(
+		Long memberId,
+		String email,
+		Long ingredientId,
+		String name
+) {
+
+}
@@ -0,0 +1,137 @@
+package team.rescue.notification.batch;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team.rescue.member.entity.Member;
+import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.entity.Notification;
+import team.rescue.notification.entity.NotificationProperty;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
+import team.rescue.notification.service.RedisMessageService;
+import team.rescue.notification.type.NotificationType;
+
+/**
+ * 유통기한 임박 알림 Writer
+ * <p>재료마다 알림 row 를 하나씩 만들어 chunk 단위로 한 번에 insert 하고,
+ * chunk 가 커밋된 뒤 새 알림이 생긴 유저에게만 미확인 알림 수를 올리고 요약 알림을 한 번 발행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiringIngredientNotificationWriter implements ItemWriter<MemberExpiringIngredients> {
+
+	private final NotificationBulkRepository notificationBulkRepository;
+	private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+	private final RedisMessageService redisMessageService;
+
+	@Override
+	public void write(Chunk<? extends MemberExpiringIngredients> chunk) {
+		LocalDateTime createdAt = LocalDateTime.now();
+
+		Map<Long, String> emails = new LinkedHashMap<>();
+		Map<Long, String> ingredientNames = new HashMap<>();
+		List<Notification> notifications = new ArrayList<>();
+		for (MemberExpiringIngredients member : chunk) {
+			emails.put(member.memberId(), member.email());
+			for (ExpiringIngredient ingredient : member.ingredients()) {
+				ingredientNames.put(ingredient.ingredientId(), ingredient.name());
+				notifications.add(Notification.builder()
+						.member(Member.builder().id(member.memberId()).build())
+						.notificationType(NotificationType.INGREDIENT_EXPIRED)
+						.notificationProperty(NotificationProperty.builder()
+								.originId(ingredient.ingredientId())
+								.originUserId(null)
+								.contents(ingredient.name() + "의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!")
+								.build())
+						.createdAt(createdAt)
+						.build());
+			}
+		}
+
+		// 이미 알림을 받은 재료는 제외된다
+		Map<Long, List<String>> savedNames = new LinkedHashMap<>();
+		for (Notification notification : notificationBulkRepository.saveAllIgnoringDuplicates(
+				notifications)) {
+			savedNames.computeIfAbsent(notification.getMember().getId(), id -> new ArrayList<>())
+					.add(ingredientNames.get(notification.getNotificationProperty().getOriginId()));
+		}
+
+		publishAfterCommit(emails, savedNames, createdAt);
+	}
+
+	private void publishAfterCommit(
+			Map<Long, String> emails,
+			Map<Long, List<String>> savedNames,
+			LocalDateTime createdAt
+	) {
+		if (savedNames.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(emails, savedNames, createdAt);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(emails, savedNames, createdAt);
+			}
+		});
+	}
+
+	/**
+	 * 유저별 요약 알림 발행
+	 * <p>발행 실패는 이미 저장된 알림에 영향을 주지 않도록 로그만 남긴다.
+	 */
+	private void publish(
+			Map<Long, String> emails,
+			Map<Long, List<String>> savedNames,
+			LocalDateTime createdAt
+	) {
+		Map<Long, Long> unreadDeltas = new LinkedHashMap<>();
+		savedNames.forEach((memberId, names) -> unreadDeltas.put(memberId, (long) names.size()));
+		try {
+			notificationUnreadCountRepository.adjustAll(unreadDeltas);
+		} catch (Exception e) {
+			log.error("[Ingredient Expiry] 미확인 알림 수 증가 실패", e);
+		}
+
+		savedNames.forEach((memberId, names) -> {
+			try {
+				redisMessageService.publish(emails.get(memberId), NotificationInfoDto.builder()
+						.notificationType(NotificationType.INGREDIENT_EXPIRED)
+						.notificationProperty(NotificationProperty.builder()
+								.originId(null)
+								.originUserId(null)
+								.contents(toSummary(names))
+								.build())
+						.createdAt(createdAt)
+						.build());
+			} catch (Exception e) {
+				log.error("[Ingredient Expiry] 알림 발행 실패 memberId={}", memberId, e);
+			}
+		});
+	}
+
+	private String toSummary(List<String> names) {
+		if (names.size() == 1) {
+			return names.get(0) + "의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!";
+		}
+
+		return names.get(0) + " 외 " + (names.size() - 1) + "개 재료의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!";
+	}
+}
@@ -0,0 +1,95 @@
+package team.rescue.notification.batch;
+
+import java.time.LocalDate;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 유통기한 임박 재료 알림 Job
+ * <p>기준일 다음 날 유통기한이 끝나는 재료를 유저 ID 순으로 읽어 유저 단위로 묶고,
+ * 유저 {@value #CHUNK_SIZE}명씩 알림을 저장 / 발행한다.
+ * 같은 기준일로는 한 번만 완료되므로 스케줄이 중복 실행돼도 알림이 두 번 나가지 않는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class IngredientExpiryNotificationJobConfig {
+
+	public static final String JOB_NAME = "ingredientExpiryNotificationJob";
+	public static final String TARGET_DATE = "targetDate";
+
+	private static final String STEP_NAME = "ingredientExpiryNotificationStep";
+	private static final int CHUNK_SIZE = 100;
+	private static final int FETCH_SIZE = 1000;
+	private static final int DAYS_BEFORE_EXPIRY = 1;
+
+	private static final String SELECT_SQL = """
+			SELECT f.member_id, m.email, fi.fridge_ingredient_id, fi.name
+			FROM fridge_ingredient fi
+			JOIN fridge f ON f.fridge_id = fi.fridge_id
+			JOIN member m ON m.member_id = f.member_id
+			WHERE fi.expired_at >= ? AND fi.expired_at < ?
+			AND m.role <> 'GUEST'
+			ORDER BY f.member_id, fi.fridge_ingredient_id
+			""";
+
+	private final JobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final DataSource dataSource;
+	private final ExpiringIngredientNotificationWriter expiringIngredientNotificationWriter;
+
+	@Bean
+	public Job ingredientExpiryNotificationJob(Step ingredientExpiryNotificationStep) {
+		return new JobBuilder(JOB_NAME, jobRepository)
+				.start(ingredientExpiryNotificationStep)
+				.build();
+	}
+
+	@Bean
+	public Step ingredientExpiryNotificationStep(MemberGroupingItemReader expiringIngredientReader) {
+		return new StepBuilder(STEP_NAME, jobRepository)
+				.<MemberExpiringIngredients, MemberExpiringIngredients>chunk(CHUNK_SIZE,
+						transactionManager)
+				.reader(expiringIngredientReader)
+				.writer(expiringIngredientNotificationWriter)
+				.build();
+	}
+
+	/**
+	 * 유통기한이 [기준일 + 1, 기준일 + 2) 인 재료를 커서로 읽는 Reader
+	 */
+	@Bean
+	@StepScope
+	public MemberGroupingItemReader expiringIngredientReader(
+			@Value("#{jobParameters['" + TARGET_DATE + "']}") LocalDate targetDate
+	) {
+		LocalDate expiredFrom = targetDate.plusDays(DAYS_BEFORE_EXPIRY);
+
+		JdbcCursorItemReader<ExpiringIngredient> reader =
+				new JdbcCursorItemReaderBuilder<ExpiringIngredient>()
+						.name("expiringIngredientCursorReader")
+						.dataSource(dataSource)
+						.sql(SELECT_SQL)
+						.queryArguments(expiredFrom, expiredFrom.plusDays(1))
+						.fetchSize(FETCH_SIZE)
+						.rowMapper((rs, rowNum) -> new ExpiringIngredient(
+								rs.getLong("member_id"),
+								rs.getString("email"),
+								rs.getLong("fridge_ingredient_id"),
+								rs.getString("name")))
+						.build();
+
+		return new MemberGroupingItemReader(reader);
+	}
+}
@@ -0,0 +1,18 @@
+package team.rescue.notification.batch;
+
+import java.util.List;
+
+/**
+ * 유저 한 명의 유통기한 임박 재료 묶음
+ *
+ * @param memberId    유저 ID
+ * @param email       유저 이메일(알림 채널)
+ * @param ingredients 유통기한 임박 재료 목록
+ */
+public record MemberExpiringIngredients(
+		Long memberId,
+		String email,
+		List<ExpiringIngredient> ingredients
+) {
+
+}
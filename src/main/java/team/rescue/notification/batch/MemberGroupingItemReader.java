@@ -0,0 +1,58 @@
+package team.rescue.notification.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.SingleItemPeekableItemReader;
+
+/**
+ * 유저 ID 순으로 정렬된 재료를 유저 단위로 묶어서 읽는 Reader
+ * <p>다음 재료를 미리 보고(peek) 유저가 바뀌면 묶음을 끝낸다.
+ * 미리 본 재료는 읽지 않은 것으로 상태가 저장되므로, 재시작해도 묶음이 쪼개지지 않는다.
+ */
+public class MemberGroupingItemReader implements ItemStreamReader<MemberExpiringIngredients> {
+
+	private final SingleItemPeekableItemReader<ExpiringIngredient> delegate =
+			new SingleItemPeekableItemReader<>();
+
+	public MemberGroupingItemReader(ItemReader<ExpiringIngredient> reader) {
+		this.delegate.setDelegate(reader);
+	}
+
+	@Override
+	public MemberExpiringIngredients read() throws Exception {
+		ExpiringIngredient first = delegate.read();
+		if (first == null) {
+			return null;
+		}
+
+		List<ExpiringIngredient> ingredients = new ArrayList<>();
+		ingredients.add(first);
+
+		ExpiringIngredient next = delegate.peek();
+		while (next != null && next.memberId().equals(first.memberId())) {
+			ingredients.add(delegate.read());
+			next = delegate.peek();
+		}
+
+		return new MemberExpiringIngredients(first.memberId(), first.email(), ingredients);
+	}
+
+	@Override
+	public void open(ExecutionContext executionContext) throws ItemStreamException {
+		delegate.open(executionContext);
+	}
+
+	@Override
+	public void update(ExecutionContext executionContext) throws ItemStreamException {
+		delegate.update(executionContext);
+	}
+
+	@Override
+	public void close() throws ItemStreamException {
+		delegate.close();
+	}
+}
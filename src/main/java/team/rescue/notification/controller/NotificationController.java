@@ -13,13 +13,16 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.common.dto.ResponseDto;
 import team.rescue.notification.dto.NotificationDto.NotificationCheckDto;
+import team.rescue.notification.dto.NotificationDto.NotificationCheckResDto;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.dto.NotificationDto.NotificationUnreadCountDto;
 import team.rescue.notification.service.NotificationService;
 
 @Slf4j
@@ -33,10 +36,11 @@ public class NotificationController {
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	@PreAuthorize("hasAuthority('USER')")
 	public ResponseEntity<SseEmitter> subscribe(
-			@AuthenticationPrincipal PrincipalDetails principalDetails
+			@AuthenticationPrincipal PrincipalDetails principalDetails,
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
 	) {
 		return ResponseEntity.ok(
-				notificationService.subscribe(principalDetails.getUsername()));
+				notificationService.subscribe(principalDetails.getUsername(), lastEventId));
 	}
 
 	@GetMapping
@@ -51,16 +55,41 @@ public class NotificationController {
 		return ResponseEntity.ok(new ResponseDto<>("알림 조회 성공", notifications));
 	}
 
+	@GetMapping("/unread-count")
+	@PreAuthorize("hasAuthority('USER')")
+	public ResponseEntity<ResponseDto<NotificationUnreadCountDto>> getUnreadCount(
+			@AuthenticationPrincipal PrincipalDetails principalDetails
+	) {
+		long unreadCount = notificationService.getUnreadCount(principalDetails.getMember().getId());
+
+		return ResponseEntity.ok(new ResponseDto<>("미확인 알림 수 조회 성공",
+				new NotificationUnreadCountDto(unreadCount)));
+	}
+
 	@PatchMapping
 	@PreAuthorize("hasAuthority('USER')")
-	public ResponseEntity<ResponseDto<?>> checkNotifications(
+	public ResponseEntity<ResponseDto<NotificationCheckResDto>> checkNotifications(
 			@RequestBody NotificationCheckDto notificationCheckDto,
 			@AuthenticationPrincipal PrincipalDetails principalDetails
 	) {
 
-		notificationService.checkNotifications(notificationCheckDto, principalDetails.getUsername());
+		int checkedCount = notificationService.checkNotifications(notificationCheckDto,
+				principalDetails.getUsername());
+
+		return ResponseEntity.ok(new ResponseDto<>("알림 일괄 처리에 성공하였습니다.",
+				new NotificationCheckResDto(checkedCount)));
+	}
+
+	@PatchMapping("/all")
+	@PreAuthorize("hasAuthority('USER')")
+	public ResponseEntity<ResponseDto<NotificationCheckResDto>> checkAllNotifications(
+			@AuthenticationPrincipal PrincipalDetails principalDetails
+	) {
+
+		int checkedCount = notificationService.checkAllNotifications(principalDetails.getUsername());
 
-		return ResponseEntity.ok(new ResponseDto<>("알림 일괄 처리에 성공하였습니다.", null));
+		return ResponseEntity.ok(new ResponseDto<>("모든 알림을 확인 처리하였습니다.",
+				new NotificationCheckResDto(checkedCount)));
 	}
 
 	@GetMapping("/{notificationId}")
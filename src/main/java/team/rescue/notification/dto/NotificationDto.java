@@ -19,6 +19,8 @@ public class NotificationDto {
 
 	@Getter
 	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
 	@Builder
 	public static class NotificationInfoDto {
 
@@ -54,4 +56,18 @@ public class NotificationDto {
 		private List<Long> notificationIds;
 	}
 
+	@Getter
+	@AllArgsConstructor
+	public static class NotificationCheckResDto {
+
+		private int checkedCount;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class NotificationUnreadCountDto {
+
+		private long unreadCount;
+	}
+
 }
@@ -11,8 +11,14 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +33,9 @@ import team.rescue.member.entity.Member;
 import team.rescue.notification.type.NotificationType;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_notification_dedup_key", columnNames = "dedup_key")
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -53,6 +61,14 @@ public class Notification {
 	@Column(name = "notification_property", columnDefinition = "json", nullable = false)
 	private NotificationProperty notificationProperty;
 
+	// (회원, 알림 종류, originId, originUserId) SHA-256, 같은 알림 중복 저장 방지
+	@Column(name = "dedup_key", nullable = false, length = 64)
+	private String dedupKey;
+
+	// 일괄 저장 호출마다 고유한 ID, 이번 호출이 실제로 저장한 row 만 다시 읽는 데 사용
+	@Column(name = "dispatch_id", length = 36)
+	private String dispatchId;
+
 	@Column(name = "checked_at")
 	private LocalDateTime checkedAt;
 
@@ -63,4 +79,33 @@ public class Notification {
 	public void updateCheckedAt(LocalDateTime checkedAt) {
 		this.checkedAt = checkedAt;
 	}
+
+	@PrePersist
+	void prePersist() {
+		if (dedupKey == null) {
+			dedupKey = createDedupKey(member.getId(), notificationType, notificationProperty);
+		}
+	}
+
+	/**
+	 * 알림 중복 판별 key 생성
+	 * <p>내용(contents)은 닉네임 / 제목 변경에 따라 달라질 수 있으므로 포함하지 않는다.
+	 *
+	 * @return SHA-256 hex(64자)
+	 */
+	public static String createDedupKey(
+			Long memberId,
+			NotificationType notificationType,
+			NotificationProperty notificationProperty
+	) {
+		String source = memberId + ":" + notificationType + ":"
+				+ notificationProperty.getOriginId() + ":" + notificationProperty.getOriginUserId();
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
 }
@@ -0,0 +1,66 @@
+package team.rescue.notification.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+import team.rescue.notification.event.NotificationEvent;
+import team.rescue.notification.type.NotificationType;
+
+/**
+ * 발송 대기 알림(Transactional Outbox)
+ * <p>알림 이벤트를 발생시킨 트랜잭션 안에서 저장되고, 디스패처가 알림으로 옮긴 뒤 삭제한다.
+ */
+@Entity
+@Table(name = "notification_outbox")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class NotificationOutbox {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "notification_outbox_id")
+	private Long id;
+
+	@Column(name = "email", nullable = false, length = 50)
+	private String email;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "notification_type", nullable = false)
+	private NotificationType notificationType;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "notification_property", columnDefinition = "json", nullable = false)
+	private NotificationProperty notificationProperty;
+
+	@CreatedDate
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	public static NotificationOutbox from(NotificationEvent event) {
+		return NotificationOutbox.builder()
+				.email(event.email())
+				.notificationType(event.notificationType())
+				.notificationProperty(event.notificationProperty())
+				.createdAt(event.createdAt())
+				.build();
+	}
+}
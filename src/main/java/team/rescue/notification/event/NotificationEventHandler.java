@@ -11,9 +11,13 @@ public class NotificationEventHandler {
 
 	private final NotificationService notificationService;
 
+	/**
+	 * 알림 이벤트를 outbox 에 저장
+	 * <p>발행한 쪽 트랜잭션 안에서 동기로 실행되며, 실제 발송은 NotificationOutboxScheduler 가 맡는다.
+	 */
 	@EventListener
 	public void handleEvent(NotificationEvent event) {
-		notificationService.sendNotification(event);
+		notificationService.enqueueNotification(event);
 	}
 
 }
@@ -0,0 +1,144 @@
+package team.rescue.notification.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import team.rescue.error.exception.ServiceException;
+import team.rescue.error.type.ServiceError;
+import team.rescue.notification.entity.Notification;
+
+/**
+ * 알림 JDBC 일괄 저장소
+ * <p>IDENTITY 전략 엔티티는 Hibernate 가 INSERT 를 묶지 않으므로, JDBC batch 로 직접 저장한다.
+ * 중복 판별은 dedup_key 유니크 인덱스에 맡기고 INSERT IGNORE 로 저장한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBulkRepository {
+
+	private static final String INSERT_IGNORE_NOTIFICATION =
+			"INSERT IGNORE INTO notification "
+					+ "(member_id, notification_type, notification_property, dedup_key, dispatch_id, created_at) "
+					+ "VALUES (?, ?, ?, ?, ?, ?)";
+	private static final String SELECT_BY_DEDUP_KEYS =
+			"SELECT notification_id, dedup_key FROM notification WHERE dedup_key IN (%s)";
+	private static final String SELECT_BY_DEDUP_KEYS_AND_DISPATCH_ID =
+			SELECT_BY_DEDUP_KEYS + " AND dispatch_id = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 이미 저장된 알림을 제외하고 일괄 저장
+	 * <p>dedup_key 인덱스로 기존 알림을 걸러낸 뒤 호출마다 고유한 dispatch_id 를 붙여 INSERT IGNORE 로 저장하고,
+	 * 생성된 ID 를 dedup_key 와 dispatch_id 로 다시 읽는다.
+	 * 조회와 저장 사이에 다른 서버가 같은 알림을 먼저 저장하면 row 는 하나만 남고,
+	 * 그 알림은 실제로 저장한 쪽의 결과에만 포함된다.
+	 *
+	 * @param notifications 저장할 알림 목록(ID 없음, createdAt 필수)
+	 * @return 새로 저장된 알림 목록(영속성 컨텍스트에는 올라가지 않음)
+	 */
+	public List<Notification> saveAllIgnoringDuplicates(List<Notification> notifications) {
+		if (notifications.isEmpty()) {
+			return List.of();
+		}
+
+		Map<String, Notification> candidates = new LinkedHashMap<>();
+		for (Notification notification : notifications) {
+			candidates.putIfAbsent(Notification.createDedupKey(
+					notification.getMember().getId(),
+					notification.getNotificationType(),
+					notification.getNotificationProperty()), notification);
+		}
+
+		candidates.keySet().removeAll(findIdsByDedupKeys(candidates.keySet()).keySet());
+		if (candidates.isEmpty()) {
+			return List.of();
+		}
+
+		// rewriteBatchedStatements 사용 시 row 별 update count 를 알 수 없으므로, 저장한 row 는 dispatch_id 로 구분
+		String dispatchId = UUID.randomUUID().toString();
+		List<Object[]> rows = new ArrayList<>(candidates.size());
+		candidates.forEach((dedupKey, notification) -> rows.add(new Object[]{
+				notification.getMember().getId(),
+				notification.getNotificationType().name(),
+				toJson(notification),
+				dedupKey,
+				dispatchId,
+				Timestamp.valueOf(notification.getCreatedAt())
+		}));
+		jdbcTemplate.batchUpdate(INSERT_IGNORE_NOTIFICATION, rows);
+
+		Map<String, Long> ids = findIdsByDedupKeys(candidates.keySet(), dispatchId);
+		List<Notification> saved = new ArrayList<>(candidates.size());
+		candidates.forEach((dedupKey, notification) -> {
+			Long id = ids.get(dedupKey);
+			if (id == null) {
+				return;
+			}
+
+			saved.add(Notification.builder()
+					.id(id)
+					.member(notification.getMember())
+					.notificationType(notification.getNotificationType())
+					.notificationProperty(notification.getNotificationProperty())
+					.dedupKey(dedupKey)
+					.dispatchId(dispatchId)
+					.createdAt(notification.getCreatedAt())
+					.build());
+		});
+
+		return saved;
+	}
+
+	private Map<String, Long> findIdsByDedupKeys(Collection<String> dedupKeys) {
+		return findIdsByDedupKeys(dedupKeys, null);
+	}
+
+	/**
+	 * dedup_key 로 알림 ID 조회
+	 *
+	 * @param dispatchId null 이 아니면 해당 호출이 저장한 알림만 조회
+	 */
+	private Map<String, Long> findIdsByDedupKeys(Collection<String> dedupKeys, String dispatchId) {
+		if (dedupKeys.isEmpty()) {
+			return Map.of();
+		}
+
+		String placeholders = String.join(",", Collections.nCopies(dedupKeys.size(), "?"));
+		List<Object> args = new ArrayList<>(dedupKeys);
+		String sql = SELECT_BY_DEDUP_KEYS;
+		if (dispatchId != null) {
+			sql = SELECT_BY_DEDUP_KEYS_AND_DISPATCH_ID;
+			args.add(dispatchId);
+		}
+
+		Map<String, Long> ids = new HashMap<>();
+		jdbcTemplate.query(String.format(sql, placeholders),
+				(RowCallbackHandler) rs ->
+						ids.put(rs.getString("dedup_key"), rs.getLong("notification_id")),
+				args.toArray());
+
+		return ids;
+	}
+
+	private String toJson(Notification notification) {
+		try {
+			return objectMapper.writeValueAsString(notification.getNotificationProperty());
+		} catch (JsonProcessingException e) {
+			throw new ServiceException(ServiceError.NOTIFICATION_SAVE_FAILURE);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package team.rescue.notification.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import team.rescue.notification.entity.NotificationOutbox;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	/**
+	 * 발송 대기 알림을 오래된 순으로 잠그며 조회
+	 * <p>다른 서버가 잠근 row 는 건너뛰어(SKIP LOCKED) 같은 알림을 두 서버가 처리하지 않는다.
+	 * lock timeout -2 는 Hibernate 의 SKIP LOCKED 값이다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT o FROM NotificationOutbox o ORDER BY o.id")
+	List<NotificationOutbox> findPendingForUpdate(Pageable pageable);
+}
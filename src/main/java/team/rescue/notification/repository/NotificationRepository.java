@@ -1,20 +1,74 @@
 package team.rescue.notification.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import team.rescue.member.entity.Member;
 import team.rescue.notification.entity.Notification;
-import team.rescue.notification.entity.NotificationProperty;
-import team.rescue.notification.type.NotificationType;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
 	Page<Notification> findByMember(Member member, Pageable pageable);
 
-	boolean existsByMemberAndNotificationTypeAndNotificationProperty(Member member,
-			NotificationType notificationType, NotificationProperty notificationProperty);
+	@Query("SELECT COUNT(n) FROM Notification n WHERE n.member.id = :memberId AND n.checkedAt IS NULL")
+	long countUnreadByMemberId(@Param("memberId") Long memberId);
+
+	/**
+	 * 회원별 미확인 알림 수
+	 *
+	 * @return [회원 ID, 미확인 알림 수] 목록(미확인 알림이 없는 회원은 제외)
+	 */
+	@Query("SELECT n.member.id, COUNT(n) FROM Notification n "
+			+ "WHERE n.member.id IN :memberIds AND n.checkedAt IS NULL GROUP BY n.member.id")
+	List<Object[]> countUnreadGroupByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+	/**
+	 * 회원의 미확인 알림 한 건 확인 처리
+	 *
+	 * @return 새로 확인 처리되면 1, 다른 회원 알림 / 없는 ID / 이미 확인한 알림이면 0
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Notification n SET n.checkedAt = :checkedAt "
+			+ "WHERE n.id = :id AND n.member = :member AND n.checkedAt IS NULL")
+	int updateCheckedAtByMemberAndId(
+			@Param("member") Member member,
+			@Param("id") Long id,
+			@Param("checkedAt") LocalDateTime checkedAt
+	);
+
+	/**
+	 * 회원의 알림 중 지정한 ID 의 미확인 알림 일괄 확인 처리
+	 *
+	 * @return 새로 확인 처리된 알림 수(다른 회원 알림, 없는 ID, 이미 확인한 알림 제외)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Notification n SET n.checkedAt = :checkedAt "
+			+ "WHERE n.member = :member AND n.id IN :ids AND n.checkedAt IS NULL")
+	int updateCheckedAtByMemberAndIdIn(
+			@Param("member") Member member,
+			@Param("ids") Collection<Long> ids,
+			@Param("checkedAt") LocalDateTime checkedAt
+	);
+
+	/**
+	 * 회원의 미확인 알림 전체 확인 처리
+	 *
+	 * @return 새로 확인 처리된 알림 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Notification n SET n.checkedAt = :checkedAt "
+			+ "WHERE n.member = :member AND n.checkedAt IS NULL")
+	int updateCheckedAtByMember(
+			@Param("member") Member member,
+			@Param("checkedAt") LocalDateTime checkedAt
+	);
 
 }
@@ -0,0 +1,124 @@
+package team.rescue.notification.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원별 미확인 알림 수 저장소(Redis String)
+ * <p>조회 시 key 가 없으면 DB 에서 세어 채우고, 이후에는 알림 저장 / 확인 시 증감만 반영한다.
+ * 증감은 key 가 있을 때만 적용하므로, 캐시가 없는 회원의 값이 0 부터 잘못 쌓이지 않는다.
+ * 동시 갱신으로 어긋난 값은 스케줄러가 주기적으로 DB 기준으로 맞춘다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationUnreadCountRepository {
+
+	private static final String UNREAD_COUNT_KEY_PREFIX = "notification:unread:";
+	private static final Duration TTL = Duration.ofDays(7);
+
+	// KEYS[i] 가 있으면 ARGV[i] 만큼 증감, 음수가 되면 0 으로 맞춘다
+	private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+			for i, key in ipairs(KEYS) do
+				if redis.call('EXISTS', key) == 1 then
+					local value = redis.call('INCRBY', key, ARGV[i])
+					if value < 0 then
+						redis.call('SET', key, 0, 'KEEPTTL')
+					end
+				end
+			end
+			return 0
+			""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 미확인 알림 수 조회
+	 *
+	 * @param memberId 회원 ID
+	 * @return 미확인 알림 수, 캐시가 없으면 null
+	 */
+	public Long get(Long memberId) {
+		String value = stringRedisTemplate.opsForValue().get(toKey(memberId));
+
+		return value == null ? null : Long.valueOf(value);
+	}
+
+	/**
+	 * 미확인 알림 수 저장
+	 *
+	 * @param memberId    회원 ID
+	 * @param unreadCount DB 기준 미확인 알림 수
+	 */
+	public void set(Long memberId, long unreadCount) {
+		stringRedisTemplate.opsForValue().set(toKey(memberId), String.valueOf(unreadCount), TTL);
+	}
+
+	/**
+	 * 여러 회원의 미확인 알림 수 증감
+	 * <p>스크립트 한 번으로 처리하며, 캐시가 없는 회원은 건너뛴다.
+	 *
+	 * @param deltas 회원 ID 별 증감량
+	 */
+	public void adjustAll(Map<Long, Long> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<String> keys = new ArrayList<>(deltas.size());
+		List<String> args = new ArrayList<>(deltas.size());
+		deltas.forEach((memberId, delta) -> {
+			keys.add(toKey(memberId));
+			args.add(String.valueOf(delta));
+		});
+
+		stringRedisTemplate.execute(ADJUST_SCRIPT, keys, args.toArray());
+	}
+
+	/**
+	 * 회원 한 명의 미확인 알림 수 증감
+	 */
+	public void adjust(Long memberId, long delta) {
+		adjustAll(Map.of(memberId, delta));
+	}
+
+	/**
+	 * 캐시가 있는 회원 ID 목록
+	 * <p>KEYS 대신 SCAN 으로 조회해 Redis 를 막지 않는다.
+	 */
+	public List<Long> findCachedMemberIds() {
+		List<Long> memberIds = new ArrayList<>();
+		ScanOptions options = ScanOptions.scanOptions()
+				.match(UNREAD_COUNT_KEY_PREFIX + "*")
+				.count(1000)
+				.build();
+
+		stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+			try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+				while (cursor.hasNext()) {
+					String key = new String(cursor.next(), StandardCharsets.UTF_8);
+					memberIds.add(Long.valueOf(key.substring(UNREAD_COUNT_KEY_PREFIX.length())));
+				}
+			}
+			return null;
+		});
+
+		return memberIds;
+	}
+
+	private String toKey(Long memberId) {
+		return UNREAD_COUNT_KEY_PREFIX + memberId;
+	}
+}
@@ -1,26 +1,161 @@
 package team.rescue.notification.repository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+/**
+ * 이 노드에 연결된 SSE 연결 저장소
+ * <p>회원 한 명이 여러 기기 / 탭으로 연결할 수 있도록 연결 ID 별로 emitter 를 보관한다.
+ * 재연결 시 놓친 알림을 다시 보내기 위해 회원별로 최근 알림을 최대 {@value #REPLAY_BUFFER_SIZE}개,
+ * {@link #REPLAY_TTL} 동안 보관한다.
+ * <p>버퍼는 이 노드 메모리에만 있으므로, 다른 노드로 재연결하면 놓친 알림은 알림 목록 조회로 확인해야 한다.
+ */
 @Repository
 public class SseEmitterRepository {
 
-	private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+	public static final int REPLAY_BUFFER_SIZE = 100;
+	public static final Duration REPLAY_TTL = Duration.ofMinutes(10);
 
-	public SseEmitter save(String id, SseEmitter sseEmitter) {
-		emitters.put(id, sseEmitter);
+	private final Map<String, Map<String, SseEmitter>> emitters = new ConcurrentHashMap<>();
+	private final Map<String, ReplayBuffer> replayBuffers = new ConcurrentHashMap<>();
+
+	public SseEmitter save(String email, String connectionId, SseEmitter sseEmitter) {
+		// 마지막 연결 삭제와 겹쳐도 유실되지 않도록 key 단위로 원자적으로 추가
+		emitters.compute(email, (key, connections) -> {
+			Map<String, SseEmitter> updated =
+					connections == null ? new ConcurrentHashMap<>() : connections;
+			updated.put(connectionId, sseEmitter);
+			return updated;
+		});
+		replayBuffers.computeIfAbsent(email, key -> new ReplayBuffer()).touch();
 		return sseEmitter;
 	}
 
-	public Optional<SseEmitter> findById(String id) {
-		return Optional.ofNullable(emitters.get(id));
+	/**
+	 * 회원의 모든 연결
+	 *
+	 * @return 연결 ID 별 emitter, 연결이 없으면 빈 Map
+	 */
+	public Map<String, SseEmitter> findAllByEmail(String email) {
+		return emitters.getOrDefault(email, Map.of());
+	}
+
+	/**
+	 * 이 노드의 모든 연결
+	 *
+	 * @return 회원 이메일 별 (연결 ID 별 emitter)
+	 */
+	public Map<String, Map<String, SseEmitter>> findAll() {
+		return emitters;
+	}
+
+	public void deleteById(String email, String connectionId) {
+		emitters.computeIfPresent(email, (key, connections) -> {
+			connections.remove(connectionId);
+			return connections.isEmpty() ? null : connections;
+		});
+
+		ReplayBuffer replayBuffer = replayBuffers.get(email);
+		if (replayBuffer != null) {
+			replayBuffer.touch();
+		}
+	}
+
+	/**
+	 * 이 노드가 알림을 받아야 하는 회원인지 확인
+	 * <p>연결이 끊겼어도 재연결 대기 중(버퍼 보관 중)이면 버퍼에 쌓기 위해 받는다.
+	 */
+	public boolean isTracked(String email) {
+		return emitters.containsKey(email) || replayBuffers.containsKey(email);
+	}
+
+	/**
+	 * 재연결용 버퍼에 알림 보관
+	 */
+	public void cacheEvent(String email, SseEvent event) {
+		replayBuffers.computeIfAbsent(email, key -> new ReplayBuffer()).add(event);
+	}
+
+	/**
+	 * lastEventId 이후에 보낸 알림 목록
+	 */
+	public List<SseEvent> findEventsAfter(String email, long lastEventId) {
+		ReplayBuffer replayBuffer = replayBuffers.get(email);
+		if (replayBuffer == null) {
+			return List.of();
+		}
+
+		return replayBuffer.findAfter(lastEventId);
+	}
+
+	/**
+	 * 만료된 재연결 버퍼 정리
+	 * <p>REPLAY_TTL 보다 오래된 알림을 버리고, 연결이 없는 채로 REPLAY_TTL 이 지난 회원의 버퍼는 삭제한다.
+	 */
+	public void evictExpired(Instant now) {
+		Instant expiredBefore = now.minus(REPLAY_TTL);
+		replayBuffers.entrySet().removeIf(entry -> {
+			ReplayBuffer replayBuffer = entry.getValue();
+			replayBuffer.evictBefore(expiredBefore);
+			return !emitters.containsKey(entry.getKey())
+					&& replayBuffer.lastAccessedAt().isBefore(expiredBefore);
+		});
+	}
+
+	/**
+	 * 재연결 시 다시 보낼 알림
+	 *
+	 * @param id        SSE event id(노드 안에서 증가)
+	 * @param data      보낸 데이터
+	 * @param createdAt 보낸 시각
+	 */
+	public record SseEvent(long id, Object data, Instant createdAt) {
+
 	}
 
-	public void deleteById(String id) {
-		emitters.remove(id);
+	private static class ReplayBuffer {
+
+		private final Deque<SseEvent> events = new ArrayDeque<>();
+		private Instant lastAccessedAt = Instant.now();
+
+		synchronized void add(SseEvent event) {
+			if (events.size() == REPLAY_BUFFER_SIZE) {
+				events.pollFirst();
+			}
+			events.addLast(event);
+			lastAccessedAt = event.createdAt();
+		}
+
+		synchronized List<SseEvent> findAfter(long lastEventId) {
+			List<SseEvent> missed = new ArrayList<>();
+			for (SseEvent event : events) {
+				if (event.id() > lastEventId) {
+					missed.add(event);
+				}
+			}
+			return missed;
+		}
+
+		synchronized void evictBefore(Instant expiredBefore) {
+			while (!events.isEmpty() && events.peekFirst().createdAt().isBefore(expiredBefore)) {
+				events.pollFirst();
+			}
+		}
+
+		synchronized void touch() {
+			lastAccessedAt = Instant.now();
+		}
+
+		synchronized Instant lastAccessedAt() {
+			return lastAccessedAt;
+		}
 	}
 }
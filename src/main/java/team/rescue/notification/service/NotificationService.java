@@ -5,13 +5,22 @@ import static team.rescue.error.type.ServiceError.NOTIFICATION_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.USER_NOT_FOUND;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import team.rescue.error.exception.AuthException;
 import team.rescue.error.exception.ServiceException;
@@ -20,8 +29,12 @@ import team.rescue.member.repository.MemberRepository;
 import team.rescue.notification.dto.NotificationDto.NotificationCheckDto;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
 import team.rescue.notification.entity.Notification;
+import team.rescue.notification.entity.NotificationOutbox;
 import team.rescue.notification.event.NotificationEvent;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.repository.NotificationOutboxRepository;
 import team.rescue.notification.repository.NotificationRepository;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
 
 @Slf4j
 @Service
@@ -31,6 +44,9 @@ public class NotificationService {
 
 	private final MemberRepository memberRepository;
 	private final NotificationRepository notificationRepository;
+	private final NotificationOutboxRepository notificationOutboxRepository;
+	private final NotificationBulkRepository notificationBulkRepository;
+	private final NotificationUnreadCountRepository notificationUnreadCountRepository;
 	private final RedisMessageService redisMessageService;
 	private final SseEmitterService sseEmitterService;
 
@@ -43,29 +59,65 @@ public class NotificationService {
 		return notificationPage.map(NotificationInfoDto::of);
 	}
 
+	/**
+	 * 알림 일괄 확인 처리
+	 * <p>UPDATE 한 번으로 처리하며, 다른 회원의 알림이나 없는 ID 는 무시한다.
+	 *
+	 * @param notificationCheckDto 확인 처리할 알림 ID 목록
+	 * @param email                회원 이메일
+	 * @return 새로 확인 처리된 알림 수
+	 */
 	@Transactional
-	public void checkNotifications(NotificationCheckDto notificationCheckDto, String email) {
+	public int checkNotifications(NotificationCheckDto notificationCheckDto, String email) {
 		Member member = memberRepository.findUserByEmail(email)
 				.orElseThrow(() -> new ServiceException(USER_NOT_FOUND));
 
-		for (Long notificationId : notificationCheckDto.getNotificationIds()) {
-			Notification notification = notificationRepository.findById(notificationId)
-					.orElseThrow(() -> new ServiceException(NOTIFICATION_NOT_FOUND));
+		List<Long> notificationIds = notificationCheckDto.getNotificationIds();
+		if (notificationIds == null || notificationIds.isEmpty()) {
+			return 0;
+		}
 
-			if (!Objects.equals(notification.getMember().getId(), member.getId())) {
-				throw new AuthException(ACCESS_DENIED);
-			}
+		int checkedCount = notificationRepository.updateCheckedAtByMemberAndIdIn(
+				member, notificationIds, LocalDateTime.now());
+		decreaseUnreadCountAfterCommit(member.getId(), checkedCount);
 
-			notification.updateCheckedAt(LocalDateTime.now());
-			notificationRepository.save(notification);
-		}
+		return checkedCount;
 	}
 
+	/**
+	 * 회원의 미확인 알림 전체 확인 처리
+	 *
+	 * @param email 회원 이메일
+	 * @return 새로 확인 처리된 알림 수
+	 */
+	@Transactional
+	public int checkAllNotifications(String email) {
+		Member member = memberRepository.findUserByEmail(email)
+				.orElseThrow(() -> new ServiceException(USER_NOT_FOUND));
+
+		int checkedCount = notificationRepository.updateCheckedAtByMember(member, LocalDateTime.now());
+		decreaseUnreadCountAfterCommit(member.getId(), checkedCount);
+
+		return checkedCount;
+	}
+
+	/**
+	 * 알림 한 건 확인 처리
+	 * <p>조건부 UPDATE 로 처리해, 같은 알림을 동시에 열어도 한 요청만 확인 처리하고 미확인 수를 한 번만 줄인다.
+	 * 이미 확인한 알림은 최초 확인 시각을 유지한다.
+	 *
+	 * @param notificationId 알림 ID
+	 * @param email          회원 이메일
+	 * @return 확인 처리 후 알림 정보
+	 */
 	@Transactional
 	public NotificationInfoDto checkNotification(Long notificationId, String email) {
 		Member member = memberRepository.findUserByEmail(email)
 				.orElseThrow(() -> new ServiceException(USER_NOT_FOUND));
 
+		int checkedCount = notificationRepository.updateCheckedAtByMemberAndId(
+				member, notificationId, LocalDateTime.now());
+
 		Notification notification = notificationRepository.findById(notificationId)
 				.orElseThrow(() -> new ServiceException(NOTIFICATION_NOT_FOUND));
 
@@ -73,53 +125,187 @@ public class NotificationService {
 			throw new AuthException(ACCESS_DENIED);
 		}
 
-		notification.updateCheckedAt(LocalDateTime.now());
-		Notification updateNotification = notificationRepository.save(notification);
+		decreaseUnreadCountAfterCommit(member.getId(), checkedCount);
 
-		return NotificationInfoDto.of(updateNotification);
+		return NotificationInfoDto.of(notification);
 	}
 
-	public SseEmitter subscribe(String email) {
-		SseEmitter sseEmitter = sseEmitterService.createEmitter(email);
-		sseEmitterService.send("EventStream Created. [userEmail=" + email + "]", email, sseEmitter);
+	/**
+	 * 미확인 알림 수 조회
+	 * <p>Redis 카운터를 먼저 보고, 없으면 DB 에서 세어 채운다.
+	 *
+	 * @param memberId 회원 ID
+	 * @return 미확인 알림 수
+	 */
+	public long getUnreadCount(Long memberId) {
+		Long cached = notificationUnreadCountRepository.get(memberId);
+		if (cached != null) {
+			return cached;
+		}
 
-		redisMessageService.subscribe(email);
+		long unreadCount = notificationRepository.countUnreadByMemberId(memberId);
+		notificationUnreadCountRepository.set(memberId, unreadCount);
 
-		sseEmitter.onTimeout(sseEmitter::complete);
-		sseEmitter.onError(e -> sseEmitter.complete());
-		sseEmitter.onCompletion(() -> {
-			sseEmitterService.deleteEmitter(email);
-			redisMessageService.removeSubscribe(email);
-		});
+		return unreadCount;
+	}
+
+	/**
+	 * 미확인 알림 수 카운터를 DB 기준으로 보정
+	 *
+	 * @param memberIds 보정할 회원 ID 목록
+	 * @return 값이 달라져 보정된 회원 수
+	 */
+	public int reconcileUnreadCounts(List<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return 0;
+		}
 
-		return sseEmitter;
+		Map<Long, Long> unreadCounts = new HashMap<>();
+		for (Object[] row : notificationRepository.countUnreadGroupByMemberIdIn(memberIds)) {
+			unreadCounts.put((Long) row[0], (Long) row[1]);
+		}
+
+		int corrected = 0;
+		for (Long memberId : memberIds) {
+			long unreadCount = unreadCounts.getOrDefault(memberId, 0L);
+			Long cached = notificationUnreadCountRepository.get(memberId);
+			if (cached != null && cached != unreadCount) {
+				notificationUnreadCountRepository.set(memberId, unreadCount);
+				corrected++;
+			}
+		}
+
+		return corrected;
+	}
+
+	/**
+	 * 알림 구독(SSE 연결)
+	 *
+	 * @param email       회원 이메일
+	 * @param lastEventId 재연결 시 마지막으로 받은 event id(없으면 null)
+	 */
+	public SseEmitter subscribe(String email, String lastEventId) {
+		return sseEmitterService.connect(email, lastEventId);
 	}
 
+	/**
+	 * 알림 발송 예약
+	 * <p>이벤트를 발생시킨 트랜잭션에 참여해 outbox 에 한 줄만 저장한다.
+	 * 해당 트랜잭션이 롤백되면 알림도 나가지 않는다.
+	 *
+	 * @param event 알림 이벤트
+	 */
 	@Transactional
-	public void sendNotification(NotificationEvent event) {
+	public void enqueueNotification(NotificationEvent event) {
+		notificationOutboxRepository.save(NotificationOutbox.from(event));
+	}
 
-		log.info("sendNotification 메서드 수행");
+	/**
+	 * outbox 에 쌓인 알림 일괄 발송
+	 * <p>오래된 순으로 최대 batchSize 건을 잠그고, 알림을 한 번에 저장한 뒤 outbox 에서 지운다.
+	 * 이미 있는 알림(같은 dedup key)은 저장 / 발행하지 않는다.
+	 * Redis 발행은 커밋 후 파이프라인으로 한 번에 보낸다.
+	 *
+	 * @param batchSize 한 번에 처리할 최대 outbox 수
+	 * @return 처리한 outbox 수
+	 */
+	@Transactional
+	public int dispatchOutbox(int batchSize) {
+		List<NotificationOutbox> outboxes =
+				notificationOutboxRepository.findPendingForUpdate(PageRequest.of(0, batchSize));
+		if (outboxes.isEmpty()) {
+			return 0;
+		}
 
-		Member member = memberRepository.findUserByEmail(event.email())
-				.orElseThrow(() -> new ServiceException(USER_NOT_FOUND));
+		Map<String, Member> members = memberRepository.findAllByEmailIn(
+						outboxes.stream().map(NotificationOutbox::getEmail).collect(Collectors.toSet()))
+				.stream()
+				.collect(Collectors.toMap(Member::getEmail, Function.identity()));
+
+		List<Notification> notifications = new ArrayList<>();
+		for (NotificationOutbox outbox : outboxes) {
+			Member member = members.get(outbox.getEmail());
+			if (member == null) {
+				log.warn("[Notification] 수신자 없음 - outbox 폐기 id={}", outbox.getId());
+				continue;
+			}
 
-		Notification notification = Notification.builder()
-				.member(member)
-				.notificationType(event.notificationType())
-				.notificationProperty(event.notificationProperty())
-				.createdAt(event.createdAt())
-				.checkedAt(event.checkedAt())
-				.build();
+			notifications.add(Notification.builder()
+					.member(member)
+					.notificationType(outbox.getNotificationType())
+					.notificationProperty(outbox.getNotificationProperty())
+					.createdAt(outbox.getCreatedAt())
+					.build());
+		}
+
+		List<Notification> saved = notificationBulkRepository.saveAllIgnoringDuplicates(notifications);
+		notificationOutboxRepository.deleteAllByIdInBatch(
+				outboxes.stream().map(NotificationOutbox::getId).toList());
+
+		if (saved.isEmpty()) {
+			return outboxes.size();
+		}
 
-		if (!notificationRepository.existsByMemberAndNotificationTypeAndNotificationProperty(
-				member,
-				notification.getNotificationType(),
-				notification.getNotificationProperty()
-		)) {
+		List<Map.Entry<String, NotificationInfoDto>> messages = saved.stream()
+				.map(notification -> Map.entry(notification.getMember().getEmail(),
+						NotificationInfoDto.of(notification)))
+				.toList();
+		Map<Long, Long> unreadDeltas = saved.stream()
+				.collect(Collectors.groupingBy(notification -> notification.getMember().getId(),
+						Collectors.counting()));
+
+		runAfterCommit(() -> {
+			increaseUnreadCounts(unreadDeltas);
+			publish(messages);
+		});
+
+		return outboxes.size();
+	}
+
+	private void decreaseUnreadCountAfterCommit(Long memberId, int checkedCount) {
+		if (checkedCount == 0) {
+			return;
+		}
 
-			notificationRepository.save(notification);
+		runAfterCommit(() -> {
+			try {
+				notificationUnreadCountRepository.adjust(memberId, -checkedCount);
+			} catch (Exception e) {
+				log.error("[Notification] 미확인 알림 수 감소 실패 memberId={}", memberId, e);
+			}
+		});
+	}
+
+	private void increaseUnreadCounts(Map<Long, Long> unreadDeltas) {
+		try {
+			notificationUnreadCountRepository.adjustAll(unreadDeltas);
+		} catch (Exception e) {
+			log.error("[Notification] 미확인 알림 수 증가 실패 count={}", unreadDeltas.size(), e);
+		}
+	}
+
+	private void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
 
-			redisMessageService.publish(event.email(), NotificationInfoDto.of(notification));
+	/**
+	 * 발행 실패는 이미 저장된 알림에 영향을 주지 않도록 로그만 남긴다.
+	 */
+	private void publish(List<Map.Entry<String, NotificationInfoDto>> messages) {
+		try {
+			redisMessageService.publishAll(messages);
+		} catch (Exception e) {
+			log.error("[Notification] 알림 발행 실패 count={}", messages.size(), e);
 		}
 	}
 }
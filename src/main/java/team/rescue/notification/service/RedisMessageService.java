@@ -1,33 +1,52 @@
 package team.rescue.notification.service;
 
+import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
-import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
-import team.rescue.notification.RedisSubscriber;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
 
 @RequiredArgsConstructor
 @Service
 public class RedisMessageService {
 
-	private static final String CHANNEL_PREFIX = "channel:";
+	public static final String CHANNEL_PREFIX = "channel:";
+	// 노드마다 이 패턴 하나만 구독하고, 수신한 메시지는 로컬 emitter 로 분배한다
+	public static final String CHANNEL_PATTERN = CHANNEL_PREFIX + "*";
 
-	private final RedisMessageListenerContainer container;
-	private final RedisSubscriber subscriber;
 	private final RedisTemplate<String, Object> jsonRedisTemplate;
 
-	public void subscribe(String channel) {
-		container.addMessageListener(subscriber, ChannelTopic.of(getChannelName(channel)));
-	}
-
 	public void publish(String channel, NotificationInfoDto notificationInfoDto) {
 		jsonRedisTemplate.convertAndSend(getChannelName(channel), notificationInfoDto);
 	}
 
-	public void removeSubscribe(String channel) {
-		container.removeMessageListener(subscriber, ChannelTopic.of(getChannelName(channel)));
+	/**
+	 * 여러 채널에 한 번에 발행
+	 * <p>PUBLISH 명령을 파이프라인으로 묶어 왕복을 한 번으로 줄인다.
+	 *
+	 * @param messages (채널, 알림) 목록
+	 */
+	@SuppressWarnings("unchecked")
+	public void publishAll(List<Map.Entry<String, NotificationInfoDto>> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		RedisSerializer<String> channelSerializer = jsonRedisTemplate.getStringSerializer();
+		RedisSerializer<Object> messageSerializer =
+				(RedisSerializer<Object>) jsonRedisTemplate.getValueSerializer();
+
+		jsonRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			for (Map.Entry<String, NotificationInfoDto> message : messages) {
+				connection.publish(
+						channelSerializer.serialize(getChannelName(message.getKey())),
+						messageSerializer.serialize(message.getValue()));
+			}
+			return null;
+		});
 	}
 
 	private String getChannelName(String id) {
@@ -0,0 +1,54 @@
+package team.rescue.notification.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 전송 메트릭
+ * <ul>
+ *   <li>sse.delivery.queue.depth: 모든 연결의 전송 대기열에 쌓인 이벤트 수</li>
+ *   <li>sse.delivery.dropped: 대기열 초과 / 연결 종료로 버려진 이벤트 수(reason=drop_oldest|disconnect|closed|send_timeout)</li>
+ *   <li>sse.delivery.send: emitter 한 번 전송에 걸린 시간(result=success|failure|send_timeout)</li>
+ * </ul>
+ */
+@Component
+public class SseDeliveryMetrics {
+
+	private static final String QUEUE_DEPTH = "sse.delivery.queue.depth";
+	private static final String DROPPED = "sse.delivery.dropped";
+	private static final String SEND = "sse.delivery.send";
+
+	private final MeterRegistry meterRegistry;
+	private final AtomicLong queueDepth;
+
+	public SseDeliveryMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.queueDepth = meterRegistry.gauge(QUEUE_DEPTH, new AtomicLong());
+	}
+
+	public void recordQueued(int count) {
+		queueDepth.addAndGet(count);
+	}
+
+	public void recordDequeued(int count) {
+		queueDepth.addAndGet(-count);
+	}
+
+	public long getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	public void recordDropped(String reason, int count) {
+		meterRegistry.counter(DROPPED, "reason", reason).increment(count);
+	}
+
+	public void recordSend(String result, long nanos) {
+		Timer.builder(SEND)
+				.tag("result", result)
+				.register(meterRegistry)
+				.record(nanos, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,310 @@
+package team.rescue.notification.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import team.rescue.notification.repository.SseEmitterRepository;
+
+/**
+ * SSE 전송 단계
+ * <p>Redis 리스너 / 스케줄러 스레드는 연결별 대기열에 이벤트를 넣기만 하고,
+ * 실제 emitter 전송은 전송 전용 스레드 풀에서 한다. 느린 클라이언트 하나가 다른 회원의 알림 전달을 막지 않는다.
+ * <p>연결마다 대기열은 최대 queueCapacity 개(재연결 버퍼 전체를 재전송할 수 있는 크기)이고,
+ * 한 번에 한 스레드만 비우므로 연결 안의 전송 순서는 유지된다.
+ * 대기열이 가득 차면 {@link OverflowPolicy} 에 따라 가장 오래된 이벤트를 버리거나 연결을 끊는다.
+ * <p>emitter 전송은 클라이언트가 받지 않으면 소켓 쓰기에서 막힌다. send-timeout 보다 오래 걸리는 전송은
+ * {@link #disconnectStalled()} 가 연결을 정리하고 전송 스레드를 interrupt 해 풀로 돌려보낸다.
+ * interrupt 로 풀리지 않는 쓰기는 서블릿 컨테이너의 쓰기 타임아웃(server.tomcat.connection-timeout)에 끝난다.
+ */
+@Slf4j
+@Service
+public class SseDeliveryService {
+
+	private static final String DROP_OLDEST = "drop_oldest";
+	private static final String DISCONNECT = "disconnect";
+	private static final String CLOSED = "closed";
+	private static final String SEND_TIMEOUT = "send_timeout";
+
+	private final Map<SseEmitter, DeliveryQueue> queues = new ConcurrentHashMap<>();
+
+	private final SseEmitterRepository sseEmitterRepository;
+	private final SseDeliveryMetrics sseDeliveryMetrics;
+	private final Executor sseDeliveryExecutor;
+	private final int queueCapacity;
+	private final OverflowPolicy overflowPolicy;
+	private final long sendTimeoutNanos;
+
+	public SseDeliveryService(
+			SseEmitterRepository sseEmitterRepository,
+			SseDeliveryMetrics sseDeliveryMetrics,
+			@Qualifier("sseDeliveryExecutor") Executor sseDeliveryExecutor,
+			@Value("${sse.delivery.queue-capacity-per-connection:128}") int queueCapacity,
+			@Value("${sse.delivery.overflow-policy:DROP_OLDEST}") OverflowPolicy overflowPolicy,
+			@Value("${sse.delivery.send-timeout:5s}") Duration sendTimeout
+	) {
+		this.sseEmitterRepository = sseEmitterRepository;
+		this.sseDeliveryMetrics = sseDeliveryMetrics;
+		this.sseDeliveryExecutor = sseDeliveryExecutor;
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.sendTimeoutNanos = sendTimeout.toNanos();
+	}
+
+	/**
+	 * 연결 대기열에 이벤트 추가
+	 * <p>전송은 비동기로 이루어지며, 전송에 실패한 연결은 저장소에서 삭제된다.
+	 */
+	public void enqueue(String email, String connectionId, SseEmitter sseEmitter,
+			SseEventBuilder event) {
+		offer(queues.computeIfAbsent(sseEmitter,
+				key -> new DeliveryQueue(email, connectionId, key)), event, false);
+	}
+
+	/**
+	 * 연결 대기열에 heartbeat 추가
+	 * <p>이미 보낼 이벤트가 쌓여 있는 연결은 곧 데이터가 나가므로 heartbeat 를 넣지 않는다.
+	 * heartbeat 때문에 알림이 밀려나지 않게 하기 위함이다.
+	 */
+	public void enqueueHeartbeat(String email, String connectionId, SseEmitter sseEmitter,
+			SseEventBuilder heartbeat) {
+		offer(queues.computeIfAbsent(sseEmitter,
+				key -> new DeliveryQueue(email, connectionId, key)), heartbeat, true);
+	}
+
+	/**
+	 * 종료된 연결의 대기열 삭제
+	 */
+	public void remove(SseEmitter sseEmitter) {
+		DeliveryQueue queue = queues.remove(sseEmitter);
+		if (queue != null) {
+			int discarded = queue.close();
+			if (discarded > 0) {
+				sseDeliveryMetrics.recordDequeued(discarded);
+				sseDeliveryMetrics.recordDropped(CLOSED, discarded);
+			}
+		}
+	}
+
+	/**
+	 * send-timeout 보다 오래 전송 중인 연결 정리
+	 * <p>대기열을 비우고 저장소에서 삭제한 뒤 전송 스레드를 interrupt 한다.
+	 * emitter 종료는 전송이 끝난 뒤 전송 스레드가 한다(전송 중에는 emitter 가 잠겨 있음).
+	 *
+	 * @return 정리한 연결 수
+	 */
+	public int disconnectStalled() {
+		long now = System.nanoTime();
+		int stalled = 0;
+
+		for (DeliveryQueue queue : queues.values()) {
+			synchronized (queue) {
+				if (queue.sendingThread == null || queue.timedOut
+						|| now - queue.sendStartedAt < sendTimeoutNanos) {
+					continue;
+				}
+				queue.timedOut = true;
+				queue.sendingThread.interrupt();
+			}
+
+			log.debug("SSE 전송 시간 초과 - 연결 종료 email={}, connectionId={}",
+					queue.email, queue.connectionId);
+			queues.remove(queue.emitter, queue);
+			int discarded = queue.close();
+			if (discarded > 0) {
+				sseDeliveryMetrics.recordDequeued(discarded);
+				sseDeliveryMetrics.recordDropped(SEND_TIMEOUT, discarded);
+			}
+			sseEmitterRepository.deleteById(queue.email, queue.connectionId);
+			stalled++;
+		}
+
+		return stalled;
+	}
+
+	private void offer(DeliveryQueue queue, SseEventBuilder event, boolean onlyIfIdle) {
+		boolean overflow = false;
+		boolean schedule = false;
+
+		synchronized (queue) {
+			if (queue.closed || (onlyIfIdle && !queue.events.isEmpty())) {
+				return;
+			}
+
+			if (queue.events.size() >= queueCapacity) {
+				if (overflowPolicy == OverflowPolicy.DISCONNECT) {
+					overflow = true;
+				} else {
+					queue.events.pollFirst();
+					sseDeliveryMetrics.recordDequeued(1);
+					sseDeliveryMetrics.recordDropped(DROP_OLDEST, 1);
+				}
+			}
+
+			if (!overflow) {
+				queue.events.addLast(event);
+				sseDeliveryMetrics.recordQueued(1);
+				if (!queue.draining) {
+					queue.draining = true;
+					schedule = true;
+				}
+			}
+		}
+
+		if (overflow) {
+			log.debug("SSE 대기열 초과 - 연결 종료 email={}, connectionId={}",
+					queue.email, queue.connectionId);
+			sseDeliveryMetrics.recordDropped(DISCONNECT, 1);
+			disconnect(queue, new IllegalStateException("SSE delivery queue overflow"), DISCONNECT);
+			return;
+		}
+
+		if (schedule) {
+			try {
+				sseDeliveryExecutor.execute(() -> drain(queue));
+			} catch (RejectedExecutionException e) {
+				// 종료 중이라 풀이 받지 않으면 다음 offer 에서 다시 스케줄
+				log.warn("SSE 전송 작업 등록 실패 email={}, connectionId={}",
+						queue.email, queue.connectionId);
+				synchronized (queue) {
+					queue.draining = false;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 대기열이 빌 때까지 전송
+	 * <p>draining 플래그를 잡은 스레드 하나만 실행하므로 같은 emitter 에 동시에 send 하지 않는다.
+	 */
+	private void drain(DeliveryQueue queue) {
+		while (true) {
+			SseEventBuilder event;
+			synchronized (queue) {
+				event = queue.events.pollFirst();
+				if (event == null || queue.closed) {
+					queue.draining = false;
+					return;
+				}
+				queue.sendingThread = Thread.currentThread();
+				queue.sendStartedAt = System.nanoTime();
+			}
+			sseDeliveryMetrics.recordDequeued(1);
+
+			long start = System.nanoTime();
+			Exception failure = null;
+			try {
+				queue.emitter.send(event);
+			} catch (IOException | IllegalStateException e) {
+				failure = e;
+			}
+
+			boolean timedOut;
+			synchronized (queue) {
+				queue.sendingThread = null;
+				timedOut = queue.timedOut;
+				// 전송이 끝난 직후 들어온 interrupt 가 다음 작업에 남지 않도록 지움
+				Thread.interrupted();
+			}
+
+			if (timedOut) {
+				sseDeliveryMetrics.recordSend(SEND_TIMEOUT, System.nanoTime() - start);
+				completeQuietly(queue, new IOException("SSE send timed out"));
+				synchronized (queue) {
+					queue.draining = false;
+				}
+				return;
+			}
+
+			if (failure != null) {
+				sseDeliveryMetrics.recordSend("failure", System.nanoTime() - start);
+				log.debug("알림 전송 실패 - 연결 정리 email={}, connectionId={}",
+						queue.email, queue.connectionId);
+				disconnect(queue, failure, CLOSED);
+				synchronized (queue) {
+					queue.draining = false;
+				}
+				return;
+			}
+
+			sseDeliveryMetrics.recordSend("success", System.nanoTime() - start);
+		}
+	}
+
+	private void disconnect(DeliveryQueue queue, Throwable cause, String reason) {
+		queues.remove(queue.emitter, queue);
+		int discarded = queue.close();
+		if (discarded > 0) {
+			sseDeliveryMetrics.recordDequeued(discarded);
+			sseDeliveryMetrics.recordDropped(reason, discarded);
+		}
+
+		sseEmitterRepository.deleteById(queue.email, queue.connectionId);
+		completeQuietly(queue, cause);
+	}
+
+	private void completeQuietly(DeliveryQueue queue, Throwable cause) {
+		try {
+			queue.emitter.completeWithError(cause);
+		} catch (IllegalStateException ignored) {
+			// 이미 종료된 emitter
+		}
+	}
+
+	/**
+	 * 대기열이 가득 찼을 때의 처리 방식
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * 가장 오래된 이벤트를 버리고 연결은 유지(버린 알림은 재연결 버퍼 / 알림 목록으로 확인)
+		 */
+		DROP_OLDEST,
+		/**
+		 * 연결을 끊어 클라이언트가 Last-Event-ID 로 재연결하게 함
+		 */
+		DISCONNECT
+	}
+
+	private static class DeliveryQueue {
+
+		private final String email;
+		private final String connectionId;
+		private final SseEmitter emitter;
+		private final Deque<SseEventBuilder> events = new ArrayDeque<>();
+		private boolean draining;
+		private boolean closed;
+		// 전송 중인 스레드와 시작 시각(전송 중이 아니면 null)
+		private Thread sendingThread;
+		private long sendStartedAt;
+		private boolean timedOut;
+
+		DeliveryQueue(String email, String connectionId, SseEmitter emitter) {
+			this.email = email;
+			this.connectionId = connectionId;
+			this.emitter = emitter;
+		}
+
+		/**
+		 * @return 전송하지 못하고 버린 이벤트 수
+		 */
+		synchronized int close() {
+			if (closed) {
+				return 0;
+			}
+			closed = true;
+			int discarded = events.size();
+			events.clear();
+			return discarded;
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package team.rescue.notification.service;
 
-import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
 import team.rescue.notification.repository.SseEmitterRepository;
+import team.rescue.notification.repository.SseEmitterRepository.SseEvent;
 
 @RequiredArgsConstructor
 @Service
@@ -15,32 +18,123 @@ import team.rescue.notification.repository.SseEmitterRepository;
 public class SseEmitterService {
 
 	private static final Long EMITTER_TIMEOUT = 60L * 1000 * 60;
+	private static final String HEARTBEAT_COMMENT = "heartbeat";
+	private static final int LOCK_STRIPES = 64;
+
+	// 재시작 후에도 이전 id 보다 커지도록 시작 시각 기준으로 증가
+	private final AtomicLong eventIdSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+	// 회원별 알림 전송과 연결 등록(재전송 포함)을 직렬화, 대기열에 넣기만 하므로 오래 잡지 않는다
+	private final Object[] locks = createLocks();
 
 	private final SseEmitterRepository sseEmitterRepository;
+	private final SseDeliveryService sseDeliveryService;
+
+	/**
+	 * SSE 연결 생성
+	 * <p>연결마다 ID 를 따로 두어 같은 회원의 다른 기기 / 탭 연결을 덮어쓰지 않는다.
+	 * Last-Event-ID 가 있으면 그 이후에 놓친 알림을 바로 보낸다.
+	 * <p>연결 이벤트와 재전송을 대기열에 넣은 뒤에 연결을 등록하고, 이 과정은 같은 회원의 알림 전송과 겹치지 않는다.
+	 * 따라서 재전송한 알림이 새 알림으로 한 번 더 가거나, 새 알림이 재전송보다 먼저 나가지 않는다.
+	 * <p>이벤트 이름은 지정하지 않는다(기본 message). 클라이언트는 onmessage 로 연결 이벤트와 알림을 모두 받는다.
+	 *
+	 * @param email       회원 이메일
+	 * @param lastEventId 클라이언트가 마지막으로 받은 event id(없으면 null)
+	 * @return 생성된 emitter
+	 */
+	public SseEmitter connect(String email, String lastEventId) {
+		String connectionId = UUID.randomUUID().toString();
+		SseEmitter sseEmitter = createEmitter();
+
+		sseEmitter.onTimeout(sseEmitter::complete);
+		sseEmitter.onError(e -> sseEmitter.complete());
+		sseEmitter.onCompletion(() -> {
+			sseEmitterRepository.deleteById(email, connectionId);
+			sseDeliveryService.remove(sseEmitter);
+		});
 
-	public SseEmitter createEmitter(String id) {
-		return sseEmitterRepository.save(id, new SseEmitter(EMITTER_TIMEOUT));
+		synchronized (lockFor(email)) {
+			sseDeliveryService.enqueue(email, connectionId, sseEmitter, SseEmitter.event()
+					.data("EventStream Created. [userEmail=" + email + "]"));
+
+			replay(sseEmitter, email, connectionId, lastEventId);
+
+			sseEmitterRepository.save(email, connectionId, sseEmitter);
+		}
+
+		return sseEmitter;
 	}
 
-	public void deleteEmitter(String id) {
-		sseEmitterRepository.deleteById(id);
+	public boolean hasEmitter(String email) {
+		return sseEmitterRepository.isTracked(email);
 	}
 
+	/**
+	 * 회원의 모든 연결에 알림 전송
+	 * <p>연결이 없어도 재연결 버퍼에는 보관한다. 전송은 연결별 대기열에 넣기만 하고 바로 반환한다.
+	 */
 	public void sendNotificationToClient(String email, NotificationInfoDto notificationInfoDto) {
-		sseEmitterRepository.findById(email)
-				.ifPresent(sseEmitter -> send(notificationInfoDto, email, sseEmitter));
+		synchronized (lockFor(email)) {
+			SseEvent event = new SseEvent(eventIdSequence.incrementAndGet(), notificationInfoDto,
+					Instant.now());
+			sseEmitterRepository.cacheEvent(email, event);
+
+			sseEmitterRepository.findAllByEmail(email).forEach((connectionId, sseEmitter) ->
+					sseDeliveryService.enqueue(email, connectionId, sseEmitter, toEventBuilder(event)));
+		}
+	}
+
+	/**
+	 * 모든 연결에 heartbeat 전송
+	 * <p>끊긴 연결은 전송 단계에서 실패로 감지해 정리하고, 만료된 재연결 버퍼도 함께 비운다.
+	 */
+	public void sendHeartbeat() {
+		sseEmitterRepository.findAll().forEach((email, connections) ->
+				connections.forEach((connectionId, sseEmitter) ->
+						sseDeliveryService.enqueueHeartbeat(email, connectionId, sseEmitter,
+								SseEmitter.event().comment(HEARTBEAT_COMMENT))));
+
+		sseEmitterRepository.evictExpired(Instant.now());
 	}
 
-	public void send(Object data, String id, SseEmitter sseEmitter) {
+	SseEmitter createEmitter() {
+		return new SseEmitter(EMITTER_TIMEOUT);
+	}
+
+	private void replay(SseEmitter sseEmitter, String email, String connectionId,
+			String lastEventId) {
+		if (lastEventId == null || lastEventId.isBlank()) {
+			return;
+		}
+
+		long lastId;
 		try {
-			log.info("send to client {} : [{}]", id, data);
-
-			sseEmitter.send(SseEmitter.event()
-					.id(id)
-					.data(data, MediaType.APPLICATION_JSON));
-		} catch (IOException e) {
-			log.error("알림 전송 예외 발생");
-			sseEmitterRepository.deleteById(id);
+			lastId = Long.parseLong(lastEventId);
+		} catch (NumberFormatException e) {
+			log.debug("Last-Event-ID 형식 오류 - 재전송 생략 : {}", lastEventId);
+			return;
+		}
+
+		for (SseEvent event : sseEmitterRepository.findEventsAfter(email, lastId)) {
+			sseDeliveryService.enqueue(email, connectionId, sseEmitter, toEventBuilder(event));
+		}
+	}
+
+	private SseEmitter.SseEventBuilder toEventBuilder(SseEvent event) {
+		return SseEmitter.event()
+				.id(String.valueOf(event.id()))
+				.data(event.data(), MediaType.APPLICATION_JSON);
+	}
+
+	private Object lockFor(String email) {
+		return locks[Math.floorMod(email.hashCode(), LOCK_STRIPES)];
+	}
+
+	private static Object[] createLocks() {
+		Object[] locks = new Object[LOCK_STRIPES];
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			locks[i] = new Object();
 		}
+		return locks;
 	}
 }
@@ -93,7 +93,7 @@ public class RecipeController {
 	public ResponseEntity<ResponseDto<RecipeInfoDto>> addRecipe(
 			@RequestPart RecipeCreateDto request,
 			@RequestPart MultipartFile recipeImage,
-			@RequestPart List<MultipartFile> stepImages,
+			@RequestPart(required = false) List<MultipartFile> stepImages,
 			@AuthenticationPrincipal PrincipalDetails principalDetails,
 			BindingResult bindingResult
 	) {
@@ -116,7 +116,7 @@ public class RecipeController {
 			@PathVariable Long recipeId,
 			@RequestPart RecipeUpdateDto request,
 			@RequestPart(required = false) MultipartFile recipeImage,
-			@RequestPart List<MultipartFile> stepImages,
+			@RequestPart(required = false) List<MultipartFile> stepImages,
 			@AuthenticationPrincipal PrincipalDetails principalDetails
 	) {
 
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import team.rescue.common.file.ImageVariant;
 import team.rescue.member.dto.MemberDto.MemberInfoDto;
 import team.rescue.recipe.dto.RecipeIngredientDto.RecipeIngredientCreateDto;
 import team.rescue.recipe.dto.RecipeIngredientDto.RecipeIngredientInfoDto;
@@ -15,6 +16,8 @@ import team.rescue.recipe.dto.RecipeStepDto.RecipeStepDeleteDto;
 import team.rescue.recipe.dto.RecipeStepDto.RecipeStepInfoDto;
 import team.rescue.recipe.dto.RecipeStepDto.RecipeStepUpdateDto;
 import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.entity.RecipeIngredient;
+import team.rescue.recipe.entity.RecipeStep;
 import team.rescue.search.entity.RecipeDoc;
 
 public class RecipeDto {
@@ -60,6 +63,8 @@ public class RecipeDto {
 		private Integer reviewCount;
 		private LocalDateTime createdAt;
 		private String imageUrl;
+		private String thumbnailUrl;
+		private String mediumUrl;
 		private MemberInfoDto author;
 
 		public static RecipeInfoDto of(Recipe recipe) {
@@ -71,6 +76,8 @@ public class RecipeDto {
 			recipeInfo.setReviewCount(recipe.getReviewCount());
 			recipeInfo.setCreatedAt(recipe.getCreatedAt());
 			recipeInfo.setImageUrl(recipe.getRecipeImageUrl());
+			recipeInfo.setThumbnailUrl(ImageVariant.THUMBNAIL.toUrl(recipe.getRecipeImageUrl()));
+			recipeInfo.setMediumUrl(ImageVariant.MEDIUM.toUrl(recipe.getRecipeImageUrl()));
 			recipeInfo.setAuthor(MemberInfoDto.of(recipe.getMember()));
 
 			return recipeInfo;
@@ -86,6 +93,8 @@ public class RecipeDto {
 					.reviewCount(recipeDoc.getReviewCount())
 					.createdAt(recipeDoc.getCreatedAt().toLocalDateTime())
 					.imageUrl(recipeDoc.getImage())
+					.thumbnailUrl(ImageVariant.THUMBNAIL.toUrl(recipeDoc.getImage()))
+					.mediumUrl(ImageVariant.MEDIUM.toUrl(recipeDoc.getImage()))
 					.author(MemberInfoDto.of(
 							recipeDoc.getMemberId(), recipeDoc.getMemberNickname(), recipeDoc.getMemberRole()))
 					.build();
@@ -102,6 +111,8 @@ public class RecipeDto {
 		private String title;
 		private String summary;
 		private String recipeImageUrl;
+		private String thumbnailUrl;
+		private String mediumUrl;
 		private Integer viewCount;
 		private Integer reviewCount;
 		private Integer reportCount;
@@ -118,6 +129,8 @@ public class RecipeDto {
 					.title(recipe.getTitle())
 					.summary(recipe.getSummary())
 					.recipeImageUrl(recipe.getRecipeImageUrl())
+					.thumbnailUrl(ImageVariant.THUMBNAIL.toUrl(recipe.getRecipeImageUrl()))
+					.mediumUrl(ImageVariant.MEDIUM.toUrl(recipe.getRecipeImageUrl()))
 					.viewCount(recipe.getViewCount())
 					.reviewCount(recipe.getReviewCount())
 					.reportCount(recipe.getReportCount())
@@ -125,6 +138,31 @@ public class RecipeDto {
 					.createdAt(recipe.getCreatedAt())
 					.build();
 		}
+
+		public static RecipeDetailDto of(
+				Recipe recipe,
+				List<RecipeIngredient> ingredients,
+				List<RecipeStep> steps,
+				boolean isBookmarked
+		) {
+			return RecipeDetailDto.builder()
+					.id(recipe.getId())
+					.title(recipe.getTitle())
+					.summary(recipe.getSummary())
+					.recipeImageUrl(recipe.getRecipeImageUrl())
+					.thumbnailUrl(ImageVariant.THUMBNAIL.toUrl(recipe.getRecipeImageUrl()))
+					.mediumUrl(ImageVariant.MEDIUM.toUrl(recipe.getRecipeImageUrl()))
+					.viewCount(recipe.getViewCount())
+					.reviewCount(recipe.getReviewCount())
+					.reportCount(recipe.getReportCount())
+					.bookmarkCount(recipe.getBookmarkCount())
+					.createdAt(recipe.getCreatedAt())
+					.recipeIngredients(ingredients.stream().map(RecipeIngredientInfoDto::of).toList())
+					.recipeSteps(steps.stream().map(RecipeStepInfoDto::of).toList())
+					.author(MemberInfoDto.of(recipe.getMember()))
+					.isBookmarked(isBookmarked)
+					.build();
+		}
 	}
 
 }
@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -21,7 +22,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import team.rescue.member.entity.Member;
 
 @Entity
-@Table(name = "bookmark")
+@Table(name = "bookmark", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_bookmark_member_recipe", columnNames = {"member_id", "recipe_id"})
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
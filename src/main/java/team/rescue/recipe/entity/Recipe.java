@@ -16,13 +16,20 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import team.rescue.member.entity.Member;
 
+/**
+ * 레시피
+ * <p>조회수 / 리뷰 수 / 신고 수 / 북마크 수는 원자적 UPDATE 로만 증감한다.
+ * 수정 시 dirty checking 이 읽어 둔 카운터 값을 덮어쓰지 않도록 변경된 컬럼만 UPDATE 한다.
+ */
 @Entity
 @Table(name = "recipe")
+@DynamicUpdate
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -75,34 +82,16 @@ public class Recipe {
 		this.title = title;
 		this.summary = summary;
 		this.recipeImageUrl = recipeImageUrl;
+		this.modifiedAt = LocalDateTime.now();
 	}
 
+	/**
+	 * 제목 / 요약 수정
+	 * <p>재료나 스탭만 바뀌어도 수정 시각은 갱신한다. 검색 인덱스 재색인이 수정 시각으로 변경분을 찾는다.
+	 */
 	public void updateWithoutImage(String title, String summary) {
 		this.title = title;
 		this.summary = summary;
-	}
-
-	public void decreaseReviewCount() {
-		this.reviewCount--;
-	}
-
-	public void decreaseBookmarkCount() {
-		this.bookmarkCount--;
-	}
-
-	public void increaseBookmarkCount() {
-		this.bookmarkCount++;
-	}
-
-	public void increaseReportCount() {
-		this.reportCount++;
-	}
-
-	public void increaseViewCount() {
-		this.viewCount++;
-	}
-
-	public void increaseReviewCount() {
-		this.reviewCount++;
+		this.modifiedAt = LocalDateTime.now();
 	}
 }
@@ -0,0 +1,32 @@
+package team.rescue.recipe.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DB 에 반영한 조회수 증가분 묶음 기록
+ * <p>조회수 증가분과 같은 트랜잭션에서 저장되므로, 같은 묶음이 두 번 반영되지 않는다.
+ */
+@Entity
+@Table(name = "recipe_view_count_flush")
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecipeViewCountFlush {
+
+	@Id
+	@Column(name = "flush_id", length = 36)
+	private String flushId;
+
+	@Column(name = "applied_at", nullable = false)
+	private LocalDateTime appliedAt;
+}
@@ -4,6 +4,8 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import team.rescue.member.entity.Member;
 import team.rescue.recipe.entity.Bookmark;
@@ -18,5 +20,9 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
 	boolean existsByRecipeAndMember(Recipe recipe, Member member);
 
-	void deleteByRecipeAndMember(Recipe recipe, Member member);
+	boolean existsByRecipeIdAndMemberId(Long recipeId, Long memberId);
+
+	@Modifying
+	@Query("delete from Bookmark b where b.recipe = :recipe and b.member = :member")
+	int deleteByRecipeAndMember(Recipe recipe, Member member);
 }
@@ -1,5 +1,6 @@
 package team.rescue.recipe.repository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -12,7 +13,18 @@ public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredie
 
   List<RecipeIngredient> findByRecipe(Recipe recipe);
 
-  @Query("SELECT DISTINCT ri.name FROM RecipeIngredient ri WHERE ri.name LIKE CONCAT(:prefix, '%') ORDER BY ri.name ASC")
-  List<String> findDistinctNamesByNameStartingWithCustom(String prefix);
+  @Query("SELECT ri FROM RecipeIngredient ri WHERE ri.recipe.id = :recipeId ORDER BY ri.id ASC")
+  List<RecipeIngredient> findAllByRecipeId(Long recipeId);
+
+  @Query("SELECT ri FROM RecipeIngredient ri WHERE ri.recipe.id IN :recipeIds ORDER BY ri.id ASC")
+  List<RecipeIngredient> findAllByRecipeIdIn(Collection<Long> recipeIds);
+
+  /**
+   * 재료명별 사용 레시피 수(자동완성 인기도)
+   *
+   * @return [재료명, 레시피 수] 목록
+   */
+  @Query("SELECT ri.name, COUNT(DISTINCT ri.recipe.id) FROM RecipeIngredient ri GROUP BY ri.name")
+  List<Object[]> countRecipesGroupByName();
 
 }
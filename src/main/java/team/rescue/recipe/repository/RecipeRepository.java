@@ -1,9 +1,14 @@
 package team.rescue.recipe.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import team.rescue.member.entity.Member;
 import team.rescue.recipe.entity.Recipe;
@@ -18,4 +23,85 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
 	Page<Recipe> findAllByOrderByBookmarkCountDesc(Pageable pageable);
 
 	Integer countByCreatedAtBefore(LocalDateTime createdAt);
+
+	/**
+	 * 레시피 상세 조회용 단건 조회
+	 * <p>작성자와 작성자의 냉장고(OneToOne 비소유측, 즉시 로딩)를 함께 가져와 추가 조회를 막는다.
+	 *
+	 * @param recipeId 조회할 레시피 ID
+	 * @return 작성자 정보가 채워진 레시피
+	 */
+	@Query("select r from Recipe r join fetch r.member m left join fetch m.fridge where r.id = :recipeId")
+	Optional<Recipe> findDetailById(Long recipeId);
+
+	/**
+	 * 검색 인덱스 재색인용 레시피 조회(ID 순, keyset)
+	 * <p>작성자와 작성자의 냉장고(OneToOne 비소유측, 즉시 로딩)를 함께 가져와 추가 조회를 막는다.
+	 *
+	 * @param lastId   이전 조회의 마지막 레시피 ID(처음은 0)
+	 * @param pageable 조회 개수
+	 * @return lastId 보다 큰 ID 의 레시피
+	 */
+	@Query("select r from Recipe r join fetch r.member m left join fetch m.fridge "
+			+ "where r.id > :lastId order by r.id asc")
+	List<Recipe> findAllForIndexing(Long lastId, Pageable pageable);
+
+	/**
+	 * since 이후 등록 / 수정된 레시피 조회(ID 순, keyset)
+	 * <p>재색인 도중 바뀐 레시피를 새 인덱스에 다시 색인할 때 사용한다.
+	 *
+	 * @param lastId   이전 조회의 마지막 레시피 ID(처음은 0)
+	 * @param since    재색인 시작 시각
+	 * @param pageable 조회 개수
+	 * @return lastId 보다 큰 ID 중 since 이후 등록 / 수정된 레시피
+	 */
+	@Query("select r from Recipe r join fetch r.member m left join fetch m.fridge "
+			+ "where r.id > :lastId and (r.createdAt >= :since or r.modifiedAt >= :since) "
+			+ "order by r.id asc")
+	List<Recipe> findAllModifiedSinceForIndexing(Long lastId, LocalDateTime since, Pageable pageable);
+
+	/**
+	 * 주어진 ID 중 아직 남아 있는 레시피 ID 조회
+	 *
+	 * @param ids 확인할 레시피 ID
+	 * @return 삭제되지 않은 레시피 ID
+	 */
+	@Query("select r.id from Recipe r where r.id in :ids")
+	List<Long> findExistingIds(Collection<Long> ids);
+
+	/**
+	 * 북마크 수 원자적 증감
+	 *
+	 * @param recipeId 레시피 ID
+	 * @param delta    증감 값
+	 * @return 반영된 row 수
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("update Recipe r set r.bookmarkCount = r.bookmarkCount + :delta where r.id = :recipeId")
+	int updateBookmarkCount(Long recipeId, int delta);
+
+	/**
+	 * 리뷰 수 원자적 증감
+	 *
+	 * @param recipeId 레시피 ID
+	 * @param delta    증감 값
+	 * @return 반영된 row 수
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("update Recipe r set r.reviewCount = r.reviewCount + :delta where r.id = :recipeId")
+	int updateReviewCount(Long recipeId, int delta);
+
+	/**
+	 * 신고 수 원자적 증감
+	 *
+	 * @param recipeId 레시피 ID
+	 * @param delta    증감 값
+	 * @return 반영된 row 수
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("update Recipe r set r.reportCount = r.reportCount + :delta where r.id = :recipeId")
+	int updateReportCount(Long recipeId, int delta);
+
+	@Query("select r.bookmarkCount from Recipe r where r.id = :recipeId")
+	Integer findBookmarkCountById(Long recipeId);
 }
@@ -2,6 +2,7 @@ package team.rescue.recipe.repository;
 
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import team.rescue.recipe.entity.Recipe;
 import team.rescue.recipe.entity.RecipeStep;
@@ -11,4 +12,7 @@ public interface RecipeStepRepository extends JpaRepository<RecipeStep, Long> {
 
   List<RecipeStep> findByRecipe(Recipe recipe);
 
+  @Query("SELECT rs FROM RecipeStep rs WHERE rs.recipe.id = :recipeId ORDER BY rs.stepNo ASC")
+  List<RecipeStep> findAllByRecipeId(Long recipeId);
+
 }
@@ -0,0 +1,66 @@
+package team.rescue.recipe.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 조회수 증가분 JDBC 일괄 반영 저장소
+ * <p>레시피마다 UPDATE 를 따로 보내지 않고 JDBC batch 한 번으로 반영한다.
+ * 반영한 묶음 ID 는 recipe_view_count_flush 에 같은 트랜잭션으로 기록해 중복 반영을 막는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeViewCountBulkRepository {
+
+	private static final String INSERT_IGNORE_FLUSH =
+			"INSERT IGNORE INTO recipe_view_count_flush (flush_id, applied_at) VALUES (?, ?)";
+	private static final String INCREASE_VIEW_COUNT =
+			"UPDATE recipe SET view_count = view_count + ? WHERE recipe_id = ?";
+	private static final String DELETE_FLUSH_BEFORE =
+			"DELETE FROM recipe_view_count_flush WHERE applied_at < ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 증가분 묶음 반영 기록
+	 * <p>다른 서버가 같은 묶음을 반영 중이면 그 트랜잭션이 끝날 때까지 기다린 뒤 무시된다.
+	 *
+	 * @param flushId 증가분 묶음 ID
+	 * @return 이번 호출에서 기록했으면 true, 이미 반영된 묶음이면 false
+	 */
+	public boolean markApplied(String flushId) {
+		return jdbcTemplate.update(INSERT_IGNORE_FLUSH,
+				flushId, Timestamp.valueOf(LocalDateTime.now())) == 1;
+	}
+
+	/**
+	 * 레시피별 조회수 증가분 일괄 반영
+	 *
+	 * @param deltas 레시피 ID 별 조회수 증가분
+	 */
+	public void increaseViewCounts(Map<Long, Integer> deltas) {
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<Object[]> rows = new ArrayList<>(deltas.size());
+		deltas.forEach((recipeId, delta) -> rows.add(new Object[]{delta, recipeId}));
+		jdbcTemplate.batchUpdate(INCREASE_VIEW_COUNT, rows);
+	}
+
+	/**
+	 * 오래된 반영 기록 삭제
+	 *
+	 * @param appliedAt 이 시각 이전에 반영된 기록 삭제
+	 * @return 삭제된 기록 수
+	 */
+	public int deleteAppliedBefore(LocalDateTime appliedAt) {
+		return jdbcTemplate.update(DELETE_FLUSH_BEFORE, Timestamp.valueOf(appliedAt));
+	}
+}
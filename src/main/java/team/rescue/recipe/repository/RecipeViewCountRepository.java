@@ -0,0 +1,106 @@
+package team.rescue.recipe.repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레시피 조회수 누적 저장소(Redis Hash)
+ * <p>조회 시 HINCRBY 로 증가분만 쌓고, 스케줄러가 주기적으로 꺼내 DB / ES 에 반영한다.
+ * <p>꺼낼 때는 누적 Hash 를 실행마다 고유한 묶음 key 로 옮기고 대기 목록(Set)에 등록한다.
+ * 묶음은 DB 반영 후에 삭제되므로, 반영 전에 서버가 내려가도 다음 실행(어느 서버든)에서 다시 반영된다.
+ * 같은 묶음의 중복 반영은 DB 의 반영 기록({@link RecipeViewCountBulkRepository#markApplied})으로 막는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class RecipeViewCountRepository {
+
+	private static final String VIEW_COUNT_KEY = "recipe:view_count";
+	private static final String FLUSHING_KEY_PREFIX = "recipe:view_count:flushing:";
+	private static final String PENDING_KEY = "recipe:view_count:pending";
+
+	// 누적 Hash 가 있으면 묶음 key 로 옮기고 대기 목록에 등록
+	private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+			if redis.call('EXISTS', KEYS[1]) == 0 then
+				return 0
+			end
+			redis.call('RENAME', KEYS[1], KEYS[2])
+			redis.call('SADD', KEYS[3], ARGV[1])
+			return 1
+			""", Long.class);
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 레시피 조회수 증가분 1 누적
+	 *
+	 * @param recipeId 조회한 레시피 ID
+	 * @return 아직 반영되지 않은 누적 증가분
+	 */
+	public long increase(Long recipeId) {
+		Long pending = stringRedisTemplate.opsForHash()
+				.increment(VIEW_COUNT_KEY, String.valueOf(recipeId), 1);
+
+		return pending == null ? 0 : pending;
+	}
+
+	/**
+	 * 지금까지 누적된 증가분을 새 묶음으로 분리
+	 * <p>RENAME 과 대기 목록 등록을 스크립트 하나로 처리하므로, 여러 서버가 동시에 호출해도 한 서버만 묶음을 만든다.
+	 *
+	 * @return 새 묶음을 만들었으면 true
+	 */
+	public boolean claim() {
+		String flushId = UUID.randomUUID().toString();
+		Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT,
+				List.of(VIEW_COUNT_KEY, toFlushingKey(flushId), PENDING_KEY), flushId);
+
+		return claimed != null && claimed == 1;
+	}
+
+	/**
+	 * 아직 DB 반영이 끝나지 않은 묶음 목록
+	 *
+	 * @return 묶음 ID 별 레시피 ID 별 조회수 증가분
+	 */
+	public Map<String, Map<Long, Integer>> findPending() {
+		Set<String> flushIds = stringRedisTemplate.opsForSet().members(PENDING_KEY);
+		if (flushIds == null || flushIds.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<String, Map<Long, Integer>> batches = new HashMap<>();
+		for (String flushId : flushIds) {
+			Map<Long, Integer> deltas = new HashMap<>();
+			stringRedisTemplate.<String, String>opsForHash().entries(toFlushingKey(flushId))
+					.forEach((recipeId, delta) ->
+							deltas.put(Long.valueOf(recipeId), Integer.valueOf(delta)));
+			batches.put(flushId, deltas);
+		}
+
+		return batches;
+	}
+
+	/**
+	 * DB 반영이 끝난 묶음 삭제
+	 *
+	 * @param flushId 묶음 ID
+	 */
+	public void complete(String flushId) {
+		stringRedisTemplate.delete(toFlushingKey(flushId));
+		stringRedisTemplate.opsForSet().remove(PENDING_KEY, flushId);
+	}
+
+	private String toFlushingKey(String flushId) {
+		return FLUSHING_KEY_PREFIX + flushId;
+	}
+}
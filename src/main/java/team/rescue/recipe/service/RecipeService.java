@@ -3,21 +3,24 @@ package team.rescue.recipe.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import team.rescue.aop.DistributedLock;
 import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.common.file.FileService;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.error.type.ServiceError;
-import team.rescue.member.dto.MemberDto.MemberInfoDto;
 import team.rescue.member.entity.Member;
 import team.rescue.member.repository.MemberRepository;
 import team.rescue.recipe.dto.BookmarkDto.BookmarkInfoDto;
@@ -39,8 +42,11 @@ import team.rescue.recipe.repository.BookmarkRepository;
 import team.rescue.recipe.repository.RecipeIngredientRepository;
 import team.rescue.recipe.repository.RecipeRepository;
 import team.rescue.recipe.repository.RecipeStepRepository;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
 import team.rescue.search.entity.RecipeDoc;
 import team.rescue.search.repository.RecipeSearchRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
 
 @Slf4j
 @Service
@@ -54,6 +60,10 @@ public class RecipeService {
 	private final RecipeSearchRepository recipeSearchRepository;
 	private final MemberRepository memberRepository;
 	private final BookmarkRepository bookmarkRepository;
+	private final RecipeViewCountRepository recipeViewCountRepository;
+	private final RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+	private final IngredientAutocompleteIndex ingredientAutocompleteIndex;
+	private final TransactionTemplate transactionTemplate;
 
 	/**
 	 * 현재 시각 기준으로 전체 레시피 개수 반환
@@ -64,64 +74,80 @@ public class RecipeService {
 		return recipeRepository.countByCreatedAtBefore(LocalDateTime.now());
 	}
 
-	@Transactional
-	@DistributedLock(prefix = "get_recipe")
+	/**
+	 * 레시피 상세 조회
+	 * <p>레시피 + 작성자는 fetch join 한 번, 재료와 스탭은 레시피 ID로 각각 한 번씩 조회한다.
+	 * 재료와 스탭을 한 쿼리로 join 하면 (재료 수 x 스탭 수) 행이 돌아오므로, 개수와 무관하게 두 번으로 고정한다.
+	 * 로그인 유저라면 북마크 여부 조회가 한 번 추가된다.
+	 * 조회수는 Redis 에 증가분만 누적하고, {@link #flushViewCounts(String, Map)} 에서 일괄 반영한다.
+	 *
+	 * @param id      조회할 레시피 ID
+	 * @param details 로그인 유저(비로그인 시 null)
+	 * @return 레시피 상세 DTO
+	 */
+	@Transactional(readOnly = true)
 	public RecipeDetailDto getRecipe(Long id, PrincipalDetails details) {
 
-		Recipe recipe = recipeRepository.findById(id)
+		Recipe recipe = recipeRepository.findDetailById(id)
 				.orElseThrow(() -> {
 					log.error("레시피 없음");
 					return new ServiceException(ServiceError.RECIPE_NOT_FOUND);
 				});
-		log.debug("레시피 {}", recipe);
-
-		Long memberId = recipe.getMember().getId();
-		log.debug("member Id {}", memberId);
-
-		Member member = memberRepository.findById(memberId)
-				.orElseThrow(() -> {
-					log.error("일치하는 사용자 정보 없음");
-					return new ServiceException(ServiceError.USER_NOT_FOUND);
-				});
-
-		MemberInfoDto memberInfoDto = MemberInfoDto.of(member);
+		log.debug("레시피 {}", recipe.getId());
 
 		List<RecipeIngredient> recipeIngredientList =
-				recipeIngredientRepository.findByRecipe(recipe);
-		List<RecipeIngredientInfoDto> recipeIngredientDtoList =
-				recipeIngredientList.stream().map(RecipeIngredientInfoDto::of).toList();
-
+				recipeIngredientRepository.findAllByRecipeId(id);
 		List<RecipeStep> recipeStepList =
-				recipeStepRepository.findByRecipe(recipe);
-		List<RecipeStepInfoDto> recipeStepDtoList =
-				recipeStepList.stream().map(RecipeStepInfoDto::of).toList();
-
-		recipe.increaseViewCount();
+				recipeStepRepository.findAllByRecipeId(id);
 
 		// 레시피 북마크 여부 반환
 		boolean isBookmarked = false;
 		if (details != null) {
-			isBookmarked = bookmarkRepository.existsByRecipeAndMember(recipe, details.getMember());
+			isBookmarked = bookmarkRepository.existsByRecipeIdAndMemberId(
+					id, details.getMember().getId());
 		}
 
-		return RecipeDetailDto.builder()
-				.id(recipe.getId())
-				.title(recipe.getTitle())
-				.summary(recipe.getSummary())
-				.recipeImageUrl(recipe.getRecipeImageUrl())
-				.viewCount(recipe.getViewCount())
-				.reviewCount(recipe.getReviewCount())
-				.reportCount(recipe.getReportCount())
-				.bookmarkCount(recipe.getBookmarkCount())
-				.createdAt(recipe.getCreatedAt())
-				.recipeIngredients(recipeIngredientDtoList)
-				.recipeSteps(recipeStepDtoList)
-				.author(memberInfoDto)
-				.isBookmarked(isBookmarked)
-				.build();
+		RecipeDetailDto recipeDetailDto =
+				RecipeDetailDto.of(recipe, recipeIngredientList, recipeStepList, isBookmarked);
+
+		// 아직 반영되지 않은 조회수 포함해서 응답
+		recipeDetailDto.setViewCount(
+				(int) (recipe.getViewCount() + increaseViewCount(id)));
+
+		return recipeDetailDto;
 	}
 
+	/**
+	 * 누적된 조회수 증가분 묶음 DB 반영
+	 * <p>묶음 ID 를 같은 트랜잭션에서 기록하므로, 재시도나 다른 서버의 동시 실행으로 같은 묶음이 다시 들어오면 건너뛴다.
+	 *
+	 * @param flushId 증가분 묶음 ID
+	 * @param deltas  레시피 ID 별 조회수 증가분
+	 * @return 레시피 ID 별 반영 후 조회수(이미 반영된 묶음이면 빈 Map)
+	 */
 	@Transactional
+	public Map<Long, Integer> flushViewCounts(String flushId, Map<Long, Integer> deltas) {
+		if (!recipeViewCountBulkRepository.markApplied(flushId)) {
+			log.info("[View Count] 이미 반영된 묶음 flushId={}", flushId);
+			return Map.of();
+		}
+		recipeViewCountBulkRepository.increaseViewCounts(deltas);
+
+		return recipeRepository.findAllById(deltas.keySet()).stream()
+				.collect(Collectors.toMap(Recipe::getId, Recipe::getViewCount));
+	}
+
+	/**
+	 * 레시피 등록
+	 * <p>대표 이미지와 스탭 이미지를 트랜잭션 밖에서 병렬 업로드한 뒤, 트랜잭션에서는 URL 만 저장한다.
+	 * 저장이 실패해 롤백되면 업로드한 이미지를 삭제한다.
+	 *
+	 * @param info             레시피 등록 요청 데이터
+	 * @param recipeImage      레시피 대표 이미지
+	 * @param stepImages       스탭 이미지 목록(스탭 순서와 동일, 이미지 없는 스탭은 빈 파일, 생략 가능)
+	 * @param principalDetails Principal
+	 * @return 등록 레시피 요약 데이터 DTO
+	 */
 	public RecipeInfoDto addRecipe(
 			RecipeCreateDto info,
 			MultipartFile recipeImage,
@@ -132,15 +158,41 @@ public class RecipeService {
 		String memberEmail = principalDetails.getMember().getEmail();
 		log.info("[레시피 생성] userEmail={}", memberEmail);
 
+		if (recipeImage == null || recipeImage.isEmpty()) {
+			throw new ServiceException(ServiceError.FILE_NOT_EXIST);
+		}
+
+		// 대표 이미지 + 스탭 이미지 병렬 업로드
+		List<MultipartFile> images = new ArrayList<>();
+		images.add(recipeImage);
+		for (int i = 0; i < info.getSteps().size(); i++) {
+			images.add(stepImage(stepImages, i));
+		}
+		List<String> imageUrls = fileService.uploadImagesToS3(images);
+
+		try {
+			return transactionTemplate.execute(status -> saveRecipe(
+					info, memberEmail, imageUrls.get(0), imageUrls.subList(1, imageUrls.size())));
+		} catch (RuntimeException e) {
+			log.warn("[레시피 생성] 저장 실패로 업로드 이미지 정리 count={}", imageUrls.size());
+			fileService.deleteImagesQuietly(imageUrls);
+			throw e;
+		}
+	}
+
+	private RecipeInfoDto saveRecipe(
+			RecipeCreateDto info,
+			String memberEmail,
+			String recipeImageFilePath,
+			List<String> stepImageUrls
+	) {
+
 		Member member = memberRepository.findUserByEmail(memberEmail)
 				.orElseThrow(() -> {
 					log.error("일치하는 사용자 정보 없음");
 					return new ServiceException(ServiceError.USER_NOT_FOUND);
 				});
 
-		// 레시피 대표 이미지 저장
-		String recipeImageFilePath = fileService.uploadImageToS3(recipeImage);
-
 		Recipe recipe = Recipe.builder()
 				.title(info.getTitle())
 				.summary(info.getSummary())
@@ -166,33 +218,26 @@ public class RecipeService {
 			ingredients.add(ingredient);
 		}
 		recipeIngredientRepository.saveAll(ingredients);
+		ingredientAutocompleteIndex.updateAfterCommit(List.of(), ingredientNames(ingredients));
 
 		// Recipe Document 저장
-		RecipeDoc recipeDoc = RecipeDoc.of(recipe, ingredients, member, recipeImageFilePath);
-		recipeSearchRepository.save(recipeDoc);
+		saveRecipeDocAfterCommit(RecipeDoc.of(recipe, ingredients, member, recipeImageFilePath));
 
-		// 레시피 스탭들 저장
+		// 레시피 스탭들 저장(이미지는 업로드된 URL 만 연결)
+		List<RecipeStep> steps = new ArrayList<>();
 		for (int i = 0; i < info.getSteps().size(); i++) {
 
 			RecipeStepCreateDto stepDto = info.getSteps().get(i);
-			MultipartFile imageFile = stepImages.get(i);
-
-			// 이미지 파일이 존재하면 저장
-			String stepImageUrl = null;
-			if (imageFile.getSize() > 0) {
-				stepImageUrl = fileService.uploadImageToS3(imageFile);
-			}
 
-			RecipeStep step = RecipeStep.builder()
+			steps.add(RecipeStep.builder()
 					.stepNo(i)
-					.stepImageUrl(stepImageUrl) // URL 설정
+					.stepImageUrl(stepImageUrls.get(i)) // URL 설정
 					.stepDescription(stepDto.getDescription())
 					.stepTip(stepDto.getTip())
 					.recipe(recipe) // 레시피와 연결
-					.build();
-
-			recipeStepRepository.save(step);
+					.build());
 		}
+		recipeStepRepository.saveAll(steps);
 
 		return RecipeInfoDto.of(recipe);
 	}
@@ -243,6 +288,8 @@ public class RecipeService {
 			ingredients.add(ingredient);
 		}
 		recipeIngredientRepository.saveAll(ingredients);
+		ingredientAutocompleteIndex.updateAfterCommit(
+				ingredientNames(existingRecipeIngredientList), ingredientNames(ingredients));
 
 		List<RecipeIngredientInfoDto> updatedRecipeIngredients = new ArrayList<>();
 		for (RecipeIngredient recipeIngredient : ingredients) {
@@ -251,16 +298,15 @@ public class RecipeService {
 
 		// 레시피 스탭 수정 작업
 		// 기존 레시피 스탭 삭제
+		List<String> deletedImageUrls = new ArrayList<>();
 		for (RecipeStepDeleteDto existingRecipeStep : info.getDeleteSteps()) {
-			// 이미지가 있는 스텝이면 s3에서 삭제
 			RecipeStep recipeStep = recipeStepRepository.findById(existingRecipeStep.getId())
 					.orElseThrow(() -> {
 						log.error("스탭을 불러올 수 없습니다.");
 						return new ServiceException(ServiceError.RECIPE_STEP_NOT_FOUND);
 					});
-			if (!(recipeStep.getStepImageUrl() == null || recipeStep.getStepImageUrl().isEmpty())) {
-				fileService.deleteImages(recipeStep.getStepImageUrl());
-			}
+			// 이미지가 있는 스텝이면 커밋 후 s3에서 삭제
+			deletedImageUrls.add(recipeStep.getStepImageUrl());
 			// 스탭 데이터 삭제
 			recipeStepRepository.delete(recipeStep);
 		}
@@ -274,12 +320,13 @@ public class RecipeService {
 			// 스탭 id가 null이면 새로운 스탭 추가
 			if (recipeStepUpdateDto.getId() == null) {
 				// 추가할 이미지가 있는 스탭이라면 이미지 저장
-				recipeStep = createNewRecipeStep(recipeStepUpdateDto, stepImages.get(i), recipe);
+				recipeStep = createNewRecipeStep(recipeStepUpdateDto, stepImage(stepImages, i), recipe);
 
 			}
 			// 스탭 id가 있다면, 기존 스탭 수정
 			else {
-				recipeStep = updateExistingRecipeStep(recipeStepUpdateDto, stepImages.get(i));
+				recipeStep = updateExistingRecipeStep(
+						recipeStepUpdateDto, stepImage(stepImages, i), deletedImageUrls);
 			}
 			recipeStepRepository.save(recipeStep);
 			updatedRecipeStep.add(RecipeStepInfoDto.of(recipeStep));
@@ -288,10 +335,9 @@ public class RecipeService {
 		// 대표 이미지 수정
 		if (recipeImage != null && !recipeImage.isEmpty() &&
 				recipeImage.getSize() > 0 && !Objects.equals(recipeImage.getContentType(), "String")) {
-			String recipeImageFilePath = recipe.getRecipeImageUrl();
-			// 레시피 대표 이미지 업데이트
-			fileService.deleteImages(recipeImageFilePath);
-			recipeImageFilePath = fileService.uploadImageToS3(recipeImage);
+			// 레시피 대표 이미지 업데이트, 기존 이미지는 커밋 후 삭제
+			deletedImageUrls.add(recipe.getRecipeImageUrl());
+			String recipeImageFilePath = fileService.uploadImageToS3(recipeImage);
 
 			recipe.update(
 					info.getTitle(),
@@ -307,6 +353,11 @@ public class RecipeService {
 
 
 		recipeRepository.save(recipe);
+		fileService.deleteImagesAfterCommit(deletedImageUrls);
+
+		// 재료 일치 검색이 바뀐 재료로 계산되도록 Recipe Document 재저장
+		saveRecipeDocAfterCommit(
+				RecipeDoc.of(recipe, ingredients, member, recipe.getRecipeImageUrl()));
 
 		return RecipeInfoDto.of(recipe);
 	}
@@ -336,67 +387,77 @@ public class RecipeService {
 			throw new ServiceException(ServiceError.RECIPE_MEMBER_UNMATCHED);
 		}
 
-		// 레시피 대표 이미지 삭제
-		fileService.deleteImages(recipe.getRecipeImageUrl());
+		// 레시피 대표 이미지, 스탭 이미지는 커밋 후 한 번에 삭제
+		List<String> deletedImageUrls = new ArrayList<>();
+		deletedImageUrls.add(recipe.getRecipeImageUrl());
 
 		// 레시피 ingredient 삭제
 		List<RecipeIngredient> existingRecipeIngredientList =
 				recipeIngredientRepository.findByRecipe(recipe);
 		recipeIngredientRepository.deleteAll(existingRecipeIngredientList);
+		ingredientAutocompleteIndex.updateAfterCommit(
+				ingredientNames(existingRecipeIngredientList), List.of());
 
 		// 레시피 step 삭제
 		List<RecipeStep> existingRecipeStepList = recipeStepRepository.findByRecipe(recipe);
 		for (RecipeStep existingRecipeStep : existingRecipeStepList) {
-
-			// 이미지가 있는 스텝이면 s3에서 삭제
-			if (!(existingRecipeStep.getStepImageUrl() == null || existingRecipeStep.getStepImageUrl()
-					.isEmpty())) {
-				fileService.deleteImages(existingRecipeStep.getStepImageUrl());
-			}
+			deletedImageUrls.add(existingRecipeStep.getStepImageUrl());
 		}
 		recipeStepRepository.deleteAll(existingRecipeStepList);
 
 		recipeRepository.delete(recipe);
+		fileService.deleteImagesAfterCommit(deletedImageUrls);
+		deleteRecipeDocAfterCommit(recipe.getId());
 
 		return RecipeInfoDto.of(recipe);
 	}
 
+	/**
+	 * 레시피 북마크 / 북마크 취소
+	 * <p>북마크 수는 UPDATE 한 번으로 원자적으로 증감하고,
+	 * 같은 유저의 중복 북마크는 (member_id, recipe_id) 유니크 제약으로 막는다.
+	 *
+	 * @param recipeId 북마크할 레시피 ID
+	 * @param email    요청 유저 이메일
+	 * @return 북마크 수 및 북마크 여부
+	 */
 	@Transactional
-	@DistributedLock(prefix = "bookmark_recipe")
 	public BookmarkInfoDto bookmarkRecipe(Long recipeId, String email) {
 		Member member = memberRepository.findUserByEmail(email)
 				.orElseThrow(() -> new ServiceException(ServiceError.USER_NOT_FOUND));
 
-		Recipe recipe = recipeRepository.findById(recipeId)
-				.orElseThrow(() -> new ServiceException(ServiceError.RECIPE_NOT_FOUND));
-
-		Optional<Bookmark> bookmarkOptional = bookmarkRepository.findByRecipeAndMember(recipe, member);
+		if (!recipeRepository.existsById(recipeId)) {
+			throw new ServiceException(ServiceError.RECIPE_NOT_FOUND);
+		}
+		Recipe recipe = recipeRepository.getReferenceById(recipeId);
 
 		// 이미 사용자가 해당 레시피를 북마크 한 경우
-		if (bookmarkOptional.isPresent()) {
-			bookmarkRepository.deleteByRecipeAndMember(recipe, member);
-			recipe.decreaseBookmarkCount();
-			recipeRepository.save(recipe);
+		int deleted = bookmarkRepository.deleteByRecipeAndMember(recipe, member);
+		if (deleted > 0) {
+			recipeRepository.updateBookmarkCount(recipeId, -deleted);
 
 			return BookmarkInfoDto.builder()
-					.bookmarkCount(recipe.getBookmarkCount())
+					.bookmarkCount(recipeRepository.findBookmarkCountById(recipeId))
 					.isBookmarked(false)
 					.build();
-		} else { // 사용자가 해당 레시피를 북마크 하지 않은 경우
-			Bookmark bookmark = Bookmark.builder()
+		}
+
+		// 사용자가 해당 레시피를 북마크 하지 않은 경우
+		try {
+			bookmarkRepository.saveAndFlush(Bookmark.builder()
 					.recipe(recipe)
 					.member(member)
-					.build();
-
-			bookmarkRepository.save(bookmark);
-			recipe.increaseBookmarkCount();
-			recipeRepository.save(recipe);
-
-			return BookmarkInfoDto.builder()
-					.bookmarkCount(recipe.getBookmarkCount())
-					.isBookmarked(true)
-					.build();
+					.build());
+		} catch (DataIntegrityViolationException e) {
+			log.error("중복 북마크 요청 recipeId={}, email={}", recipeId, email);
+			throw new ServiceException(ServiceError.BOOKMARK_ALREADY_PROCESSING);
 		}
+		recipeRepository.updateBookmarkCount(recipeId, 1);
+
+		return BookmarkInfoDto.builder()
+				.bookmarkCount(recipeRepository.findBookmarkCountById(recipeId))
+				.isBookmarked(true)
+				.build();
 	}
 
 	@Transactional(readOnly = true)
@@ -416,7 +477,7 @@ public class RecipeService {
 	private RecipeStep createNewRecipeStep(RecipeStepUpdateDto dto, MultipartFile imageFile,
 			Recipe recipe) {
 		String stepImageUrl = null;
-		if (imageFile.getSize() > 0) {
+		if (imageFile != null && imageFile.getSize() > 0) {
 			stepImageUrl = fileService.uploadImageToS3(imageFile);
 		}
 
@@ -429,16 +490,21 @@ public class RecipeService {
 				.build();
 	}
 
-	private RecipeStep updateExistingRecipeStep(RecipeStepUpdateDto dto, MultipartFile imageFile) {
+	private RecipeStep updateExistingRecipeStep(
+			RecipeStepUpdateDto dto,
+			MultipartFile imageFile,
+			List<String> deletedImageUrls
+	) {
 		RecipeStep recipeStep = recipeStepRepository.findById(dto.getId())
 				.orElseThrow(() -> {
 					log.error("스탭을 불러올 수 없습니다.");
 					return new ServiceException(ServiceError.RECIPE_STEP_NOT_FOUND);
 				});
 
-		if (imageFile.getSize() > 0 && !Objects.equals(imageFile.getContentType(), "String")) {
+		if (imageFile != null && imageFile.getSize() > 0
+				&& !Objects.equals(imageFile.getContentType(), "String")) {
 			String stepImageUrl = fileService.uploadImageToS3(imageFile);
-			fileService.deleteImages(recipeStep.getStepImageUrl());
+			deletedImageUrls.add(recipeStep.getStepImageUrl());
 			recipeStep.updateRecipeStep(dto.getStepNo(), stepImageUrl, dto.getDescription(),
 					dto.getTip());
 		} else {
@@ -447,4 +513,68 @@ public class RecipeService {
 
 		return recipeStep;
 	}
+
+	/**
+	 * 커밋 후 Recipe Document 저장
+	 * <p>롤백된 레시피가 검색되지 않도록 커밋 후에 저장한다. 트랜잭션 밖에서 호출하면 바로 저장한다.
+	 */
+	private void saveRecipeDocAfterCommit(RecipeDoc recipeDoc) {
+		runAfterCommit(() -> recipeSearchRepository.save(recipeDoc),
+				"Recipe Document 저장 실패 recipeId=" + recipeDoc.getId());
+	}
+
+	/**
+	 * 커밋 후 Recipe Document 삭제
+	 */
+	private void deleteRecipeDocAfterCommit(Long recipeId) {
+		runAfterCommit(() -> recipeSearchRepository.delete(recipeId),
+				"Recipe Document 삭제 실패 recipeId=" + recipeId);
+	}
+
+	private void runAfterCommit(Runnable task, String failureMessage) {
+		Runnable quietTask = () -> {
+			try {
+				task.run();
+			} catch (Exception e) {
+				// 레시피는 이미 커밋되었으므로 요청은 실패시키지 않고, 다음 재색인에서 맞춰진다
+				log.error(failureMessage, e);
+			}
+		};
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			quietTask.run();
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				quietTask.run();
+			}
+		});
+	}
+
+	private long increaseViewCount(Long recipeId) {
+		try {
+			return recipeViewCountRepository.increase(recipeId);
+		} catch (Exception e) {
+			// 조회수 누적 실패로 상세 조회가 실패하지 않도록 함
+			log.error("레시피 조회수 누적 실패 recipeId={}", recipeId, e);
+			return 0;
+		}
+	}
+
+	private static List<String> ingredientNames(List<RecipeIngredient> ingredients) {
+		return ingredients.stream()
+				.map(RecipeIngredient::getName)
+				.toList();
+	}
+
+	/**
+	 * index 번째 스탭 이미지
+	 * <p>이미지 목록이 없거나 스탭 수보다 적게 온 경우 이미지 없는 스탭으로 처리한다.
+	 */
+	private static MultipartFile stepImage(List<MultipartFile> stepImages, int index) {
+		return stepImages != null && index < stepImages.size() ? stepImages.get(index) : null;
+	}
 }
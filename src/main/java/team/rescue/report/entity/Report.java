@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -22,7 +23,9 @@ import team.rescue.member.entity.Member;
 import team.rescue.recipe.entity.Recipe;
 
 @Entity
-@Table(name = "report")
+@Table(name = "report", uniqueConstraints = {
+		@UniqueConstraint(name = "uk_report_member_recipe", columnNames = {"member_id", "recipe_id"})
+})
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
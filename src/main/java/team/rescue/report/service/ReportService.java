@@ -2,9 +2,9 @@ package team.rescue.report.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import team.rescue.aop.DistributedLock;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.error.type.ServiceError;
 import team.rescue.member.entity.Member;
@@ -33,7 +33,6 @@ public class ReportService {
 	 * @return 신고 처리 결과
 	 */
 	@Transactional
-	@DistributedLock(prefix = "report_recipe")
 	public ReportInfoDto createReport(
 			Long recipeId,
 			Long reporterId,
@@ -54,16 +53,23 @@ public class ReportService {
 		// 이미 해당 레시피를 신고한 경우
 		validateReport(member, recipe);
 
-		// 레시피 신고 횟수 증가 처리
-		recipe.increaseReportCount();
-
 		Report report = Report.builder()
 				.reason(reason)
 				.reportMember(member)
 				.reportedRecipe(recipe)
 				.build();
 
-		return ReportInfoDto.of(reportRepository.save(report));
+		// 동시에 들어온 중복 신고는 (member_id, recipe_id) 유니크 제약으로 막음
+		try {
+			reportRepository.saveAndFlush(report);
+		} catch (DataIntegrityViolationException e) {
+			throw new ServiceException(ServiceError.REPORT_ALREADY_REPORTED);
+		}
+
+		// 레시피 신고 횟수 증가 처리(원자적 UPDATE)
+		recipeRepository.updateReportCount(recipeId, 1);
+
+		return ReportInfoDto.of(report);
 	}
 
 
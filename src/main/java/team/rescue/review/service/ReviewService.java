@@ -1,5 +1,6 @@
 package team.rescue.review.service;
 
+import java.util.Collections;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,7 +9,6 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import team.rescue.aop.DistributedLock;
 import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.common.file.FileService;
 import team.rescue.cook.entity.Cook;
@@ -52,7 +52,6 @@ public class ReviewService {
 	 * @return 등록 리뷰 요약 데이터 DTO
 	 */
 	@Transactional
-	@DistributedLock(prefix = "review_recipe")
 	public ReviewInfoDto createReview(
 			ReviewReqDto reviewReqDto,
 			MultipartFile image,
@@ -67,7 +66,8 @@ public class ReviewService {
 		Cook cook = cookRepository.getReferenceById(reviewReqDto.getCookId());
 		Recipe recipe = recipeRepository.getReferenceById(reviewReqDto.getRecipeId());
 
-		recipe.increaseReviewCount();
+		// 레시피 리뷰 수 증가(원자적 UPDATE)
+		recipeRepository.updateReviewCount(reviewReqDto.getRecipeId(), 1);
 
 		Review review = Review.builder()
 				.member(member)
@@ -136,10 +136,8 @@ public class ReviewService {
 			// S3 이미지 수정
 			String imageUrl = fileService.uploadImageToS3(image);
 
-			// 기존 이미지 있는 경우 삭제
-			if (review.getImageUrl() != null) {
-				fileService.deleteImages(review.getImageUrl());
-			}
+			// 기존 이미지 있는 경우 커밋 후 삭제
+			fileService.deleteImagesAfterCommit(Collections.singletonList(review.getImageUrl()));
 			// 리뷰 업데이트
 			review.update(request.getTitle(), imageUrl, request.getContents());
 		} else {
@@ -166,13 +164,11 @@ public class ReviewService {
 		// 요청 유저와 삭제할 리뷰 작성자가 동일인인지 검증
 		validateReviewAuthor(email, review);
 
-		// 레시피 리뷰 수 감소
-		Recipe recipe = review.getRecipe();
-		recipe.decreaseReviewCount();
+		// 레시피 리뷰 수 감소(원자적 UPDATE)
+		recipeRepository.updateReviewCount(review.getRecipe().getId(), -1);
 
 		// 리뷰 데이터 삭제
 		reviewRepository.delete(review);
-		recipeRepository.save(recipe);
 
 		return ReviewInfoDto.of(review);
 	}
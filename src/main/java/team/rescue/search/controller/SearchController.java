@@ -19,6 +19,8 @@ import org.springframework.web.bind.annotation.RestController;
 import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.common.dto.ResponseDto;
 import team.rescue.recipe.dto.RecipeDto.RecipeInfoDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCoverageDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCursorDto;
 import team.rescue.search.service.RecipeSearchService;
 import team.rescue.search.service.SearchService;
 import team.rescue.search.type.SortType;
@@ -54,6 +56,30 @@ public class SearchController {
 		);
 	}
 
+	/**
+	 * 키워드 기반 레시피 커서 검색
+	 * <p>search_after 로 이어서 조회하므로 깊은 페이지도 첫 페이지와 같은 비용으로 조회한다.
+	 */
+	@GetMapping("/recipe/keyword/cursor")
+	@PreAuthorize("permitAll()")
+	public ResponseEntity<ResponseDto<RecipeCursorDto>> searchRecipesByKeywordAfter(
+			@RequestParam String keyword,
+			@RequestParam SortType sortType,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size
+	) {
+
+		log.info("[레시피 키워드 커서 검색] keyword={}", keyword);
+
+		RecipeCursorDto recipeCursorDto = recipeSearchService.searchRecipeByKeywordAfter(
+				keyword, Sort.by(sortType.getDirection(), sortType.getSortBy()), cursor, size);
+
+		return new ResponseEntity<>(
+				new ResponseDto<>(keyword + "로 검색한 레시피 목록입니다.", recipeCursorDto),
+				HttpStatus.OK
+		);
+	}
+
 	@GetMapping("/recipe/fridge")
 	@PreAuthorize("hasAuthority('USER')")
 	@Transactional(readOnly = true)
@@ -73,6 +99,76 @@ public class SearchController {
 		);
 	}
 
+	/**
+	 * 냉장고 재료 기반 레시피 커서 검색
+	 */
+	@GetMapping("/recipe/fridge/cursor")
+	@PreAuthorize("hasAuthority('USER')")
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto<RecipeCursorDto>> searchRecipesByFridgeAfter(
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size,
+			@AuthenticationPrincipal PrincipalDetails details
+	) {
+
+		log.info("[레시피 유저 재료 기반 커서 검색] memberId={}", details.getMember().getId());
+
+		RecipeCursorDto recipeCursorDto = recipeSearchService.searchRecipeByFridgeAfter(
+				details.getMember().getId(), cursor, size);
+
+		return new ResponseEntity<>(
+				new ResponseDto<>("냉장고 재료로 검색한 레시피 목록입니다.", recipeCursorDto),
+				HttpStatus.OK
+		);
+	}
+
+	/**
+	 * 냉장고 재료 일치율 기반 레시피 검색
+	 * <p>레시피 재료 중 냉장고에 있는 비율이 높은 순으로, 레시피별 있는 재료 / 없는 재료 목록을 함께 반환
+	 */
+	@GetMapping("/recipe/fridge/coverage")
+	@PreAuthorize("hasAuthority('USER')")
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto<Page<RecipeCoverageDto>>> searchRecipesByFridgeCoverage(
+			Pageable pageable,
+			@AuthenticationPrincipal PrincipalDetails details
+	) {
+
+		log.info("[레시피 냉장고 재료 일치율 검색] memberId={}", details.getMember().getId());
+
+		Page<RecipeCoverageDto> recipeCoveragePage =
+				recipeSearchService.searchRecipeByFridgeCoverage(details.getMember().getId(), pageable);
+
+		return new ResponseEntity<>(
+				new ResponseDto<>("냉장고 재료 일치율 순 레시피 목록입니다.", recipeCoveragePage),
+				HttpStatus.OK
+		);
+	}
+
+	/**
+	 * 소비기한 임박 재료 우선 레시피 검색
+	 * <p>소비기한이 가까운 냉장고 재료를 많이 쓰는 레시피 순으로 반환
+	 */
+	@GetMapping("/recipe/fridge/expiring")
+	@PreAuthorize("hasAuthority('USER')")
+	@Transactional(readOnly = true)
+	public ResponseEntity<ResponseDto<Page<RecipeCoverageDto>>> searchRecipesByExpiringIngredients(
+			Pageable pageable,
+			@AuthenticationPrincipal PrincipalDetails details
+	) {
+
+		log.info("[레시피 소비기한 임박 재료 검색] memberId={}", details.getMember().getId());
+
+		Page<RecipeCoverageDto> recipeCoveragePage =
+				recipeSearchService.searchRecipeByExpiringIngredients(
+						details.getMember().getId(), pageable);
+
+		return new ResponseEntity<>(
+				new ResponseDto<>("소비기한 임박 재료를 사용하는 레시피 목록입니다.", recipeCoveragePage),
+				HttpStatus.OK
+		);
+	}
+
 	/**
 	 * 재료 자동완성
 	 *
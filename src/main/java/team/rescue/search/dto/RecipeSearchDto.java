@@ -1,6 +1,65 @@
 package team.rescue.search.dto;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import team.rescue.recipe.dto.RecipeDto.RecipeInfoDto;
+import team.rescue.search.entity.RecipeDoc;
+
 public class RecipeSearchDto {
 
+	// 냉장고 재료 일치율 검색 응답 DTO
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class RecipeCoverageDto {
+
+		private RecipeInfoDto recipe;
+		private Double coverage; // 레시피 재료 중 냉장고에 있는 비율(0 ~ 1)
+		private List<String> matchedIngredients;
+		private List<String> missingIngredients;
+
+		public static RecipeCoverageDto of(RecipeDoc recipeDoc, Set<String> fridgeIngredients) {
+			List<String> matchedIngredients = new ArrayList<>();
+			List<String> missingIngredients = new ArrayList<>();
+
+			List<String> ingredientNames =
+					recipeDoc.getIngredientNames() == null ? List.of() : recipeDoc.getIngredientNames();
+			for (String ingredientName : ingredientNames) {
+				if (fridgeIngredients.contains(ingredientName)) {
+					matchedIngredients.add(ingredientName);
+				} else {
+					missingIngredients.add(ingredientName);
+				}
+			}
+
+			return RecipeCoverageDto.builder()
+					.recipe(RecipeInfoDto.of(recipeDoc))
+					.coverage(ingredientNames.isEmpty()
+							? 0.0 : (double) matchedIngredients.size() / ingredientNames.size())
+					.matchedIngredients(matchedIngredients)
+					.missingIngredients(missingIngredients)
+					.build();
+		}
+	}
+
+	// 커서 기반 검색 응답 DTO
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	public static class RecipeCursorDto {
 
+		private List<RecipeInfoDto> content;
+		private String nextCursor; // 다음 요청에 넘길 커서(마지막 페이지면 null)
+		private Boolean hasNext;
+	}
 }
@@ -1,6 +1,5 @@
 package team.rescue.search.entity;
 
-import jakarta.persistence.Id;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -10,29 +9,55 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
+import org.springframework.data.elasticsearch.annotations.Setting;
 import team.rescue.auth.type.RoleType;
 import team.rescue.member.entity.Member;
 import team.rescue.recipe.entity.Recipe;
 import team.rescue.recipe.entity.RecipeIngredient;
 
-@Document(indexName = "recipes")
+/**
+ * 레시피 검색 문서
+ * <p>indexName 은 alias 이며, 실제 인덱스는 recipes_v{INDEX_VERSION} 으로 애플리케이션 시작 시 생성한다.
+ * <ul>
+ *   <li>본문 필드: 한국어 1~2 gram 분석(korean_ngram)</li>
+ *   <li>.prefix: 앞글자 검색용 edge n-gram</li>
+ *   <li>.keyword: 정확히 일치하는 값 필터 / 정렬용</li>
+ * </ul>
+ */
+@Document(indexName = RecipeDoc.INDEX_ALIAS, createIndex = false)
+@Setting(settingPath = "elasticsearch/recipe-settings.json")
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecipeDoc {
 
+	public static final String INDEX_ALIAS = "recipes";
+	// 매핑 / 분석기를 바꾸면 올린다(새 인덱스를 만들어 DB 에서 다시 색인)
+	public static final int INDEX_VERSION = 2;
+
 	@Id
+	@Field(type = FieldType.Long)
 	private Long id;
 
-	@Field(type = FieldType.Text)
+	@MultiField(
+			mainField = @Field(type = FieldType.Text, analyzer = "korean_ngram"),
+			otherFields = {
+					@InnerField(suffix = "prefix", type = FieldType.Text,
+							analyzer = "prefix", searchAnalyzer = "prefix_search"),
+					@InnerField(suffix = "keyword", type = FieldType.Keyword, ignoreAbove = 256)
+			}
+	)
 	private String title;
 
-	@Field(type = FieldType.Text)
+	@Field(type = FieldType.Text, analyzer = "korean_ngram")
 	private String summary;
 
 	@Field(type = FieldType.Integer)
@@ -41,26 +66,51 @@ public class RecipeDoc {
 	@Field(type = FieldType.Integer)
 	private Integer reviewCount;
 
-	@Field(type = FieldType.Text)
+	@MultiField(
+			mainField = @Field(type = FieldType.Text, analyzer = "korean_ngram"),
+			otherFields = {
+					@InnerField(suffix = "prefix", type = FieldType.Text,
+							analyzer = "prefix", searchAnalyzer = "prefix_search")
+			}
+	)
 	private String ingredients;
 
+	// 냉장고 재료 일치 검색용(정확히 같은 재료명만 일치)
+	@Field(type = FieldType.Keyword)
+	private List<String> ingredientNames;
+
+	// 재료 일치 비율 계산용 재료 수(ingredientNames 크기)
+	@Field(type = FieldType.Integer)
+	private Integer ingredientCount;
+
 	@Field(type = FieldType.Date, format = DateFormat.date_time)
 	private ZonedDateTime createdAt;
 
 	@Field(type = FieldType.Long)
 	private Long memberId;
 
-	@Field(type = FieldType.Text)
+	@MultiField(
+			mainField = @Field(type = FieldType.Text, analyzer = "korean_ngram"),
+			otherFields = {
+					@InnerField(suffix = "keyword", type = FieldType.Keyword, ignoreAbove = 256)
+			}
+	)
 	private String memberNickname;
 
-	@Field(type = FieldType.Text)
+	@Field(type = FieldType.Keyword)
 	private RoleType memberRole;
 
-	@Field(type = FieldType.Text)
+	@Field(type = FieldType.Keyword, index = false)
 	private String image;
 
 	public static RecipeDoc of(
 			Recipe recipe, List<RecipeIngredient> ingredients, Member member, String recipeImageFilePath) {
+		List<String> ingredientNames = ingredients.stream()
+				.map(ingredient -> normalizeIngredientName(ingredient.getName()))
+				.filter(name -> !name.isEmpty())
+				.distinct()
+				.collect(Collectors.toList());
+
 		return RecipeDoc.builder()
 				.id(recipe.getId())
 				.title(recipe.getTitle())
@@ -70,6 +120,8 @@ public class RecipeDoc {
 				.ingredients(ingredients.stream()
 						.map(RecipeIngredient::getName)
 						.collect(Collectors.joining(" ")))
+				.ingredientNames(ingredientNames)
+				.ingredientCount(ingredientNames.size())
 				.createdAt(recipe.getCreatedAt().atZone(ZoneId.systemDefault()))
 				.memberId(member.getId())
 				.memberNickname(member.getNickname())
@@ -77,4 +129,18 @@ public class RecipeDoc {
 				.image(recipeImageFilePath)
 				.build();
 	}
+
+	/**
+	 * keyword 필드 비교용 재료명 정규화(앞뒤 공백 제거)
+	 */
+	public static String normalizeIngredientName(String name) {
+		return name == null ? "" : name.strip();
+	}
+
+	/**
+	 * 현재 버전의 실제 인덱스 이름
+	 */
+	public static String versionedIndexName() {
+		return INDEX_ALIAS + "_v" + INDEX_VERSION;
+	}
 }
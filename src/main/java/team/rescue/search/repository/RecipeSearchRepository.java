@@ -1,19 +1,30 @@
 package team.rescue.search.repository;
 
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHitSupport;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchPage;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
 import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.data.elasticsearch.core.query.StringQuery;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Component;
 import team.rescue.search.entity.RecipeDoc;
 
@@ -22,6 +33,15 @@ import team.rescue.search.entity.RecipeDoc;
 @Slf4j
 public class RecipeSearchRepository {
 
+	// 일치 재료 수(_score) / 레시피 재료 수
+	private static final String COVERAGE_SCRIPT =
+			"doc['ingredientCount'].size() == 0 || doc['ingredientCount'].value == 0"
+					+ " ? 0 : _score / doc['ingredientCount'].value";
+
+	// 정렬 값이 같은 문서의 순서를 고정해 페이지 / 커서 사이에 누락, 중복이 없도록 한다
+	private static final Sort SCORE_SORT = Sort.by(Direction.DESC, "_score");
+	private static final Sort ID_SORT = Sort.by(Direction.ASC, "id");
+
 	private final ElasticsearchOperations searchOperations;
 
 	/**
@@ -34,6 +54,60 @@ public class RecipeSearchRepository {
 		return searchOperations.save(recipeDoc);
 	}
 
+	/**
+	 * Recipe Document 삭제
+	 *
+	 * @param recipeId 삭제할 레시피 ID
+	 */
+	public void delete(Long recipeId) {
+		searchOperations.delete(String.valueOf(recipeId), RecipeDoc.class);
+	}
+
+	/**
+	 * Recipe Document 일괄 저장
+	 *
+	 * @param recipeDocs 저장할 Recipe Documents
+	 * @param index      저장할 인덱스(alias 전환 전 새 버전 인덱스에 색인할 때 사용)
+	 */
+	public void saveAll(List<RecipeDoc> recipeDocs, IndexCoordinates index) {
+		if (recipeDocs.isEmpty()) {
+			return;
+		}
+
+		searchOperations.save(recipeDocs, index);
+	}
+
+	/**
+	 * Recipe Document 일괄 삭제
+	 *
+	 * @param recipeIds 삭제할 레시피 ID
+	 * @param index     삭제할 인덱스
+	 */
+	public void deleteAll(Collection<Long> recipeIds, IndexCoordinates index) {
+		for (Long recipeId : recipeIds) {
+			searchOperations.delete(String.valueOf(recipeId), index);
+		}
+	}
+
+	/**
+	 * Recipe Document 조회수 일괄 갱신
+	 *
+	 * @param viewCounts 레시피 ID 별 최신 조회수
+	 */
+	public void updateViewCounts(Map<Long, Integer> viewCounts) {
+		if (viewCounts.isEmpty()) {
+			return;
+		}
+
+		List<UpdateQuery> updateQueries = viewCounts.entrySet().stream()
+				.map(entry -> UpdateQuery.builder(String.valueOf(entry.getKey()))
+						.withDocument(Document.create().append("viewCount", entry.getValue()))
+						.build())
+				.collect(Collectors.toList());
+
+		searchOperations.bulkUpdate(updateQueries, RecipeDoc.class);
+	}
+
 	/**
 	 * Recipe Document 재료 기반 검색
 	 *
@@ -42,16 +116,76 @@ public class RecipeSearchRepository {
 	 * @return 재료와 매치되는 Recipe Documents
 	 */
 	public SearchPage<RecipeDoc> searchByIngredients(String ingredients, Pageable pageable) {
-		Criteria criteria = new Criteria();
+		return searchPage(ingredientsCriteria(ingredients), pageable);
+	}
 
-		for (String ingredient : ingredients.split(" ")) {
-			criteria = criteria.or(Criteria.where("ingredients").is(ingredient));
-		}
+	/**
+	 * Recipe Document 재료 기반 커서 검색
+	 * <p>from / size 대신 search_after 로 이어서 조회하므로 뒤쪽 페이지도 첫 페이지와 비용이 같다.
+	 *
+	 * @param ingredients 검색할 재료 문자열
+	 * @param searchAfter 이전 페이지 마지막 문서의 정렬 값(첫 페이지는 null)
+	 * @param size        조회할 문서 수
+	 * @return 재료와 매치되는 Recipe Documents(정렬 값 포함)
+	 */
+	public SearchHits<RecipeDoc> searchByIngredientsAfter(
+			String ingredients, List<Object> searchAfter, int size
+	) {
+		return searchAfter(ingredientsCriteria(ingredients), Sort.unsorted(), searchAfter, size);
+	}
 
-		Query query = new CriteriaQuery(criteria).setPageable(pageable);
-		SearchHits<RecipeDoc> searchHits = searchOperations.search(query, RecipeDoc.class);
+	/**
+	 * Recipe Document 냉장고 재료 일치율 기반 검색
+	 * <p>재료마다 점수 1 인 term 쿼리를 should 로 묶어 _score 가 일치한 재료 수가 되도록 하고,
+	 * 이를 레시피 재료 수로 나눈 값(레시피 재료 중 냉장고에 있는 비율)으로 정렬한다.
+	 * 일치한 재료가 minimumMatch 개 미만인 레시피는 제외하며, 같은 비율이면 ID 순으로 정렬한다.
+	 *
+	 * @param fridgeIngredients 냉장고 재료명(정규화, 중복 제거된 목록)
+	 * @param minimumMatch      최소 일치 재료 수
+	 * @param pageable          페이지네이션 정보(정렬은 무시)
+	 * @return 일치율 순 Recipe Documents
+	 */
+	public SearchHits<RecipeDoc> searchByFridgeCoverage(
+			Collection<String> fridgeIngredients, int minimumMatch, Pageable pageable
+	) {
+		Map<String, Float> ingredientWeights = fridgeIngredients.stream()
+				.collect(Collectors.toMap(ingredient -> ingredient, ingredient -> 1.0f,
+						(first, second) -> first));
 
-		return SearchHitSupport.searchPageFor(searchHits, pageable);
+		NativeQuery query = NativeQuery.builder()
+				.withQuery(q -> q.scriptScore(scriptScore -> scriptScore
+						.query(inner -> inner.bool(bool -> ingredientTerms(bool, ingredientWeights)
+								.minimumShouldMatch(String.valueOf(minimumMatch))))
+						.script(script -> script.inline(inline -> inline.source(COVERAGE_SCRIPT)))))
+				.withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+				.withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+				.withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+				.build();
+
+		return searchOperations.search(query, RecipeDoc.class);
+	}
+
+	/**
+	 * Recipe Document 재료 가중치 기반 검색
+	 * <p>재료마다 가중치를 boost 로 준 term 쿼리를 should 로 묶어, 일치한 재료 가중치의 합으로 정렬한다.
+	 * 같은 점수면 ID 순으로 정렬한다.
+	 *
+	 * @param ingredientWeights 재료명(정규화된) 별 가중치
+	 * @param pageable          페이지네이션 정보(정렬은 무시)
+	 * @return 가중치 합 순 Recipe Documents
+	 */
+	public SearchHits<RecipeDoc> searchByIngredientWeights(
+			Map<String, Float> ingredientWeights, Pageable pageable
+	) {
+		NativeQuery query = NativeQuery.builder()
+				.withQuery(q -> q.bool(bool -> ingredientTerms(bool, ingredientWeights)
+						.minimumShouldMatch("1")))
+				.withSort(sort -> sort.score(score -> score.order(SortOrder.Desc)))
+				.withSort(sort -> sort.field(field -> field.field("id").order(SortOrder.Asc)))
+				.withPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+				.build();
+
+		return searchOperations.search(query, RecipeDoc.class);
 	}
 
 	/**
@@ -62,12 +196,93 @@ public class RecipeSearchRepository {
 	 * @return 키워드와 매치되는 Recipe Documents
 	 */
 	public SearchPage<RecipeDoc> searchByKeyword(String keyword, Pageable pageable) {
-		Criteria criteriaForTitle = Criteria.where("title").matches(keyword);
-		Criteria criteriaForSummary = Criteria.where("summary").matches(keyword);
-		Criteria combinedCriteria = criteriaForTitle.or(criteriaForSummary);
+		return searchPage(keywordCriteria(keyword), pageable);
+	}
+
+	/**
+	 * Recipe Document 키워드 기반 커서 검색
+	 *
+	 * @param keyword     검색할 keyword
+	 * @param sort        정렬 기준(ID 가 마지막 정렬 기준으로 추가됨)
+	 * @param searchAfter 이전 페이지 마지막 문서의 정렬 값(첫 페이지는 null)
+	 * @param size        조회할 문서 수
+	 * @return 키워드와 매치되는 Recipe Documents(정렬 값 포함)
+	 */
+	public SearchHits<RecipeDoc> searchByKeywordAfter(
+			String keyword, Sort sort, List<Object> searchAfter, int size
+	) {
+		return searchAfter(keywordCriteria(keyword), sort, searchAfter, size);
+	}
+
+	/**
+	 * 재료 중 하나라도 포함하는 레시피
+	 * <p>n-gram 으로 분석되므로 재료마다 모든 gram 이 있어야(AND) 일치로 본다.
+	 */
+	private Criteria ingredientsCriteria(String ingredients) {
+		Criteria criteria = new Criteria();
+
+		for (String ingredient : ingredients.split(" ")) {
+			criteria = criteria.or(Criteria.where("ingredients").matchesAll(ingredient));
+		}
+
+		return criteria;
+	}
+
+	/**
+	 * 제목 / 요약에 키워드를 포함하거나 제목이 키워드로 시작하는 레시피
+	 * <p>제목 일치에 가중치를 더 준다.
+	 */
+	private Criteria keywordCriteria(String keyword) {
+		Criteria criteriaForTitle = Criteria.where("title").matchesAll(keyword).boost(3.0f);
+		Criteria criteriaForTitlePrefix = Criteria.where("title.prefix").matchesAll(keyword)
+				.boost(2.0f);
+		Criteria criteriaForSummary = Criteria.where("summary").matchesAll(keyword);
+		return criteriaForTitle.or(criteriaForTitlePrefix).or(criteriaForSummary);
+	}
+
+	private SearchPage<RecipeDoc> searchPage(Criteria criteria, Pageable pageable) {
+		Query query = new CriteriaQuery(criteria)
+				.setPageable(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+				.addSort(withTiebreaker(pageable.getSort()));
 
-		Query query = new CriteriaQuery(combinedCriteria).setPageable(pageable);
 		SearchHits<RecipeDoc> searchHits = searchOperations.search(query, RecipeDoc.class);
 		return SearchHitSupport.searchPageFor(searchHits, pageable);
 	}
+
+	private SearchHits<RecipeDoc> searchAfter(
+			Criteria criteria, Sort sort, List<Object> searchAfter, int size
+	) {
+		Query query = new CriteriaQuery(criteria)
+				.setPageable(PageRequest.of(0, size))
+				.addSort(withTiebreaker(sort));
+
+		if (searchAfter != null) {
+			query.setSearchAfter(searchAfter);
+		}
+
+		return searchOperations.search(query, RecipeDoc.class);
+	}
+
+	/**
+	 * 정렬 기준이 없으면 점수순, 마지막에 ID 오름차순 추가
+	 */
+	private Sort withTiebreaker(Sort sort) {
+		return (sort.isSorted() ? sort : SCORE_SORT).and(ID_SORT);
+	}
+
+	/**
+	 * 재료마다 점수가 가중치로 고정된 term 쿼리를 should 절에 추가
+	 * <p>keyword 필드라 BM25 점수 대신 가중치만 합산되도록 constant_score 로 감싼다.
+	 */
+	private BoolQuery.Builder ingredientTerms(
+			BoolQuery.Builder bool, Map<String, Float> ingredientWeights
+	) {
+		ingredientWeights.forEach((ingredient, weight) -> bool.should(should -> should
+				.constantScore(constantScore -> constantScore
+						.filter(filter -> filter.term(term -> term
+								.field("ingredientNames")
+								.value(ingredient)))
+						.boost(weight))));
+		return bool;
+	}
 }
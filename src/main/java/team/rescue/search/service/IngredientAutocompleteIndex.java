@@ -0,0 +1,120 @@
+package team.rescue.search.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import team.rescue.recipe.repository.RecipeIngredientRepository;
+import team.rescue.search.entity.RecipeDoc;
+
+/**
+ * 재료명 자동완성 인덱스
+ * <p>레시피 재료명과 사용 레시피 수를 애플리케이션 시작 시 메모리의 {@link IngredientTrie} 로 읽어 두고,
+ * 레시피 등록 / 수정 / 삭제가 커밋되면 바뀐 재료만 증감한다.
+ * <p>다른 서버에서 등록된 레시피는 주기적인 전체 재적재({@link #reload()})로 반영된다.
+ * 재적재 도중 커밋된 증감은 이전 trie 에만 반영될 수 있지만 다음 재적재에서 맞춰진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientAutocompleteIndex implements ApplicationRunner {
+
+	private final RecipeIngredientRepository recipeIngredientRepository;
+
+	private volatile IngredientTrie trie = IngredientTrie.of(Map.of());
+
+	@Override
+	public void run(ApplicationArguments args) {
+		try {
+			log.info("[Ingredient Autocomplete] {} ingredients loaded.", reload());
+		} catch (Exception e) {
+			// 자동완성이 비어 있을 뿐 서비스는 가능하므로 기동은 계속하고 다음 재적재에서 채운다
+			log.error("[Ingredient Autocomplete] 초기 적재 실패", e);
+		}
+	}
+
+	/**
+	 * DB 의 재료명별 사용 레시피 수로 trie 를 새로 만들어 교체
+	 *
+	 * @return 적재한 재료명 수
+	 */
+	public int reload() {
+		Map<String, Long> weights = new HashMap<>();
+		for (Object[] row : recipeIngredientRepository.countRecipesGroupByName()) {
+			String name = RecipeDoc.normalizeIngredientName((String) row[0]);
+			if (!name.isEmpty()) {
+				// 앞뒤 공백만 다른 재료명은 합친다
+				weights.merge(name, (Long) row[1], Long::sum);
+			}
+		}
+
+		IngredientTrie loaded = IngredientTrie.of(weights);
+		trie = loaded;
+		return loaded.size();
+	}
+
+	/**
+	 * prefix 로 시작하는 재료명을 사용 레시피 수가 많은 순으로 반환
+	 *
+	 * @param prefix 입력 중인 재료명
+	 * @param limit  최대 개수({@link IngredientTrie#TOP_K} 이하)
+	 */
+	public List<String> complete(String prefix, int limit) {
+		return trie.complete(RecipeDoc.normalizeIngredientName(prefix), limit);
+	}
+
+	/**
+	 * 레시피 한 건의 재료 변경을 커밋 후 반영
+	 * <p>레시피 안에서 중복된 재료명은 한 번만 센다. 트랜잭션 밖에서 호출하면 바로 반영한다.
+	 *
+	 * @param removed 레시피에서 빠진 재료명(수정 전 / 삭제된 재료)
+	 * @param added   레시피에 들어간 재료명(등록 / 수정 후 재료)
+	 */
+	public void updateAfterCommit(Collection<String> removed, Collection<String> added) {
+		Map<String, Long> deltas = new HashMap<>();
+		normalize(removed).forEach(name -> deltas.merge(name, -1L, Long::sum));
+		normalize(added).forEach(name -> deltas.merge(name, 1L, Long::sum));
+		deltas.values().removeIf(delta -> delta == 0);
+
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			apply(deltas);
+			return;
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				apply(deltas);
+			}
+		});
+	}
+
+	private void apply(Map<String, Long> deltas) {
+		IngredientTrie current = trie;
+		deltas.forEach(current::update);
+	}
+
+	private static Set<String> normalize(Collection<String> names) {
+		Set<String> normalized = new LinkedHashSet<>();
+		for (String name : names) {
+			String normalizedName = RecipeDoc.normalizeIngredientName(name);
+			if (!normalizedName.isEmpty()) {
+				normalized.add(normalizedName);
+			}
+		}
+		return normalized;
+	}
+}
@@ -0,0 +1,295 @@
+package team.rescue.search.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재료명 자동완성용 압축 prefix trie(radix tree)
+ * <p>간선에 문자열 조각을 저장해 노드 수를 줄이고, 노드마다 하위 재료 중 인기순 상위 {@link #TOP_K}개를 미리 계산해 둔다.
+ * 자동완성은 prefix 를 따라 내려가 그 노드의 목록을 돌려주기만 하므로 재료 수와 관계없이 prefix 길이에만 비례한다.
+ * <p>인기도는 재료를 사용하는 레시피 수이며, 같으면 이름순으로 정렬한다.
+ * 조회는 read lock, 증감은 write lock 으로 보호한다.
+ */
+final class IngredientTrie {
+
+	static final int TOP_K = 10;
+
+	private static final Comparator<Entry> POPULARITY = Comparator
+			.comparingLong(Entry::weight).reversed()
+			.thenComparing(Entry::word);
+
+	private final Node root = new Node("");
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private int size;
+
+	/**
+	 * 재료명별 인기도로 trie 생성
+	 * <p>모두 넣은 뒤 상위 목록을 한 번에 계산하므로 하나씩 {@link #update} 하는 것보다 빠르다.
+	 */
+	static IngredientTrie of(Map<String, Long> weights) {
+		IngredientTrie trie = new IngredientTrie();
+		weights.forEach((word, weight) -> {
+			if (!word.isEmpty() && weight > 0) {
+				Node node = trie.insert(word, new ArrayList<>());
+				node.word = word;
+				node.weight = weight;
+				trie.size++;
+			}
+		});
+		trie.computeTop(trie.root);
+		return trie;
+	}
+
+	/**
+	 * prefix 로 시작하는 재료명을 인기순으로 최대 limit 개({@link #TOP_K} 이하) 반환
+	 */
+	List<String> complete(String prefix, int limit) {
+		if (prefix.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			Node node = find(prefix);
+			if (node == null) {
+				return List.of();
+			}
+
+			List<Entry> top = node.top;
+			List<String> words = new ArrayList<>(Math.min(limit, top.size()));
+			for (int i = 0; i < top.size() && i < limit; i++) {
+				words.add(top.get(i).word());
+			}
+			return words;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 재료명 인기도 증감
+	 * <p>증가하면 경로 위 노드의 상위 목록에 해당 재료만 다시 끼워 넣는다.
+	 * 감소하면 상위 목록에 있던 노드만 자식 목록으로 다시 계산하고, 0 이하가 되면 재료에서 제외한다.
+	 */
+	void update(String word, long delta) {
+		if (word.isEmpty() || delta == 0) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (delta > 0) {
+				increase(word, delta);
+			} else {
+				decrease(word, -delta);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void increase(String word, long delta) {
+		List<Node> path = new ArrayList<>();
+		Node node = insert(word, path);
+		if (node.word == null) {
+			node.word = word;
+			size++;
+		}
+		node.weight += delta;
+
+		Entry entry = new Entry(word, node.weight);
+		for (Node ancestor : path) {
+			ancestor.top = withEntry(ancestor.top, entry);
+		}
+	}
+
+	private void decrease(String word, long delta) {
+		List<Node> path = new ArrayList<>();
+		Node node = find(word, path);
+		if (node == null || !word.equals(node.word)) {
+			return;
+		}
+
+		node.weight -= delta;
+		if (node.weight <= 0) {
+			node.word = null;
+			node.weight = 0;
+			size--;
+		}
+
+		// 자식부터 다시 계산해야 부모가 갱신된 목록을 사용한다
+		for (int i = path.size() - 1; i >= 0; i--) {
+			Node ancestor = path.get(i);
+			if (contains(ancestor.top, word)) {
+				ancestor.top = collectTop(ancestor);
+			}
+		}
+	}
+
+	/**
+	 * word 에 해당하는 노드를 찾고, 없으면 간선을 나눠 만든다
+	 *
+	 * @param path root 를 제외한 경로 노드가 순서대로 담긴다
+	 */
+	private Node insert(String word, List<Node> path) {
+		Node node = root;
+		int i = 0;
+		while (i < word.length()) {
+			char key = word.charAt(i);
+			Node child = node.children == null ? null : node.children.get(key);
+			if (child == null) {
+				Node leaf = new Node(word.substring(i));
+				node.child(key, leaf);
+				path.add(leaf);
+				return leaf;
+			}
+
+			int common = commonPrefixLength(child.label, word, i);
+			if (common < child.label.length()) {
+				// 간선 분할: 공통 부분까지를 새 노드로 만들고 기존 자식을 그 아래로 옮긴다
+				Node middle = new Node(child.label.substring(0, common));
+				middle.top = child.top;
+				child.label = child.label.substring(common);
+				middle.child(child.label.charAt(0), child);
+				node.child(key, middle);
+				child = middle;
+			}
+
+			path.add(child);
+			node = child;
+			i += common;
+		}
+		return node;
+	}
+
+	private Node find(String prefix) {
+		return find(prefix, null);
+	}
+
+	/**
+	 * prefix 가 끝나는 노드 반환(간선 중간에서 끝나면 그 간선의 자식 노드)
+	 *
+	 * @param path null 이 아니면 root 를 제외한 경로 노드가 순서대로 담긴다
+	 */
+	private Node find(String prefix, List<Node> path) {
+		Node node = root;
+		int i = 0;
+		while (i < prefix.length()) {
+			Node child = node.children == null ? null : node.children.get(prefix.charAt(i));
+			if (child == null) {
+				return null;
+			}
+
+			int common = commonPrefixLength(child.label, prefix, i);
+			if (common < child.label.length() && i + common < prefix.length()) {
+				return null;
+			}
+
+			if (path != null) {
+				path.add(child);
+			}
+			node = child;
+			i += common;
+		}
+		return node;
+	}
+
+	private void computeTop(Node node) {
+		if (node.children != null) {
+			node.children.values().forEach(this::computeTop);
+		}
+		if (node != root) {
+			node.top = collectTop(node);
+		}
+	}
+
+	private List<Entry> collectTop(Node node) {
+		List<Entry> candidates = new ArrayList<>();
+		if (node.word != null) {
+			candidates.add(new Entry(node.word, node.weight));
+		}
+		if (node.children != null) {
+			node.children.values().forEach(child -> candidates.addAll(child.top));
+		}
+		candidates.sort(POPULARITY);
+
+		return candidates.size() > TOP_K
+				? List.copyOf(candidates.subList(0, TOP_K))
+				: List.copyOf(candidates);
+	}
+
+	private static List<Entry> withEntry(List<Entry> top, Entry entry) {
+		List<Entry> updated = new ArrayList<>(top.size() + 1);
+		for (Entry existing : top) {
+			if (!existing.word().equals(entry.word())) {
+				updated.add(existing);
+			}
+		}
+
+		int index = Collections.binarySearch(updated, entry, POPULARITY);
+		updated.add(index < 0 ? -index - 1 : index, entry);
+		if (updated.size() > TOP_K) {
+			updated.remove(TOP_K);
+		}
+		return List.copyOf(updated);
+	}
+
+	private static boolean contains(List<Entry> top, String word) {
+		for (Entry entry : top) {
+			if (entry.word().equals(word)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static int commonPrefixLength(String label, String word, int offset) {
+		int max = Math.min(label.length(), word.length() - offset);
+		int i = 0;
+		while (i < max && label.charAt(i) == word.charAt(offset + i)) {
+			i++;
+		}
+		return i;
+	}
+
+	private record Entry(String word, long weight) {
+
+	}
+
+	private static final class Node {
+
+		// 부모에서 이 노드로 오는 간선의 문자열
+		private String label;
+		private Map<Character, Node> children;
+		// 이 노드에서 끝나는 재료명(없으면 null)과 인기도
+		private String word;
+		private long weight;
+		private List<Entry> top = List.of();
+
+		Node(String label) {
+			this.label = label;
+		}
+
+		void child(char key, Node child) {
+			if (children == null) {
+				children = new HashMap<>(4);
+			}
+			children.put(key, child);
+		}
+	}
+}
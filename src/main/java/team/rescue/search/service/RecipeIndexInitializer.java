@@ -0,0 +1,220 @@
+package team.rescue.search.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.entity.RecipeIngredient;
+import team.rescue.recipe.repository.RecipeIngredientRepository;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.search.entity.RecipeDoc;
+import team.rescue.search.repository.RecipeSearchRepository;
+
+/**
+ * 레시피 검색 인덱스 초기화
+ * <p>애플리케이션 시작 시 현재 버전 인덱스(recipes_v{N})가 없으면 RecipeDoc 의 설정 / 매핑으로 만들고,
+ * DB 에서 전체 레시피를 다시 색인한 뒤 recipes alias 를 새 인덱스로 옮긴다.
+ * 동적 매핑으로 인덱스가 자동 생성되지 않도록 문서 저장은 항상 alias 를 통해서만 한다.
+ * <p>색인은 별도 스레드에서 진행하므로 기동을 막지 않으며, 그동안 검색 / 저장은 이전 인덱스(alias)로 처리된다.
+ * 여러 노드가 동시에 시작하면 인덱스를 만든 노드만 색인하고, 나머지 노드는 생성 실패를 무시한다.
+ * <p>평소의 등록 / 수정 / 삭제는 RecipeService 가 커밋 후 alias 로 반영한다. 색인 중에는 그 반영이 이전 인덱스로 가므로,
+ * alias 전환 후 색인 시작 이후 등록 / 수정(created_at / modified_at)된 레시피를 다시 색인하고 삭제된 레시피는 새 인덱스에서 지운다.
+ * 레시피 수정은 재료만 바뀌어도 modified_at 을 갱신하므로 같은 기준으로 찾을 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "search.index.initialize", havingValue = "true", matchIfMissing = true)
+public class RecipeIndexInitializer implements ApplicationRunner {
+
+	private static final int BATCH_SIZE = 500;
+
+	// 노드 간 시계 차이로 색인 중 수정된 레시피를 놓치지 않도록 시작 시각을 앞당긴다
+	private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+	private final ElasticsearchOperations searchOperations;
+	private final RecipeSearchRepository recipeSearchRepository;
+	private final RecipeRepository recipeRepository;
+	private final RecipeIngredientRepository recipeIngredientRepository;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		Thread thread = new Thread(() -> {
+			try {
+				initialize();
+			} catch (Exception e) {
+				// 이전 인덱스로 검색은 계속 가능하므로 기동은 유지하고 다음 재시작에서 다시 시도한다
+				log.error("[Search Index] 초기화 실패", e);
+			}
+		}, "recipe-index-init");
+		thread.start();
+	}
+
+	/**
+	 * 현재 버전 인덱스 생성, 전체 색인, alias 전환
+	 */
+	void initialize() {
+		String indexName = RecipeDoc.versionedIndexName();
+		IndexCoordinates index = IndexCoordinates.of(indexName);
+		IndexOperations indexOperations = searchOperations.indexOps(index);
+
+		if (indexOperations.exists()) {
+			if (findAliasTargets().contains(indexName)) {
+				log.info("[Search Index] {} 사용", indexName);
+			} else {
+				// 색인이 중단된 인덱스라면 삭제 후 재시작하면 다시 만든다
+				log.warn("[Search Index] {} 가 있지만 alias 가 가리키지 않음. 다른 노드에서 색인 중이거나 중단된 인덱스",
+						indexName);
+			}
+			return;
+		}
+
+		try {
+			indexOperations.create(indexOperations.createSettings(RecipeDoc.class),
+					indexOperations.createMapping(RecipeDoc.class));
+		} catch (RuntimeException e) {
+			if (indexOperations.exists()) {
+				// resource_already_exists: 동시에 시작한 다른 노드가 먼저 만들었으므로 색인은 그 노드에 맡긴다
+				log.info("[Search Index] {} 를 다른 노드가 생성", indexName);
+				return;
+			}
+			throw e;
+		}
+
+		LocalDateTime startedAt = LocalDateTime.now().minus(CATCH_UP_MARGIN);
+		List<Long> indexedIds =
+				reindex(index, lastId -> recipeRepository.findAllForIndexing(lastId, PageRequest.of(0, BATCH_SIZE)));
+		indexOperations.refresh();
+		switchAlias(indexName);
+
+		// 색인하는 동안 이전 인덱스로 저장 / 수정되거나 삭제된 레시피
+		List<Long> modifiedIds = reindex(index, lastId -> recipeRepository
+				.findAllModifiedSinceForIndexing(lastId, startedAt, PageRequest.of(0, BATCH_SIZE)));
+		int deletedCount = deleteRemoved(index, indexedIds);
+		indexOperations.refresh();
+
+		log.info("[Search Index] {} 생성 완료. indexed={}, modified={}, deleted={}",
+				indexName, indexedIds.size(), modifiedIds.size(), deletedCount);
+	}
+
+	/**
+	 * finder 로 레시피를 ID 순으로 끝까지 읽어 색인
+	 *
+	 * @param finder 이전 조회의 마지막 레시피 ID 로 다음 레시피 목록을 조회
+	 * @return 색인한 레시피 ID
+	 */
+	private List<Long> reindex(IndexCoordinates index, LongFunction<List<Recipe>> finder) {
+		List<Long> indexedIds = new ArrayList<>();
+		long lastId = 0L;
+
+		while (true) {
+			List<Recipe> recipes = finder.apply(lastId);
+			if (recipes.isEmpty()) {
+				return indexedIds;
+			}
+
+			Map<Long, List<RecipeIngredient>> ingredients = recipeIngredientRepository
+					.findAllByRecipeIdIn(recipes.stream().map(Recipe::getId).toList())
+					.stream()
+					.collect(Collectors.groupingBy(ingredient -> ingredient.getRecipe().getId()));
+
+			List<RecipeDoc> recipeDocs = new ArrayList<>(recipes.size());
+			for (Recipe recipe : recipes) {
+				recipeDocs.add(RecipeDoc.of(recipe,
+						ingredients.getOrDefault(recipe.getId(), List.of()),
+						recipe.getMember(), recipe.getRecipeImageUrl()));
+				indexedIds.add(recipe.getId());
+			}
+			recipeSearchRepository.saveAll(recipeDocs, index);
+
+			lastId = recipes.get(recipes.size() - 1).getId();
+		}
+	}
+
+	/**
+	 * 색인한 레시피 중 DB 에서 삭제된 레시피를 인덱스에서 삭제
+	 *
+	 * @return 삭제한 문서 수
+	 */
+	private int deleteRemoved(IndexCoordinates index, List<Long> indexedIds) {
+		int deletedCount = 0;
+
+		for (int from = 0; from < indexedIds.size(); from += BATCH_SIZE) {
+			List<Long> ids = indexedIds.subList(from, Math.min(from + BATCH_SIZE, indexedIds.size()));
+			Set<Long> removedIds = new HashSet<>(ids);
+			recipeRepository.findExistingIds(ids).forEach(removedIds::remove);
+
+			recipeSearchRepository.deleteAll(removedIds, index);
+			deletedCount += removedIds.size();
+		}
+
+		return deletedCount;
+	}
+
+	/**
+	 * recipes alias 가 indexName 만 가리키도록 한 번의 요청으로 전환
+	 * <p>alias 이름과 같은 인덱스(동적 매핑으로 자동 생성된 이전 인덱스)가 있으면 같은 요청에서 삭제한다.
+	 * 데이터는 DB 에서 다시 색인했으므로 버려도 된다.
+	 */
+	private void switchAlias(String indexName) {
+		Set<String> currentIndices = findAliasTargets();
+		if (currentIndices.equals(Set.of(indexName))) {
+			return;
+		}
+
+		AliasActions aliasActions = new AliasActions();
+		if (currentIndices.contains(RecipeDoc.INDEX_ALIAS)) {
+			log.warn("[Search Index] alias 가 아닌 {} 인덱스 삭제", RecipeDoc.INDEX_ALIAS);
+			aliasActions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+					.withIndices(RecipeDoc.INDEX_ALIAS)
+					.build()));
+		} else {
+			currentIndices.stream()
+					.filter(name -> !name.equals(indexName))
+					.forEach(name -> aliasActions.add(new AliasAction.Remove(
+							AliasActionParameters.builder()
+									.withIndices(name)
+									.withAliases(RecipeDoc.INDEX_ALIAS)
+									.build())));
+		}
+		aliasActions.add(new AliasAction.Add(AliasActionParameters.builder()
+				.withIndices(indexName)
+				.withAliases(RecipeDoc.INDEX_ALIAS)
+				.build()));
+
+		searchOperations.indexOps(IndexCoordinates.of(RecipeDoc.INDEX_ALIAS)).alias(aliasActions);
+		log.info("[Search Index] {} -> {} alias 전환", RecipeDoc.INDEX_ALIAS, indexName);
+	}
+
+	/**
+	 * recipes alias 가 가리키는 인덱스
+	 * <p>alias 면 alias 가 가리키는 인덱스들, 일반 인덱스면 자기 자신이 조회된다.
+	 */
+	private Set<String> findAliasTargets() {
+		IndexOperations aliasOperations =
+				searchOperations.indexOps(IndexCoordinates.of(RecipeDoc.INDEX_ALIAS));
+
+		return aliasOperations.exists()
+				? aliasOperations.getAliasesForIndex(RecipeDoc.INDEX_ALIAS).keySet()
+				: Set.of();
+	}
+}
@@ -1,12 +1,21 @@
 package team.rescue.search.service;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.SearchPage;
 import org.springframework.stereotype.Service;
 import team.rescue.error.exception.ServiceException;
@@ -17,6 +26,8 @@ import team.rescue.fridge.repository.FridgeRepository;
 import team.rescue.member.entity.Member;
 import team.rescue.member.repository.MemberRepository;
 import team.rescue.recipe.dto.RecipeDto.RecipeInfoDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCoverageDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCursorDto;
 import team.rescue.search.entity.RecipeDoc;
 import team.rescue.search.repository.RecipeSearchRepository;
 
@@ -25,6 +36,13 @@ import team.rescue.search.repository.RecipeSearchRepository;
 @RequiredArgsConstructor
 public class RecipeSearchService {
 
+	// 냉장고 재료 일치율 검색에서 최소로 일치해야 하는 재료 수
+	private static final int MINIMUM_MATCHED_INGREDIENTS = 2;
+	// 소비기한 당일 재료의 추가 가중치(남은 일수가 늘수록 1 / (1 + 남은 일수) 로 감소)
+	private static final float EXPIRY_BOOST = 4.0f;
+	// 커서 검색 한 번에 조회할 수 있는 최대 레시피 수
+	public static final int MAX_CURSOR_SIZE = 100;
+
 	private final RecipeSearchRepository recipeSearchRepository;
 	private final MemberRepository memberRepository;
 	private final FridgeRepository fridgeRepository;
@@ -35,24 +53,68 @@ public class RecipeSearchService {
 
 		log.info("키워드 검색 서비스");
 
-		SearchPage<RecipeDoc> searchHits =
+		SearchPage<RecipeDoc> searchPage =
 				recipeSearchRepository.searchByKeyword(keyword, pageable);
 
-		// 검색 결과가 비어 있는지 확인
-		if (searchHits.isEmpty()) {
+		// 검색 결과가 비어 있는지 확인(마지막 페이지 이후 요청은 빈 페이지로 응답)
+		if (searchPage.getSearchHits().getTotalHits() == 0) {
 			throw new ServiceException(ServiceError.SEARCH_KEYWORD_NOT_FOUND);
 		}
 
-		List<RecipeInfoDto> recipeInfoDtos = searchHits.getContent().stream()
-				.map(hit -> RecipeInfoDto.of(hit.getContent()))
-				.collect(Collectors.toList());
+		return searchPage.map(hit -> RecipeInfoDto.of(hit.getContent()));
+	}
 
-		return new PageImpl<>(recipeInfoDtos);
+	/**
+	 * 키워드 기반 레시피 커서 검색
+	 *
+	 * @param keyword 키워드
+	 * @param sort    정렬 기준
+	 * @param cursor  이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size    조회할 레시피 수(1 ~ {@value #MAX_CURSOR_SIZE})
+	 * @return 레시피 목록과 다음 커서
+	 */
+	public RecipeCursorDto searchRecipeByKeywordAfter(
+			String keyword, Sort sort, String cursor, int size
+	) {
+		validateCursorSize(size);
+		SearchHits<RecipeDoc> searchHits = recipeSearchRepository.searchByKeywordAfter(
+				keyword, sort, SearchCursor.decode(cursor), size + 1);
+
+		return toCursorDto(searchHits, size);
 	}
 
 	public Page<RecipeInfoDto> searchRecipeByFridge(
 			Long memberId, Pageable pageable
 	) {
+		String ingredients = fridgeIngredientNames(memberId);
+
+		// 문자열 검색
+		SearchPage<RecipeDoc> searchPage =
+				recipeSearchRepository.searchByIngredients(ingredients, pageable);
+
+		return searchPage.map(hit -> RecipeInfoDto.of(hit.getContent()));
+	}
+
+	/**
+	 * 냉장고 재료 기반 레시피 커서 검색
+	 *
+	 * @param memberId 회원 ID
+	 * @param cursor   이전 응답의 nextCursor(첫 페이지는 null)
+	 * @param size     조회할 레시피 수(1 ~ {@value #MAX_CURSOR_SIZE})
+	 * @return 레시피 목록과 다음 커서
+	 */
+	public RecipeCursorDto searchRecipeByFridgeAfter(Long memberId, String cursor, int size) {
+		validateCursorSize(size);
+		List<Object> searchAfter = SearchCursor.decode(cursor);
+		String ingredients = fridgeIngredientNames(memberId);
+
+		SearchHits<RecipeDoc> searchHits = recipeSearchRepository.searchByIngredientsAfter(
+				ingredients, searchAfter, size + 1);
+
+		return toCursorDto(searchHits, size);
+	}
+
+	private String fridgeIngredientNames(Long memberId) {
 		Member member = memberRepository.findById(memberId)
 				.orElseThrow(() -> new ServiceException(ServiceError.USER_NOT_FOUND));
 
@@ -68,15 +130,133 @@ public class RecipeSearchService {
 			ingredients.append(fridgeIngredient.getName()).append(" ");
 		}
 
-		// 문자열 검색
-		SearchPage<RecipeDoc> searchPage =
-				recipeSearchRepository.searchByIngredients(ingredients.toString().strip(), pageable);
+		return ingredients.toString().strip();
+	}
+
+	private static void validateCursorSize(int size) {
+		if (size < 1 || size > MAX_CURSOR_SIZE) {
+			throw new ServiceException(ServiceError.SEARCH_SIZE_INVALID);
+		}
+	}
+
+	/**
+	 * size + 1 개를 조회해 다음 페이지 여부를 판단하고, 마지막으로 돌려준 문서의 정렬 값을 커서로 만든다.
+	 */
+	private RecipeCursorDto toCursorDto(SearchHits<RecipeDoc> searchHits, int size) {
+		List<SearchHit<RecipeDoc>> hits = searchHits.getSearchHits();
+		boolean hasNext = hits.size() > size;
+		List<SearchHit<RecipeDoc>> page = hasNext ? hits.subList(0, size) : hits;
+
+		return RecipeCursorDto.builder()
+				.content(page.stream()
+						.map(hit -> RecipeInfoDto.of(hit.getContent()))
+						.collect(Collectors.toList()))
+				.nextCursor(hasNext
+						? SearchCursor.encode(page.get(page.size() - 1).getSortValues()) : null)
+				.hasNext(hasNext)
+				.build();
+	}
+
+	/**
+	 * 냉장고 재료 일치율 기반 레시피 검색
+	 * <p>레시피 재료 중 냉장고에 있는 재료의 비율이 높은 순으로 정렬하고,
+	 * 레시피마다 냉장고에 있는 재료 / 없는 재료 목록을 함께 돌려준다.
+	 *
+	 * @param memberId 회원 ID
+	 * @param pageable 페이지네이션 정보
+	 * @return 일치율 순 레시피 목록
+	 */
+	public Page<RecipeCoverageDto> searchRecipeByFridgeCoverage(
+			Long memberId, Pageable pageable
+	) {
+		Member member = memberRepository.findById(memberId)
+				.orElseThrow(() -> new ServiceException(ServiceError.USER_NOT_FOUND));
+
+		Fridge fridge = fridgeRepository.findByMember(member)
+				.orElseThrow(() -> new ServiceException(ServiceError.FRIDGE_NOT_FOUND));
+
+		Set<String> fridgeIngredients = new LinkedHashSet<>();
+		for (FridgeIngredient fridgeIngredient : fridge.getIngredientList()) {
+			String name = RecipeDoc.normalizeIngredientName(fridgeIngredient.getName());
+			if (!name.isEmpty()) {
+				fridgeIngredients.add(name);
+			}
+		}
+
+		if (fridgeIngredients.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		SearchHits<RecipeDoc> searchHits = recipeSearchRepository.searchByFridgeCoverage(
+				fridgeIngredients,
+				Math.min(MINIMUM_MATCHED_INGREDIENTS, fridgeIngredients.size()),
+				pageable
+		);
 
-		List<RecipeInfoDto> recipeInfoDtoList = searchPage.getSearchHits().stream()
-				.map(recipeDocSearchHit -> RecipeInfoDto.of(recipeDocSearchHit.getContent()))
-        .collect(Collectors.toList());
+		List<RecipeCoverageDto> recipeCoverageDtos = searchHits.getSearchHits().stream()
+				.map(hit -> RecipeCoverageDto.of(hit.getContent(), fridgeIngredients))
+				.collect(Collectors.toList());
 
-		return new PageImpl<>(recipeInfoDtoList);
+		return new PageImpl<>(recipeCoverageDtos, pageable, searchHits.getTotalHits());
 	}
 
+	/**
+	 * 소비기한 임박 재료 우선 레시피 검색
+	 * <p>냉장고 재료마다 남은 일수로 가중치를 매겨 검색 쿼리의 재료별 boost 로 넘긴다.
+	 * 소비기한이 지난 재료는 제외하고, 소비기한이 없는 재료는 기본 가중치 1 을 준다.
+	 *
+	 * @param memberId 회원 ID
+	 * @param pageable 페이지네이션 정보
+	 * @return 임박 재료를 많이 쓰는 순 레시피 목록
+	 */
+	public Page<RecipeCoverageDto> searchRecipeByExpiringIngredients(
+			Long memberId, Pageable pageable
+	) {
+		Member member = memberRepository.findById(memberId)
+				.orElseThrow(() -> new ServiceException(ServiceError.USER_NOT_FOUND));
+
+		Fridge fridge = fridgeRepository.findByMember(member)
+				.orElseThrow(() -> new ServiceException(ServiceError.FRIDGE_NOT_FOUND));
+
+		LocalDate today = LocalDate.now();
+		Map<String, Float> ingredientWeights = new LinkedHashMap<>();
+		for (FridgeIngredient fridgeIngredient : fridge.getIngredientList()) {
+			String name = RecipeDoc.normalizeIngredientName(fridgeIngredient.getName());
+			if (name.isEmpty()
+					|| (fridgeIngredient.getExpiredAt() != null
+					&& fridgeIngredient.getExpiredAt().isBefore(today))) {
+				continue;
+			}
+
+			// 같은 재료가 여러 개면 가장 임박한 것 기준
+			ingredientWeights.merge(name, expiryWeight(fridgeIngredient.getExpiredAt(), today),
+					Math::max);
+		}
+
+		if (ingredientWeights.isEmpty()) {
+			return Page.empty(pageable);
+		}
+
+		SearchHits<RecipeDoc> searchHits =
+				recipeSearchRepository.searchByIngredientWeights(ingredientWeights, pageable);
+
+		List<RecipeCoverageDto> recipeCoverageDtos = searchHits.getSearchHits().stream()
+				.map(hit -> RecipeCoverageDto.of(hit.getContent(), ingredientWeights.keySet()))
+				.collect(Collectors.toList());
+
+		return new PageImpl<>(recipeCoverageDtos, pageable, searchHits.getTotalHits());
+	}
+
+	/**
+	 * 소비기한까지 남은 일수 기반 재료 가중치
+	 * <p>당일 1 + EXPIRY_BOOST, 내일 1 + EXPIRY_BOOST / 2, ... 로 줄어들어 1 에 가까워진다.
+	 */
+	static float expiryWeight(LocalDate expiredAt, LocalDate today) {
+		if (expiredAt == null) {
+			return 1.0f;
+		}
+
+		long daysRemaining = Math.max(0, ChronoUnit.DAYS.between(today, expiredAt));
+		return 1.0f + EXPIRY_BOOST / (1 + daysRemaining);
+	}
 }
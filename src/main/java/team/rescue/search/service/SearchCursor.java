@@ -0,0 +1,53 @@
+package team.rescue.search.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import team.rescue.error.exception.ServiceException;
+import team.rescue.error.type.ServiceError;
+
+/**
+ * search_after 커서 인코딩
+ * <p>마지막 문서의 정렬 값 목록을 JSON 으로 직렬화한 뒤 URL-safe Base64 로 감싸 클라이언트에 넘긴다.
+ */
+final class SearchCursor {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private SearchCursor() {
+	}
+
+	static String encode(List<Object> sortValues) {
+		try {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(OBJECT_MAPPER.writeValueAsBytes(sortValues));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("검색 커서 생성 실패", e);
+		}
+	}
+
+	/**
+	 * @return 정렬 값 목록, 커서가 없으면 null(첫 페이지)
+	 */
+	static List<Object> decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			List<Object> sortValues = OBJECT_MAPPER.readValue(
+					new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8),
+					new TypeReference<>() {
+					});
+			if (sortValues == null || sortValues.isEmpty()) {
+				throw new ServiceException(ServiceError.SEARCH_CURSOR_INVALID);
+			}
+			return sortValues;
+		} catch (IllegalArgumentException | JsonProcessingException e) {
+			throw new ServiceException(ServiceError.SEARCH_CURSOR_INVALID);
+		}
+	}
+}
@@ -1,85 +1,156 @@
 package team.rescue.aop;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.web.multipart.MultipartFile;
+import team.rescue.auth.user.PrincipalDetails;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.error.type.ServiceError;
+import team.rescue.review.dto.ReviewDto.ReviewReqDto;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class LockAopAspectTest {
 
 	@Mock
 	LockManager lockManager;
 
 	@Mock
-	ProceedingJoinPoint proceedingJoinPoint;
+	LockMetrics lockMetrics;
 
 	@Mock
-	MethodSignature methodSignature;
+	ProceedingJoinPoint proceedingJoinPoint;
 
 	@Mock
-	DistributedLock distributedLock;
+	MethodSignature methodSignature;
 
 	@InjectMocks
 	LockAopAspect lockAopAspect;
 
-	@Test
-	@DisplayName("락 획득 및 해제 성공")
-	void lockAndUnlock() throws Throwable {
-		// given
-
+	@BeforeEach
+	void setup() throws NoSuchMethodException {
 		given(proceedingJoinPoint.getSignature())
 				.willReturn(methodSignature);
 
 		given(methodSignature.getMethod())
-				.willReturn(getClass().getMethod("exampleMethod"));
+				.willReturn(getClass().getMethod("exampleMethod", Long.class));
 
-		lockAopAspect.distributeLock(proceedingJoinPoint, 123L);
+		given(proceedingJoinPoint.getArgs())
+				.willReturn(new Object[]{123L});
+
+		given(lockManager.getType())
+				.willReturn("local");
+	}
+
+	@Test
+	@DisplayName("락 획득 및 해제 성공")
+	void lockAndUnlock() throws Throwable {
+		// given
+		given(lockManager.tryLock("recipe_bookmark", "123"))
+				.willReturn(true);
+
+		// when
+		lockAopAspect.distributeLock(proceedingJoinPoint);
 
 		// then
-		verify(lockManager, times(1)).lock(eq("recipe_bookmark"), anyString());
+		verify(lockManager, times(1)).tryLock(eq("recipe_bookmark"), eq("123"));
 		verify(proceedingJoinPoint, times(1)).proceed();
-		verify(lockManager, times(1)).unlock(eq("recipe_bookmark"), anyString());
+		verify(lockManager, times(1)).unlock(eq("recipe_bookmark"), eq("123"));
+		verify(lockMetrics, times(1))
+				.recordWait(eq("recipe_bookmark"), eq("local"), eq("acquired"), anyLong());
+		verify(lockMetrics, times(1)).recordHold(eq("recipe_bookmark"), eq("local"), anyLong());
 	}
 
 	@Test
 	@DisplayName("예외가 발생해도 락 획득 및 해제 성공")
 	void lockAndUnlock_evenIfException() throws Throwable {
 		// given
-		given(proceedingJoinPoint.getSignature())
-				.willReturn(methodSignature);
-
-		given(methodSignature.getMethod())
-				.willReturn(getClass().getMethod("exampleMethod"));
+		given(lockManager.tryLock("recipe_bookmark", "123"))
+				.willReturn(true);
 
 		given(proceedingJoinPoint.proceed())
 				.willThrow(new ServiceException(ServiceError.LOCK_ACQUISITION_FAIL));
 
+		// when
 		Assertions.assertThrows(ServiceException.class,
-				() -> lockAopAspect.distributeLock(proceedingJoinPoint, 123L));
+				() -> lockAopAspect.distributeLock(proceedingJoinPoint));
 
 		// then
-		verify(lockManager, times(1)).lock(eq("recipe_bookmark"), anyString());
+		verify(lockManager, times(1)).tryLock(eq("recipe_bookmark"), anyString());
 		verify(proceedingJoinPoint, times(1)).proceed();
 		verify(lockManager, times(1)).unlock(eq("recipe_bookmark"), anyString());
+	}
+
+	@Test
+	@DisplayName("락 획득 시간 초과 - 메서드 실행 및 락 해제 없음")
+	void lockTimeout() throws Throwable {
+		// given
+		given(lockManager.tryLock("recipe_bookmark", "123"))
+				.willReturn(false);
 
+		// when
+		Assertions.assertThrows(ServiceException.class,
+				() -> lockAopAspect.distributeLock(proceedingJoinPoint));
+
+		// then
+		verify(proceedingJoinPoint, never()).proceed();
+		verify(lockManager, never()).unlock(anyString(), anyString());
+		verify(lockMetrics, times(1)).recordTimeout("recipe_bookmark", "local");
+	}
+
+	@Test
+	@DisplayName("DTO 필드를 key 로 사용하는 메서드 - 파라미터 순서와 무관하게 락 key 평가")
+	void lockWithNestedKey() throws Throwable {
+		// given
+		ReviewReqDto reviewReqDto = new ReviewReqDto();
+		reviewReqDto.setRecipeId(7L);
+
+		given(methodSignature.getMethod())
+				.willReturn(getClass().getMethod("reviewMethod",
+						ReviewReqDto.class, MultipartFile.class, PrincipalDetails.class));
+		given(proceedingJoinPoint.getArgs())
+				.willReturn(new Object[]{reviewReqDto, null, null});
+		given(lockManager.tryLock("review", "7"))
+				.willReturn(true);
+
+		// when
+		lockAopAspect.distributeLock(proceedingJoinPoint);
+
+		// then
+		verify(lockManager, times(1)).tryLock(eq("review"), eq("7"));
+		verify(proceedingJoinPoint, times(1)).proceed();
+		verify(lockManager, times(1)).unlock(eq("review"), eq("7"));
 	}
 
 	@DistributedLock(prefix = "recipe_bookmark")
-	public String exampleMethod() {
+	public String exampleMethod(Long recipeId) {
+		return "result";
+	}
+
+	@DistributedLock(prefix = "review", key = "#p0.recipeId")
+	public String reviewMethod(
+			ReviewReqDto reviewReqDto,
+			MultipartFile image,
+			PrincipalDetails details
+	) {
 		return "result";
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,256 @@
+package team.rescue.common.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import team.rescue.error.exception.ServiceException;
+import team.rescue.error.type.ServiceError;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FileServiceTest {
+
+	private static final String BUCKET = "bucket";
+
+	@Mock
+	AmazonS3 s3Client;
+
+	ExecutorService executorService;
+	FileService fileService;
+
+	@BeforeEach
+	void setup() {
+		executorService = Executors.newFixedThreadPool(4);
+		fileService = new FileService(s3Client, executorService,
+				new S3StreamingUploader(s3Client), new ImageDeletionQueue(s3Client));
+		ReflectionTestUtils.setField(fileService, "bucketName", BUCKET);
+
+		given(s3Client.getUrl(anyString(), anyString()))
+				.willAnswer(invocation -> new URL("https://s3/" + invocation.getArgument(1)));
+	}
+
+	@AfterEach
+	void cleanup() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("이미지 업로드 성공 - 원본, 중간 크기, 썸네일 저장")
+	void uploadImageToS3() throws IOException {
+		// given
+		MultipartFile image = image("recipe.png", 2000, 1000);
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+		// when
+		String imageUrl = fileService.uploadImageToS3(image);
+
+		// then
+		verify(s3Client, times(ImageVariant.values().length)).putObject(captor.capture());
+		assertTrue(imageUrl.contains("/" + ImageVariant.ORIGINAL.getPrefix()));
+		assertTrue(imageUrl.endsWith(ImageVariant.RESIZED_MARKER + ".png"));
+
+		for (PutObjectRequest request : captor.getAllValues()) {
+			if (request.getKey().startsWith(ImageVariant.THUMBNAIL.getPrefix())) {
+				BufferedImage thumbnail = ImageIO.read(request.getInputStream());
+				assertEquals(ImageVariant.THUMBNAIL.getMaxSize(), thumbnail.getWidth());
+				assertEquals(ImageVariant.RESIZED_CONTENT_TYPE,
+						request.getMetadata().getContentType());
+				assertTrue(request.getKey().endsWith("." + ImageVariant.RESIZED_FORMAT));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("이미지 업로드 성공 - EXIF 방향 정보대로 회전한 축소본 저장")
+	void uploadImageToS3_exifOrientation() throws IOException {
+		// given: 가로로 저장되었지만 90도 회전(6)해서 보여야 하는 휴대폰 사진
+		MultipartFile image = new MockMultipartFile("image", "photo.jpg", "image/jpeg",
+				jpegWithOrientation(400, 200, 6));
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+		// when
+		fileService.uploadImageToS3(image);
+
+		// then
+		verify(s3Client, times(ImageVariant.values().length)).putObject(captor.capture());
+		PutObjectRequest thumbnailRequest = captor.getAllValues().stream()
+				.filter(request -> request.getKey().startsWith(ImageVariant.THUMBNAIL.getPrefix()))
+				.findFirst()
+				.orElseThrow();
+		BufferedImage thumbnail = ImageIO.read(thumbnailRequest.getInputStream());
+		assertTrue(thumbnail.getHeight() > thumbnail.getWidth());
+	}
+
+	@Test
+	@DisplayName("이미지 업로드 성공 - 디코딩할 수 없는 이미지 형식은 원본만 저장")
+	void uploadImageToS3_undecodableFormat() {
+		// given: ImageIO 기본 reader 가 없는 WebP
+		MultipartFile image = new MockMultipartFile("image", "recipe.webp", "image/webp",
+				"RIFF\0\0\0\0WEBPVP8 ".getBytes());
+		ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+		// when
+		String imageUrl = fileService.uploadImageToS3(image);
+
+		// then
+		verify(s3Client, times(1)).putObject(captor.capture());
+		assertTrue(captor.getValue().getKey().startsWith(ImageVariant.ORIGINAL.getPrefix()));
+		assertEquals(imageUrl, ImageVariant.THUMBNAIL.toUrl(imageUrl));
+		assertEquals(imageUrl, ImageVariant.MEDIUM.toUrl(imageUrl));
+	}
+
+	@Test
+	@DisplayName("이미지 업로드 실패 - 이미지가 아닌 파일")
+	void uploadImageToS3_notImage() {
+		// given
+		MultipartFile file = new MockMultipartFile("image", "recipe.txt", "text/plain",
+				"not an image".getBytes());
+
+		// when
+		ServiceException serviceException = assertThrows(ServiceException.class,
+				() -> fileService.uploadImageToS3(file));
+
+		// then
+		assertEquals(ServiceError.FILE_EXTENSION_INVALID.getHttpStatus(),
+				serviceException.getStatusCode());
+	}
+
+	@Test
+	@DisplayName("이미지 병렬 업로드 성공 - 입력 순서 유지, 빈 파일은 null")
+	void uploadImagesToS3() throws IOException {
+		// given
+		List<MultipartFile> images = List.of(
+				image("recipe.png", 100, 100),
+				new MockMultipartFile("image", "empty.png", "image/png", new byte[0]),
+				image("step.png", 100, 100)
+		);
+
+		// when
+		List<String> imageUrls = fileService.uploadImagesToS3(images);
+
+		// then
+		assertEquals(3, imageUrls.size());
+		assertNull(imageUrls.get(1));
+		verify(s3Client, times(2 * ImageVariant.values().length))
+				.putObject(any(PutObjectRequest.class));
+	}
+
+	@Test
+	@DisplayName("이미지 병렬 업로드 실패 - 성공한 이미지 삭제 후 예외")
+	void uploadImagesToS3_cleanupOnFailure() throws IOException {
+		// given
+		List<MultipartFile> images = List.of(
+				image("recipe.png", 100, 100),
+				new MockMultipartFile("image", "broken.png", "image/png", brokenPng())
+		);
+
+		// when
+		ServiceException serviceException = assertThrows(ServiceException.class,
+				() -> fileService.uploadImagesToS3(images));
+
+		// then
+		assertEquals(ServiceError.FILE_EXTENSION_INVALID.getHttpStatus(),
+				serviceException.getStatusCode());
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+	}
+
+	@Test
+	@DisplayName("변형 이미지 URL 생성")
+	void variantUrl() {
+		String originUrl = "https://bucket.s3.amazonaws.com/origin/123_abc_rs.png";
+
+		assertEquals("https://bucket.s3.amazonaws.com/thumbnail/123_abc_rs.jpg",
+				ImageVariant.THUMBNAIL.toUrl(originUrl));
+		assertEquals("https://bucket.s3.amazonaws.com/medium/123_abc_rs.jpg",
+				ImageVariant.MEDIUM.toUrl(originUrl));
+		assertEquals(originUrl, ImageVariant.ORIGINAL.toUrl(originUrl));
+		assertNull(ImageVariant.THUMBNAIL.toUrl(null));
+	}
+
+	@Test
+	@DisplayName("변형 이미지 URL 생성 - 축소본이 없는 기존 이미지는 원본 URL")
+	void variantUrl_legacyImage() {
+		String originUrl = "https://bucket.s3.amazonaws.com/origin/123_abc.png";
+
+		assertEquals(originUrl, ImageVariant.THUMBNAIL.toUrl(originUrl));
+		assertEquals(originUrl, ImageVariant.MEDIUM.toUrl(originUrl));
+	}
+
+	private MockMultipartFile image(String name, int width, int height) throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png",
+				outputStream);
+		return new MockMultipartFile("image", name, "image/png", outputStream.toByteArray());
+	}
+
+	/**
+	 * PNG 시그니처 뒤가 깨진 파일(형식은 인식되지만 디코딩 실패)
+	 */
+	private byte[] brokenPng() {
+		return new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 1, 2, 3};
+	}
+
+	/**
+	 * EXIF 방향 정보(APP1)를 넣은 JPEG
+	 */
+	private byte[] jpegWithOrientation(int width, int height, int orientation) throws IOException {
+		ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+		byte[] jpegBytes = jpeg.toByteArray();
+
+		// Big endian TIFF 헤더 + IFD0(Orientation 태그 1개)
+		byte[] exif = {
+				'E', 'x', 'i', 'f', 0, 0,
+				'M', 'M', 0, 42, 0, 0, 0, 8,
+				0, 1,
+				0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+				0, 0, 0, 0
+		};
+		int segmentLength = exif.length + 2;
+
+		// SOI, JFIF(APP0) 세그먼트 바로 뒤에 APP1 세그먼트 삽입
+		int insertPos = 2;
+		if (jpegBytes[2] == (byte) 0xFF && jpegBytes[3] == (byte) 0xE0) {
+			insertPos += 2 + (((jpegBytes[4] & 0xFF) << 8) | (jpegBytes[5] & 0xFF));
+		}
+
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		outputStream.write(jpegBytes, 0, insertPos);
+		outputStream.write(new byte[]{(byte) 0xFF, (byte) 0xE1,
+				(byte) (segmentLength >> 8), (byte) segmentLength});
+		outputStream.write(exif);
+		outputStream.write(jpegBytes, insertPos, jpegBytes.length - insertPos);
+		return outputStream.toByteArray();
+	}
+}
@@ -0,0 +1,130 @@
+package team.rescue.common.file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ImageDeletionQueueTest {
+
+	@Mock
+	AmazonS3 s3Client;
+
+	ImageDeletionQueue imageDeletionQueue;
+
+	@BeforeEach
+	void setup() {
+		imageDeletionQueue = new ImageDeletionQueue(s3Client);
+		ReflectionTestUtils.setField(imageDeletionQueue, "bucketName", "bucket");
+	}
+
+	@AfterEach
+	void cleanup() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("일괄 삭제 - 요청당 최대 1000개 key")
+	void flushInBatches() {
+		// given
+		imageDeletionQueue.enqueueAfterCommit(keys(2500));
+		ArgumentCaptor<DeleteObjectsRequest> captor =
+				ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+
+		// when
+		int deleted = imageDeletionQueue.flush();
+
+		// then
+		verify(s3Client, times(3)).deleteObjects(captor.capture());
+		assertEquals(List.of(1000, 1000, 500),
+				captor.getAllValues().stream().map(request -> request.getKeys().size()).toList());
+		assertEquals(2500, deleted);
+		assertEquals(0, imageDeletionQueue.size());
+	}
+
+	@Test
+	@DisplayName("트랜잭션 안에서 요청 - 커밋 전에는 큐에 넣지 않음, 롤백 시 버림")
+	void enqueueAfterCommit() {
+		// given
+		TransactionSynchronizationManager.initSynchronization();
+
+		// when
+		imageDeletionQueue.enqueueAfterCommit(keys(3));
+
+		// then: 커밋 전
+		assertEquals(0, imageDeletionQueue.size());
+
+		// 롤백
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(
+						TransactionSynchronization.STATUS_ROLLED_BACK));
+		assertEquals(0, imageDeletionQueue.size());
+
+		// 커밋
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(TransactionSynchronization::afterCommit);
+		assertEquals(3, imageDeletionQueue.size());
+	}
+
+	@Test
+	@DisplayName("삭제 실패 - 다음 주기에 재시도")
+	void retryOnFailure() {
+		// given
+		imageDeletionQueue.enqueueAfterCommit(keys(10));
+		given(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+				.willThrow(new RuntimeException("S3 unavailable"))
+				.willReturn(new DeleteObjectsResult(List.of()));
+
+		// when: 첫 주기 실패 - 같은 주기에서 바로 재시도하지 않음
+		int firstDeleted = imageDeletionQueue.flush();
+
+		// then
+		assertEquals(0, firstDeleted);
+		assertEquals(10, imageDeletionQueue.size());
+		verify(s3Client, times(1)).deleteObjects(any(DeleteObjectsRequest.class));
+
+		// when: 다음 주기 성공
+		int secondDeleted = imageDeletionQueue.flush();
+
+		// then
+		assertEquals(10, secondDeleted);
+		assertEquals(0, imageDeletionQueue.size());
+	}
+
+	@Test
+	@DisplayName("빈 요청 - S3 호출 없음")
+	void emptyFlush() {
+		imageDeletionQueue.enqueueAfterCommit(List.of());
+
+		assertEquals(0, imageDeletionQueue.flush());
+		verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+	}
+
+	private List<String> keys(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> "origin/" + i + ".png")
+				.toList();
+	}
+}
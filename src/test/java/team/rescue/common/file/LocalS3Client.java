@@ -0,0 +1,168 @@
+package team.rescue.common.file;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest.KeyVersion;
+import com.amazonaws.services.s3.model.DeleteObjectsResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 테스트용 인메모리 S3
+ * <p>{@code cloud.aws.s3.mode=local} 일 때 실제 S3 대신 등록된다({@link team.rescue.config.LocalS3Config}).
+ * FileService 가 사용하는 PUT, 멀티파트 업로드, 삭제, URL 조회만 지원한다.
+ */
+@Slf4j
+public class LocalS3Client extends AbstractAmazonS3 {
+
+	private static final String BASE_URL = "http://localhost/local-s3/";
+
+	private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+	@Override
+	public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+		try (InputStream inputStream = putObjectRequest.getFile() == null
+				? putObjectRequest.getInputStream()
+				: Files.newInputStream(putObjectRequest.getFile().toPath())) {
+			objects.put(path(putObjectRequest.getBucketName(), putObjectRequest.getKey()),
+					inputStream.readAllBytes());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return new PutObjectResult();
+	}
+
+	@Override
+	public InitiateMultipartUploadResult initiateMultipartUpload(
+			InitiateMultipartUploadRequest request) {
+
+		String uploadId = UUID.randomUUID().toString();
+		multipartUploads.put(uploadId, new ConcurrentSkipListMap<>());
+
+		InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+		result.setBucketName(request.getBucketName());
+		result.setKey(request.getKey());
+		result.setUploadId(uploadId);
+		return result;
+	}
+
+	@Override
+	public UploadPartResult uploadPart(UploadPartRequest request) {
+		try {
+			byte[] part = request.getInputStream().readNBytes((int) request.getPartSize());
+			multipartUploads.get(request.getUploadId()).put(request.getPartNumber(), part);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		UploadPartResult result = new UploadPartResult();
+		result.setPartNumber(request.getPartNumber());
+		result.setETag(String.valueOf(request.getPartNumber()));
+		return result;
+	}
+
+	@Override
+	public CompleteMultipartUploadResult completeMultipartUpload(
+			CompleteMultipartUploadRequest request) {
+
+		Map<Integer, byte[]> parts = multipartUploads.remove(request.getUploadId());
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		for (PartETag partETag : request.getPartETags()) {
+			outputStream.writeBytes(parts.get(partETag.getPartNumber()));
+		}
+		objects.put(path(request.getBucketName(), request.getKey()), outputStream.toByteArray());
+
+		CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+		result.setBucketName(request.getBucketName());
+		result.setKey(request.getKey());
+		return result;
+	}
+
+	@Override
+	public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+		multipartUploads.remove(request.getUploadId());
+	}
+
+	@Override
+	public S3Object getObject(String bucketName, String key) {
+		byte[] bytes = Optional.ofNullable(objects.get(path(bucketName, key)))
+				.orElseThrow(() -> new IllegalArgumentException("No such key: " + key));
+
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentLength(bytes.length);
+
+		S3Object s3Object = new S3Object();
+		s3Object.setBucketName(bucketName);
+		s3Object.setKey(key);
+		s3Object.setObjectMetadata(objectMetadata);
+		s3Object.setObjectContent(new ByteArrayInputStream(bytes));
+		return s3Object;
+	}
+
+	@Override
+	public boolean doesObjectExist(String bucketName, String objectName) {
+		return objects.containsKey(path(bucketName, objectName));
+	}
+
+	@Override
+	public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+		objects.remove(path(deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey()));
+	}
+
+	@Override
+	public DeleteObjectsResult deleteObjects(DeleteObjectsRequest deleteObjectsRequest) {
+		for (KeyVersion keyVersion : deleteObjectsRequest.getKeys()) {
+			objects.remove(path(deleteObjectsRequest.getBucketName(), keyVersion.getKey()));
+		}
+
+		return new DeleteObjectsResult(List.of());
+	}
+
+	@Override
+	public URL getUrl(String bucketName, String key) {
+		try {
+			return new URL(BASE_URL + path(bucketName, key));
+		} catch (MalformedURLException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	/**
+	 * 진행 중인 멀티파트 업로드 수(중단된 업로드 정리 확인용)
+	 */
+	public int getPendingMultipartUploadCount() {
+		return multipartUploads.size();
+	}
+
+	private String path(String bucketName, String key) {
+		return bucketName + "/" + key;
+	}
+}
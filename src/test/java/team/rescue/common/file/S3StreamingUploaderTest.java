@@ -0,0 +1,112 @@
+package team.rescue.common.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import team.rescue.error.exception.ServiceException;
+
+class S3StreamingUploaderTest {
+
+	private static final String BUCKET = "bucket";
+
+	LocalS3Client s3Client;
+	S3StreamingUploader s3StreamingUploader;
+
+	@BeforeEach
+	void setup() {
+		s3Client = new LocalS3Client();
+		s3StreamingUploader = new S3StreamingUploader(s3Client);
+	}
+
+	@Test
+	@DisplayName("파트 크기 이하 - 단일 PUT 업로드")
+	void uploadSinglePart() throws IOException {
+		// given
+		byte[] data = randomBytes(2 * 1024 * 1024);
+
+		// when
+		s3StreamingUploader.upload(BUCKET, "origin/small.png",
+				new ByteArrayInputStream(data), data.length, "image/png");
+
+		// then
+		assertArrayEquals(data,
+				s3Client.getObject(BUCKET, "origin/small.png").getObjectContent().readAllBytes());
+	}
+
+	@Test
+	@DisplayName("파트 크기 초과 - 고정 버퍼로 멀티파트 업로드")
+	void uploadMultipart() throws IOException {
+		// given: 2개 파트 + 마지막 자투리 파트
+		byte[] data = randomBytes(S3StreamingUploader.PART_SIZE * 2 + 1234);
+		CountingInputStream inputStream = new CountingInputStream(new ByteArrayInputStream(data));
+
+		// when
+		s3StreamingUploader.upload(BUCKET, "origin/large.png",
+				inputStream, data.length, "image/png");
+
+		// then
+		assertArrayEquals(data,
+				s3Client.getObject(BUCKET, "origin/large.png").getObjectContent().readAllBytes());
+		assertEquals(S3StreamingUploader.PART_SIZE, inputStream.maxReadSize);
+		assertEquals(0, s3Client.getPendingMultipartUploadCount());
+	}
+
+	@Test
+	@DisplayName("멀티파트 업로드 중 스트림 오류 - 업로드 중단 후 예외")
+	void uploadMultipart_abortOnFailure() {
+		// given
+		InputStream brokenStream = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("connection reset");
+			}
+		};
+
+		// when
+		assertThrows(ServiceException.class, () -> s3StreamingUploader.upload(BUCKET,
+				"origin/broken.png", brokenStream, S3StreamingUploader.PART_SIZE + 1L, "image/png"));
+
+		// then
+		assertEquals(0, s3Client.getPendingMultipartUploadCount());
+		assertFalse(s3Client.doesObjectExist(BUCKET, "origin/broken.png"));
+	}
+
+	private byte[] randomBytes(int size) {
+		byte[] data = new byte[size];
+		new Random(42).nextBytes(data);
+		return data;
+	}
+
+	/**
+	 * 한 번에 요청된 최대 읽기 크기 기록
+	 */
+	private static class CountingInputStream extends InputStream {
+
+		private final InputStream delegate;
+		private int maxReadSize;
+
+		CountingInputStream(InputStream delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int read() throws IOException {
+			return delegate.read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			maxReadSize = Math.max(maxReadSize, len);
+			return delegate.read(b, off, len);
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package team.rescue.config;
+
+import com.amazonaws.services.s3.AmazonS3;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import team.rescue.common.file.LocalS3Client;
+
+/**
+ * 테스트 프로필(cloud.aws.s3.mode=local)에서 실제 S3 대신 인메모리 S3 등록
+ */
+@Slf4j
+@Configuration
+public class LocalS3Config {
+
+	@Bean
+	@ConditionalOnProperty(name = "cloud.aws.s3.mode", havingValue = "local")
+	public AmazonS3 localS3Client() {
+		log.info("[S3] LocalS3Client 사용");
+		return new LocalS3Client();
+	}
+}
@@ -0,0 +1,142 @@
+package team.rescue.cook.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.config.JpaConfig;
+import team.rescue.cook.dto.CookDto.CookCreateDto;
+import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUseDto;
+import team.rescue.fridge.entity.Fridge;
+import team.rescue.fridge.entity.FridgeIngredient;
+import team.rescue.fridge.repository.FridgeIngredientBulkRepository;
+import team.rescue.fridge.repository.FridgeIngredientRepository;
+import team.rescue.fridge.service.FridgeService;
+import team.rescue.member.entity.Member;
+import team.rescue.recipe.entity.Recipe;
+
+/**
+ * 요리 완료 DB 왕복 횟수 마이크로벤치마크
+ * <p>냉장고 재료 10, 100, 1000개 중 절반을 삭제하고 절반의 메모를 수정할 때
+ * 실행되는 SQL 수가 재료 수와 무관하게(수정 batch 수 제외) 일정한지 확인한다.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.properties.hibernate.jdbc.batch_size=100"
+})
+@Import({JpaConfig.class, CookService.class, FridgeService.class,
+		FridgeIngredientBulkRepository.class})
+class CookCompleteRoundTripTest {
+
+	// 유저, 냉장고, 대상 재료, 삭제, 레시피, 요리 저장, 응답용 작성자 조회 + 여유분
+	private static final long FIXED_STATEMENT_BUDGET = 10;
+	private static final int BATCH_SIZE = 100;
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	CookService cookService;
+
+	@Autowired
+	FridgeIngredientRepository fridgeIngredientRepository;
+
+	@ParameterizedTest(name = "냉장고 재료 {0}개")
+	@ValueSource(ints = {10, 100, 1000})
+	@DisplayName("요리 완료 - 재료 수와 무관한 SQL 수")
+	void completeCookRoundTrips(int size) {
+		// given
+		Member member = em.persist(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		Fridge fridge = em.persist(Fridge.builder()
+				.member(member)
+				.build());
+
+		Recipe recipe = em.persist(Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(0)
+				.isBlocked(false)
+				.member(member)
+				.build());
+
+		List<Long> delete = new ArrayList<>();
+		List<FridgeIngredientUseDto> update = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			FridgeIngredient fridgeIngredient = em.persist(FridgeIngredient.builder()
+					.fridge(fridge)
+					.name("재료" + i)
+					.memo("3개")
+					.expiredAt(LocalDate.now().plusDays(7))
+					.build());
+
+			if (i % 2 == 0) {
+				delete.add(fridgeIngredient.getId());
+			} else {
+				update.add(FridgeIngredientUseDto.builder()
+						.id(fridgeIngredient.getId())
+						.memo("1개")
+						.build());
+			}
+		}
+
+		em.flush();
+		em.clear();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		CookCreateDto cookCreateDto = CookCreateDto.builder()
+				.recipeId(recipe.getId())
+				.delete(delete)
+				.update(update)
+				.build();
+
+		// when
+		long startedAt = System.nanoTime();
+		cookService.completeCook(cookCreateDto, member.getEmail());
+		long elapsed = System.nanoTime() - startedAt;
+
+		// then
+		long statements = statistics.getPrepareStatementCount();
+		long updateBatches = (update.size() + BATCH_SIZE - 1) / BATCH_SIZE;
+
+		log.info("[Cook Benchmark] size={}, statements={}, updateBatches={}, elapsed={}ms",
+				size, statements, updateBatches, TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+		assertTrue(statements <= FIXED_STATEMENT_BUDGET + updateBatches,
+				"statements=" + statements);
+		assertEquals(update.size(), fridgeIngredientRepository.findByFridge(fridge).size());
+	}
+}
@@ -5,6 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static team.rescue.error.type.ServiceError.INGREDIENT_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.RECIPE_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.USER_NOT_FOUND;
@@ -27,10 +31,7 @@ import team.rescue.cook.entity.Cook;
 import team.rescue.cook.repository.CookRepository;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUseDto;
-import team.rescue.fridge.entity.Fridge;
-import team.rescue.fridge.entity.FridgeIngredient;
-import team.rescue.fridge.repository.FridgeIngredientRepository;
-import team.rescue.fridge.repository.FridgeRepository;
+import team.rescue.fridge.service.FridgeService;
 import team.rescue.member.entity.Member;
 import team.rescue.member.repository.MemberRepository;
 import team.rescue.mock.WithMockMember;
@@ -50,10 +51,7 @@ class CookServiceTest {
 	CookRepository cookRepository;
 
 	@Mock
-	FridgeIngredientRepository fridgeIngredientRepository;
-
-	@Mock
-	FridgeRepository fridgeRepository;
+	FridgeService fridgeService;
 
 	@InjectMocks
 	CookService cookService;
@@ -68,11 +66,6 @@ class CookServiceTest {
 				.email("test@gmail.com")
 				.build();
 
-		Fridge fridge = Fridge.builder()
-				.id(1L)
-				.member(member)
-				.build();
-
 		Recipe recipe = Recipe.builder()
 				.id(1L)
 				.title("양파 볶음")
@@ -87,28 +80,9 @@ class CookServiceTest {
 		List<FridgeIngredientUseDto> list = new ArrayList<>(
 				Collections.singletonList(fridgeIngredientUseDto));
 
-		FridgeIngredient fridgeIngredient = FridgeIngredient.builder()
-				.fridge(fridge)
-				.id(1L)
-				.name("양파")
-				.memo("양파 3개")
-				.build();
-
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		given(fridgeIngredientRepository.findById(anyLong()))
-				.willReturn(Optional.of(fridgeIngredient));
-
-		FridgeIngredient updatedFridgeIngredient = FridgeIngredient.builder()
-				.id(1L)
-				.name("양파")
-				.memo("양파 2개")
-				.build();
-
-		given(fridgeIngredientRepository.save(any()))
-				.willReturn(updatedFridgeIngredient);
-
 		given(recipeRepository.findById(1L))
 				.willReturn(Optional.of(recipe));
 
@@ -132,6 +106,7 @@ class CookServiceTest {
 		CookInfoDto cookInfoDto = cookService.completeCook(cookCreateDto, "test@gmail.com");
 
 		// then
+		verify(fridgeService, times(1)).useIngredients(member, cookCreateDto.getDelete(), list);
 		assertEquals(1L, cookInfoDto.getId());
 		assertEquals(LocalDateTime.of(2024, 1, 12, 0, 0, 0), cookInfoDto.getCreatedAt());
 	}
@@ -170,9 +145,6 @@ class CookServiceTest {
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		given(fridgeIngredientRepository.findById(1L))
-				.willReturn(Optional.empty());
-
 		FridgeIngredientUseDto fridgeIngredientUseDto = FridgeIngredientUseDto.builder()
 				.id(1L)
 				.memo("양파 2개")
@@ -187,11 +159,16 @@ class CookServiceTest {
 				.update(list)
 				.build();
 
+		willThrow(new ServiceException(INGREDIENT_NOT_FOUND))
+				.given(fridgeService).useIngredients(member, cookCreateDto.getDelete(), list);
+
 		// when
 		ServiceException serviceException = assertThrows(ServiceException.class,
 				() -> cookService.completeCook(cookCreateDto, "test@gmail.com"));
 
 		// then
+		verify(recipeRepository, never()).findById(anyLong());
+		verify(cookRepository, never()).save(any());
 		assertEquals(INGREDIENT_NOT_FOUND.getHttpStatus(), serviceException.getStatusCode());
 	}
 
@@ -205,11 +182,6 @@ class CookServiceTest {
 				.email("test@gmail.com")
 				.build();
 
-		Fridge fridge = Fridge.builder()
-				.id(1L)
-				.member(member)
-				.build();
-
 		Recipe recipe = Recipe.builder()
 				.id(1L)
 				.title("양파 볶음")
@@ -230,28 +202,9 @@ class CookServiceTest {
 				.update(list)
 				.build();
 
-		FridgeIngredient fridgeIngredient = FridgeIngredient.builder()
-				.fridge(fridge)
-				.id(1L)
-				.name("양파")
-				.memo("양파 3개")
-				.build();
-
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		given(fridgeIngredientRepository.findById(anyLong()))
-				.willReturn(Optional.of(fridgeIngredient));
-
-		FridgeIngredient updatedFridgeIngredient = FridgeIngredient.builder()
-				.id(1L)
-				.name("양파")
-				.memo("양파 2개")
-				.build();
-
-		given(fridgeIngredientRepository.save(any()))
-				.willReturn(updatedFridgeIngredient);
-
 		given(recipeRepository.findById(1L))
 				.willReturn(Optional.empty());
 
@@ -0,0 +1,112 @@
+package team.rescue.fridge.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.config.JpaConfig;
+import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientCreateDto;
+import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientInfoDto;
+import team.rescue.fridge.entity.Fridge;
+import team.rescue.fridge.entity.FridgeIngredient;
+import team.rescue.fridge.repository.FridgeIngredientBulkRepository;
+import team.rescue.fridge.repository.FridgeIngredientRepository;
+import team.rescue.member.entity.Member;
+
+/**
+ * 냉장고 재료 등록 벤치마크
+ * <p>재료마다 exists + save 하던 기존 방식과 일괄 저장 방식을 1, 50, 500개 기준으로 비교한다.
+ * 절대 시간은 환경에 따라 달라지므로 결과 일치만 검증하고 소요 시간은 로그로 남긴다.
+ */
+@Slf4j
+@DataJpaTest
+@Import({JpaConfig.class, FridgeService.class, FridgeIngredientBulkRepository.class})
+class FridgeIngredientBulkInsertBenchmarkTest {
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	FridgeService fridgeService;
+
+	@Autowired
+	FridgeIngredientRepository fridgeIngredientRepository;
+
+	@ParameterizedTest(name = "{0}개 재료 등록")
+	@ValueSource(ints = {1, 50, 500})
+	@DisplayName("재료 등록 - 기존 방식 / 일괄 저장 비교")
+	void compareAddIngredient(int size) {
+		// given
+		Fridge legacyFridge = createFridge("legacy");
+		Fridge bulkFridge = createFridge("bulk");
+		List<FridgeIngredientCreateDto> request = createRequest(size);
+
+		// when: 기존 방식(재료마다 exists + save 후 재조회)
+		long legacyStartedAt = System.nanoTime();
+		for (FridgeIngredientCreateDto dto : request) {
+			if (!fridgeIngredientRepository.existsByNameAndMemoAndExpiredAtAndFridge(
+					dto.getName(), dto.getMemo(), dto.getExpiredAt(), legacyFridge)) {
+				fridgeIngredientRepository.save(FridgeIngredient.builder()
+						.fridge(legacyFridge)
+						.name(dto.getName())
+						.memo(dto.getMemo())
+						.expiredAt(dto.getExpiredAt())
+						.build());
+			}
+		}
+		List<FridgeIngredient> legacyResult = fridgeIngredientRepository.findByFridge(legacyFridge);
+		long legacyElapsed = System.nanoTime() - legacyStartedAt;
+
+		// when: 일괄 저장
+		long bulkStartedAt = System.nanoTime();
+		List<FridgeIngredientInfoDto> bulkResult =
+				fridgeService.addIngredient(bulkFridge.getMember().getEmail(), request);
+		long bulkElapsed = System.nanoTime() - bulkStartedAt;
+
+		// then
+		log.info("[Fridge Benchmark] size={}, legacy={}ms, bulk={}ms", size,
+				TimeUnit.NANOSECONDS.toMillis(legacyElapsed),
+				TimeUnit.NANOSECONDS.toMillis(bulkElapsed));
+
+		assertEquals(size, legacyResult.size());
+		assertEquals(size, bulkResult.size());
+		assertEquals(size, fridgeIngredientRepository.findByFridge(bulkFridge).size());
+	}
+
+	private Fridge createFridge(String prefix) {
+		Member member = em.persist(Member.builder()
+				.nickname(prefix)
+				.email(prefix + "@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		return em.persist(Fridge.builder()
+				.member(member)
+				.build());
+	}
+
+	private List<FridgeIngredientCreateDto> createRequest(int size) {
+		return IntStream.range(0, size)
+				.mapToObj(i -> FridgeIngredientCreateDto.builder()
+						.name("재료" + i)
+						.memo("메모" + i)
+						.expiredAt(LocalDate.now().plusDays(i % 30))
+						.build())
+				.toList();
+	}
+}
@@ -5,7 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static team.rescue.error.type.ServiceError.FRIDGE_NOT_FOUND;
@@ -16,9 +19,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,10 +32,12 @@ import team.rescue.error.exception.AuthException;
 import team.rescue.error.exception.ServiceException;
 import team.rescue.error.type.AuthError;
 import team.rescue.fridge.dto.FridgeDto;
+import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientCreateDto;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientInfoDto;
 import team.rescue.fridge.dto.FridgeIngredientDto.FridgeIngredientUpdateDto;
 import team.rescue.fridge.entity.Fridge;
 import team.rescue.fridge.entity.FridgeIngredient;
+import team.rescue.fridge.repository.FridgeIngredientBulkRepository;
 import team.rescue.fridge.repository.FridgeIngredientRepository;
 import team.rescue.fridge.repository.FridgeRepository;
 import team.rescue.member.entity.Member;
@@ -49,6 +56,9 @@ class FridgeServiceTest {
 	@Mock
 	FridgeIngredientRepository fridgeIngredientRepository;
 
+	@Mock
+	FridgeIngredientBulkRepository fridgeIngredientBulkRepository;
+
 	@InjectMocks
 	FridgeService fridgeService;
 
@@ -210,6 +220,70 @@ class FridgeServiceTest {
 		assertEquals("당근", fridgeIngredientInfoDtoList.get(1).getName());
 	}
 
+	@Test
+	@DisplayName("냉장고 재료 등록 성공 - 기존 재료, 요청 안의 중복 재료는 제외하고 일괄 저장")
+	@WithMockMember(role = RoleType.USER)
+	void successAddIngredient_SkipDuplicates() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.nickname("테스트")
+				.email("test@gmail.com")
+				.build();
+
+		given(memberRepository.findUserByEmail("test@gmail.com"))
+				.willReturn(Optional.of(member));
+
+		Fridge fridge = Fridge.builder()
+				.id(1L)
+				.member(member)
+				.build();
+
+		given(fridgeRepository.findByMember(member))
+				.willReturn(Optional.of(fridge));
+
+		FridgeIngredient fridgeIngredient1 = FridgeIngredient.builder()
+				.id(1L)
+				.fridge(fridge)
+				.name("양파")
+				.memo("하얀 양파")
+				.build();
+		FridgeIngredient fridgeIngredient2 = FridgeIngredient.builder()
+				.id(2L)
+				.fridge(fridge)
+				.name("당근")
+				.memo("주황 당근")
+				.build();
+
+		given(fridgeIngredientRepository.findByFridge(fridge))
+				.willReturn(new ArrayList<>(List.of(fridgeIngredient1)));
+
+		given(fridgeIngredientBulkRepository.saveAll(eq(fridge), anyList()))
+				.willReturn(List.of(fridgeIngredient2));
+
+		// 기존 재료와 중복, 요청 안에서 중복인 재료 포함
+		List<FridgeIngredientCreateDto> fridgeIngredientCreateDtoList = List.of(
+				FridgeIngredientCreateDto.builder().name("양파").memo("하얀 양파").build(),
+				FridgeIngredientCreateDto.builder().name("당근").memo("주황 당근").build(),
+				FridgeIngredientCreateDto.builder().name("당근").memo("주황 당근").build()
+		);
+
+		// when
+		List<FridgeIngredientInfoDto> fridgeIngredientInfoDtoList = fridgeService.addIngredient(
+				"test@gmail.com", fridgeIngredientCreateDtoList);
+
+		// then
+		ArgumentCaptor<List<FridgeIngredient>> captor = ArgumentCaptor.forClass(List.class);
+		verify(fridgeIngredientBulkRepository, times(1)).saveAll(eq(fridge), captor.capture());
+		assertEquals(1, captor.getValue().size());
+		assertEquals("당근", captor.getValue().get(0).getName());
+
+		assertEquals(2, fridgeIngredientInfoDtoList.size());
+		assertEquals("양파", fridgeIngredientInfoDtoList.get(0).getName());
+		assertEquals("당근", fridgeIngredientInfoDtoList.get(1).getName());
+		verify(fridgeIngredientRepository, times(1)).findByFridge(fridge);
+	}
+
 	@Test
 	@DisplayName("냉장고 재료 등록 실패 - 사용자 정보 없음")
 	void failAddIngredient_UserNotFound() {
@@ -278,24 +352,25 @@ class FridgeServiceTest {
 				.build();
 
 		FridgeIngredientUpdateDto fridgeIngredientUpdateDto = FridgeIngredientUpdateDto.builder()
-				.deleteItem(List.of(1L))
-				.updateItem(List.of(fridgeIngredientInfoDto))
+				.delete(List.of(1L))
+				.update(List.of(fridgeIngredientInfoDto))
 				.build();
 
-		given(fridgeIngredientRepository.findById(fridgeIngredientUpdateDto.getDeleteItem().get(0)))
-				.willReturn(Optional.of(FridgeIngredient.builder()
-						.id(1L)
-						.name("양파")
-						.fridge(fridge)
-						.build()));
+		FridgeIngredient cucumber = FridgeIngredient.builder()
+				.id(3L)
+				.name("오이")
+				.memo("초록 오이")
+				.fridge(fridge)
+				.build();
 
-		given(fridgeIngredientRepository.findById(
-				fridgeIngredientUpdateDto.getUpdateItem().get(0).getId()))
-				.willReturn(Optional.of(FridgeIngredient.builder()
-						.name("오이")
-						.memo("초록 오이")
-						.fridge(fridge)
-						.build()));
+		given(fridgeIngredientRepository.findAllByIdInAndFridge(Set.of(1L, 3L), fridge))
+				.willReturn(List.of(
+						FridgeIngredient.builder()
+								.id(1L)
+								.name("양파")
+								.fridge(fridge)
+								.build(),
+						cucumber));
 
 		FridgeIngredient fridgeIngredient1 = FridgeIngredient.builder()
 				.fridge(fridge)
@@ -314,8 +389,9 @@ class FridgeServiceTest {
 				"test@gmail.com", fridgeIngredientUpdateDto);
 
 		// then
-		verify(fridgeIngredientRepository, times(1)).deleteById(1L);
-		verify(fridgeIngredientRepository, times(1)).save(any());
+		verify(fridgeIngredientRepository, times(1)).deleteAllByIdInAndFridge(Set.of(1L), fridge);
+		verify(fridgeIngredientRepository, never()).findById(anyLong());
+		assertEquals("당근", cucumber.getName());
 
 		assertEquals(1, fridgeIngredientInfoDtoList.size());
 		assertEquals("당근", fridgeIngredientInfoDtoList.get(0).getName());
@@ -383,8 +459,11 @@ class FridgeServiceTest {
 		given(fridgeRepository.findByMember(member))
 				.willReturn(Optional.of(fridge));
 
-		given(fridgeIngredientRepository.findById(anyLong()))
-				.willReturn(Optional.empty());
+		given(fridgeIngredientRepository.findAllByIdInAndFridge(anySet(), eq(fridge)))
+				.willReturn(List.of());
+
+		given(fridgeIngredientRepository.countByIdIn(anySet()))
+				.willReturn(0L);
 
 		FridgeIngredientInfoDto fridgeIngredientInfoDto = FridgeIngredientInfoDto.builder()
 				.id(3L)
@@ -393,8 +472,8 @@ class FridgeServiceTest {
 				.build();
 
 		FridgeIngredientUpdateDto fridgeIngredientUpdateDto = FridgeIngredientUpdateDto.builder()
-				.deleteItem(List.of(1L))
-				.updateItem(List.of(fridgeIngredientInfoDto))
+				.delete(List.of(1L))
+				.update(List.of(fridgeIngredientInfoDto))
 				.build();
 
 		// when
@@ -427,8 +506,16 @@ class FridgeServiceTest {
 		given(fridgeRepository.findByMember(member))
 				.willReturn(Optional.of(fridge));
 
-		given(fridgeIngredientRepository.findById(anyLong()))
-				.willReturn(Optional.empty());
+		// 1번 재료는 다른 냉장고 소유라 조회되지 않음
+		given(fridgeIngredientRepository.findAllByIdInAndFridge(anySet(), eq(fridge)))
+				.willReturn(List.of(FridgeIngredient.builder()
+						.id(3L)
+						.name("오이")
+						.fridge(fridge)
+						.build()));
+
+		given(fridgeIngredientRepository.countByIdIn(Set.of(1L)))
+				.willReturn(1L);
 
 		FridgeIngredientInfoDto fridgeIngredientInfoDto = FridgeIngredientInfoDto.builder()
 				.id(3L)
@@ -437,16 +524,10 @@ class FridgeServiceTest {
 				.build();
 
 		FridgeIngredientUpdateDto fridgeIngredientUpdateDto = FridgeIngredientUpdateDto.builder()
-				.deleteItem(List.of(1L))
-				.updateItem(List.of(fridgeIngredientInfoDto))
+				.delete(List.of(1L))
+				.update(List.of(fridgeIngredientInfoDto))
 				.build();
 
-		given(fridgeIngredientRepository.findById(fridgeIngredientUpdateDto.getDeleteItem().get(0)))
-				.willReturn(Optional.of(FridgeIngredient.builder()
-						.id(1L)
-						.name("양파")
-						.build()));
-
 		// when
 		AuthException authException = assertThrows(AuthException.class,
 				() -> fridgeService.updateIngredient("test@gmail.com", fridgeIngredientUpdateDto));
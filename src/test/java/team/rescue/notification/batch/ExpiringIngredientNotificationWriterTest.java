@@ -0,0 +1,131 @@
+package team.rescue.notification.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.entity.Notification;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
+import team.rescue.notification.service.RedisMessageService;
+import team.rescue.notification.type.NotificationType;
+
+@ExtendWith(MockitoExtension.class)
+class ExpiringIngredientNotificationWriterTest {
+
+	@Mock
+	NotificationBulkRepository notificationBulkRepository;
+
+	@Mock
+	NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+	@Mock
+	RedisMessageService redisMessageService;
+
+	@Captor
+	ArgumentCaptor<List<Notification>> notificationsCaptor;
+
+	@Captor
+	ArgumentCaptor<NotificationInfoDto> notificationCaptor;
+
+	@InjectMocks
+	ExpiringIngredientNotificationWriter writer;
+
+	@Test
+	@DisplayName("chunk 저장 - 재료별 알림 일괄 저장, 유저별 알림 한 번 발행")
+	void writeChunk() {
+		// given
+		given(notificationBulkRepository.saveAllIgnoringDuplicates(anyList()))
+				.willAnswer(invocation -> invocation.getArgument(0));
+
+		Chunk<MemberExpiringIngredients> chunk = new Chunk<>(List.of(
+				new MemberExpiringIngredients(1L, "a@gmail.com", List.of(
+						new ExpiringIngredient(1L, "a@gmail.com", 10L, "양파"),
+						new ExpiringIngredient(1L, "a@gmail.com", 11L, "대파"),
+						new ExpiringIngredient(1L, "a@gmail.com", 12L, "우유"))),
+				new MemberExpiringIngredients(2L, "b@gmail.com", List.of(
+						new ExpiringIngredient(2L, "b@gmail.com", 20L, "두부")))
+		));
+
+		// when
+		writer.write(chunk);
+
+		// then
+		verify(notificationBulkRepository, times(1))
+				.saveAllIgnoringDuplicates(notificationsCaptor.capture());
+		List<Notification> notifications = notificationsCaptor.getValue();
+		assertEquals(4, notifications.size());
+		assertEquals(1L, notifications.get(0).getMember().getId());
+		assertEquals(NotificationType.INGREDIENT_EXPIRED, notifications.get(0).getNotificationType());
+		assertEquals(10L, notifications.get(0).getNotificationProperty().getOriginId());
+
+		verify(notificationUnreadCountRepository, times(1)).adjustAll(Map.of(1L, 3L, 2L, 1L));
+		verify(redisMessageService, times(2)).publish(anyString(), notificationCaptor.capture());
+		List<NotificationInfoDto> published = notificationCaptor.getAllValues();
+		assertEquals("양파 외 2개 재료의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!",
+				published.get(0).getNotificationProperty().getContents());
+		assertEquals("두부의 유통기한이 곧 만료됩니다. 냉장고를 확인하세요!",
+				published.get(1).getNotificationProperty().getContents());
+	}
+
+	@Test
+	@DisplayName("이미 알림을 받은 재료만 있는 유저 - 발행하지 않음")
+	void skipAlreadyNotified() {
+		// given
+		given(notificationBulkRepository.saveAllIgnoringDuplicates(anyList()))
+				.willReturn(List.of());
+
+		Chunk<MemberExpiringIngredients> chunk = new Chunk<>(List.of(
+				new MemberExpiringIngredients(1L, "a@gmail.com", List.of(
+						new ExpiringIngredient(1L, "a@gmail.com", 10L, "양파")))
+		));
+
+		// when
+		writer.write(chunk);
+
+		// then
+		verify(redisMessageService, never()).publish(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("알림 발행 실패 - 다른 유저 발행은 계속 진행")
+	void publishFailureIsolated() {
+		// given
+		given(notificationBulkRepository.saveAllIgnoringDuplicates(anyList()))
+				.willAnswer(invocation -> invocation.getArgument(0));
+		willThrow(new RuntimeException("redis down"))
+				.given(redisMessageService).publish(eq("a@gmail.com"), any());
+
+		Chunk<MemberExpiringIngredients> chunk = new Chunk<>(List.of(
+				new MemberExpiringIngredients(1L, "a@gmail.com", List.of(
+						new ExpiringIngredient(1L, "a@gmail.com", 10L, "양파"))),
+				new MemberExpiringIngredients(2L, "b@gmail.com", List.of(
+						new ExpiringIngredient(2L, "b@gmail.com", 20L, "두부")))
+		));
+
+		// when
+		writer.write(chunk);
+
+		// then
+		verify(redisMessageService, times(1)).publish(eq("b@gmail.com"), any());
+	}
+}
@@ -0,0 +1,58 @@
+package team.rescue.notification.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.support.ListItemReader;
+
+class MemberGroupingItemReaderTest {
+
+	@Test
+	@DisplayName("유저 ID 순 재료 읽기 - 유저 단위로 묶음")
+	void readGroupedByMember() throws Exception {
+		// given
+		MemberGroupingItemReader reader = new MemberGroupingItemReader(new ListItemReader<>(List.of(
+				new ExpiringIngredient(1L, "a@gmail.com", 10L, "양파"),
+				new ExpiringIngredient(1L, "a@gmail.com", 11L, "대파"),
+				new ExpiringIngredient(2L, "b@gmail.com", 20L, "우유"),
+				new ExpiringIngredient(3L, "c@gmail.com", 30L, "두부"),
+				new ExpiringIngredient(3L, "c@gmail.com", 31L, "계란"),
+				new ExpiringIngredient(3L, "c@gmail.com", 32L, "김치")
+		)));
+		reader.open(new ExecutionContext());
+
+		// when
+		MemberExpiringIngredients first = reader.read();
+		MemberExpiringIngredients second = reader.read();
+		MemberExpiringIngredients third = reader.read();
+		MemberExpiringIngredients end = reader.read();
+
+		// then
+		assertEquals(1L, first.memberId());
+		assertEquals(2, first.ingredients().size());
+		assertEquals(2L, second.memberId());
+		assertEquals(1, second.ingredients().size());
+		assertEquals("c@gmail.com", third.email());
+		assertEquals(List.of(30L, 31L, 32L),
+				third.ingredients().stream().map(ExpiringIngredient::ingredientId).toList());
+		assertNull(end);
+	}
+
+	@Test
+	@DisplayName("읽을 재료 없음 - null 반환")
+	void readEmpty() throws Exception {
+		// given
+		MemberGroupingItemReader reader = new MemberGroupingItemReader(new ListItemReader<>(List.of()));
+		reader.open(new ExecutionContext());
+
+		// when
+		MemberExpiringIngredients result = reader.read();
+
+		// then
+		assertNull(result);
+	}
+}
@@ -4,7 +4,6 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -98,8 +97,8 @@ class NotificationControllerTest {
 	@WithMockMember(role = RoleType.USER)
 	void successCheckNotifications() throws Exception {
 		// given
-		doNothing().when(notificationService)
-				.checkNotifications(any(NotificationCheckDto.class), anyString());
+		given(notificationService.checkNotifications(any(NotificationCheckDto.class), anyString()))
+				.willReturn(2);
 
 		// when
 		// then
@@ -112,6 +111,40 @@ class NotificationControllerTest {
 						)))
 				.andExpect(status().isOk())
 				.andExpect(jsonPath("$.message").value("알림 일괄 처리에 성공하였습니다."))
+				.andExpect(jsonPath("$.data.checkedCount").value(2))
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("미확인 알림 수 조회 성공")
+	@WithMockMember(role = RoleType.USER)
+	void successGetUnreadCount() throws Exception {
+		// given
+		given(notificationService.getUnreadCount(any()))
+				.willReturn(3L);
+
+		// when
+		// then
+		mockMvc.perform(get("/api/notifications/unread-count"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.unreadCount").value(3))
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("모든 알림 확인 처리 성공")
+	@WithMockMember(role = RoleType.USER)
+	void successCheckAllNotifications() throws Exception {
+		// given
+		given(notificationService.checkAllNotifications(anyString()))
+				.willReturn(300);
+
+		// when
+		// then
+		mockMvc.perform(patch("/api/notifications/all"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.message").value("모든 알림을 확인 처리하였습니다."))
+				.andExpect(jsonPath("$.data.checkedCount").value(300))
 				.andDo(print());
 	}
 
@@ -0,0 +1,124 @@
+package team.rescue.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.notification.entity.Notification;
+import team.rescue.notification.entity.NotificationProperty;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.repository.NotificationRepository;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
+import team.rescue.notification.type.NotificationType;
+
+/**
+ * 같은 알림을 동시에 열어도 미확인 알림 수가 한 번만 줄어드는지 검증
+ */
+@DataJpaTest
+@Import({JpaConfig.class, NotificationService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationCheckConcurrencyTest {
+
+	private static final int REQUEST_COUNT = 50;
+	private static final int THREAD_COUNT = 16;
+
+	@Autowired
+	NotificationService notificationService;
+
+	@Autowired
+	NotificationRepository notificationRepository;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@MockBean
+	NotificationBulkRepository notificationBulkRepository;
+
+	@MockBean
+	NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+	@MockBean
+	RedisMessageService redisMessageService;
+
+	@MockBean
+	SseEmitterService sseEmitterService;
+
+	private Member member;
+	private Notification notification;
+
+	@BeforeEach
+	void setup() {
+		member = memberRepository.save(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		notification = notificationRepository.save(Notification.builder()
+				.member(member)
+				.notificationType(NotificationType.RECIPE_REVIEWED)
+				.notificationProperty(new NotificationProperty(1L, 2L, "리뷰 알림"))
+				.createdAt(LocalDateTime.now())
+				.build());
+	}
+
+	@AfterEach
+	void cleanup() {
+		notificationRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("같은 알림 동시 확인 - 미확인 알림 수는 한 번만 감소")
+	void concurrentCheck() throws InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+
+		// when
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					notificationService.checkNotification(notification.getId(), member.getEmail());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		ready.countDown();
+		done.await(30, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertNotNull(notificationRepository.findById(notification.getId())
+				.orElseThrow().getCheckedAt());
+		verify(notificationUnreadCountRepository, times(1)).adjust(member.getId(), -1L);
+	}
+}
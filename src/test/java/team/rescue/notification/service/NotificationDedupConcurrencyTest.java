@@ -0,0 +1,138 @@
+package team.rescue.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.notification.entity.Notification;
+import team.rescue.notification.entity.NotificationProperty;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.type.NotificationType;
+
+/**
+ * 같은 알림이 동시에 저장돼도 dedup_key 유니크 인덱스로 한 row 만 남고, 저장한 호출만 그 알림을 돌려받는지 검증
+ */
+@DataJpaTest
+@Import({JpaConfig.class, NotificationBulkRepository.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationDedupConcurrencyTest {
+
+	private static final int REQUEST_COUNT = 100;
+	private static final int THREAD_COUNT = 16;
+
+	@Autowired
+	NotificationBulkRepository notificationBulkRepository;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private Member member;
+
+	@BeforeEach
+	void setup() {
+		member = memberRepository.save(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+	}
+
+	@AfterEach
+	void cleanup() {
+		jdbcTemplate.update("DELETE FROM notification");
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("같은 배치 안의 중복, 이미 저장된 알림 - 새 알림만 저장")
+	void saveIgnoringDuplicates() {
+		// given
+		notificationBulkRepository.saveAllIgnoringDuplicates(List.of(reviewed(1L, "기존")));
+
+		// when
+		List<Notification> saved = notificationBulkRepository.saveAllIgnoringDuplicates(List.of(
+				reviewed(1L, "내용 변경"),
+				reviewed(2L, "새 알림"),
+				reviewed(2L, "새 알림")
+		));
+
+		// then
+		assertEquals(1, saved.size());
+		assertEquals(2L, saved.get(0).getNotificationProperty().getOriginId());
+		assertEquals(2, countNotifications());
+	}
+
+	@Test
+	@DisplayName("같은 알림 동시 저장 - row 하나만 남음")
+	void concurrentSave() throws InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+		AtomicInteger savedCount = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					savedCount.addAndGet(notificationBulkRepository
+							.saveAllIgnoringDuplicates(List.of(reviewed(1L, "리뷰 알림"))).size());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		ready.countDown();
+		done.await(30, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		// 실제로 저장한 호출 하나만 결과에 포함
+		assertEquals(1, countNotifications());
+		assertEquals(1, savedCount.get());
+	}
+
+	private Notification reviewed(Long recipeId, String contents) {
+		return Notification.builder()
+				.member(member)
+				.notificationType(NotificationType.RECIPE_REVIEWED)
+				.notificationProperty(new NotificationProperty(recipeId, 2L, contents))
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	private long countNotifications() {
+		Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM notification", Long.class);
+		return count == null ? 0 : count;
+	}
+}
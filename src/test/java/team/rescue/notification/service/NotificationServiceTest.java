@@ -4,8 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static team.rescue.error.type.AuthError.ACCESS_DENIED;
@@ -13,15 +17,19 @@ import static team.rescue.error.type.ServiceError.NOTIFICATION_NOT_FOUND;
 import static team.rescue.error.type.ServiceError.USER_NOT_FOUND;
 import static team.rescue.notification.type.NotificationType.INGREDIENT_EXPIRED;
 import static team.rescue.notification.type.NotificationType.RECIPE_RECOMMENDED;
+import static team.rescue.notification.type.NotificationType.RECIPE_REVIEWED;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -38,8 +46,13 @@ import team.rescue.mock.WithMockMember;
 import team.rescue.notification.dto.NotificationDto.NotificationCheckDto;
 import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
 import team.rescue.notification.entity.Notification;
+import team.rescue.notification.entity.NotificationOutbox;
 import team.rescue.notification.entity.NotificationProperty;
+import team.rescue.notification.event.NotificationEvent;
+import team.rescue.notification.repository.NotificationBulkRepository;
+import team.rescue.notification.repository.NotificationOutboxRepository;
 import team.rescue.notification.repository.NotificationRepository;
+import team.rescue.notification.repository.NotificationUnreadCountRepository;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationServiceTest {
@@ -50,6 +63,21 @@ class NotificationServiceTest {
 	@Mock
 	NotificationRepository notificationRepository;
 
+	@Mock
+	NotificationOutboxRepository notificationOutboxRepository;
+
+	@Mock
+	NotificationBulkRepository notificationBulkRepository;
+
+	@Mock
+	NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+	@Mock
+	RedisMessageService redisMessageService;
+
+	@Captor
+	ArgumentCaptor<List<Notification>> notificationsCaptor;
+
 	@InjectMocks
 	NotificationService notificationService;
 
@@ -130,24 +158,23 @@ class NotificationServiceTest {
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		Notification notification = Notification.builder()
-				.member(member)
-				.id(1L)
-				.notificationType(INGREDIENT_EXPIRED)
-				.build();
-
-		given(notificationRepository.findById(anyLong()))
-				.willReturn(Optional.of(notification));
+		given(notificationRepository.updateCheckedAtByMemberAndIdIn(any(), anyCollection(), any()))
+				.willReturn(2);
 
 		NotificationCheckDto notificationCheckDto = NotificationCheckDto.builder()
-				.notificationIds(List.of(1L))
+				.notificationIds(List.of(1L, 2L))
 				.build();
 
 		// when
-		notificationService.checkNotifications(notificationCheckDto, "test@gmail.com");
+		int checkedCount = notificationService.checkNotifications(notificationCheckDto,
+				"test@gmail.com");
 
 		// then
-		verify(notificationRepository, times(1)).save(any());
+		assertEquals(2, checkedCount);
+		verify(notificationRepository, times(1))
+				.updateCheckedAtByMemberAndIdIn(eq(member), eq(List.of(1L, 2L)), any());
+		verify(notificationRepository, never()).findById(anyLong());
+		verify(notificationUnreadCountRepository, times(1)).adjust(1L, -2);
 	}
 
 	@Test
@@ -171,8 +198,8 @@ class NotificationServiceTest {
 	}
 
 	@Test
-	@DisplayName("알림 일괄 확인 처리 실패 - 알림 정보 없음")
-	void failCheckNotifications_NotificationNotFound() {
+	@DisplayName("알림 일괄 확인 처리 - 다른 회원 알림, 없는 알림은 무시")
+	void checkNotifications_IgnoreOthers() {
 		// given
 		Member member = Member.builder()
 				.id(1L)
@@ -182,57 +209,84 @@ class NotificationServiceTest {
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		given(notificationRepository.findById(anyLong()))
-				.willReturn(Optional.empty());
+		given(notificationRepository.updateCheckedAtByMemberAndIdIn(any(), anyCollection(), any()))
+				.willReturn(0);
 
 		NotificationCheckDto notificationCheckDto = NotificationCheckDto.builder()
-				.notificationIds(List.of(1L))
+				.notificationIds(List.of(100L))
 				.build();
 
 		// when
-		ServiceException serviceException = assertThrows(ServiceException.class,
-				() -> notificationService.checkNotifications(notificationCheckDto, "test@gmail.com"));
+		int checkedCount = notificationService.checkNotifications(notificationCheckDto,
+				"test@gmail.com");
 
 		// then
-		assertEquals(NOTIFICATION_NOT_FOUND.getHttpStatus(), serviceException.getStatusCode());
+		assertEquals(0, checkedCount);
+		verify(notificationUnreadCountRepository, never()).adjust(anyLong(), anyLong());
 	}
 
 	@Test
-	@DisplayName("알림 일괄 확인 처리 실패 - 권한 없음")
-	void failCheckNotifications_AccessDenied() {
+	@DisplayName("알림 일괄 확인 처리 - 빈 목록이면 UPDATE 생략")
+	void checkNotifications_EmptyIds() {
 		// given
 		Member member = Member.builder()
 				.id(1L)
 				.email("test@gmail.com")
 				.build();
 
-		Member member2 = Member.builder()
-				.id(2L)
-				.email("test2@gmail.com")
-				.build();
-
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
-		Notification notification = Notification.builder()
-				.id(1L)
-				.member(member2)
-				.notificationType(INGREDIENT_EXPIRED)
+		NotificationCheckDto notificationCheckDto = NotificationCheckDto.builder()
+				.notificationIds(List.of())
 				.build();
 
-		given(notificationRepository.findById(anyLong()))
-				.willReturn(Optional.of(notification));
+		// when
+		int checkedCount = notificationService.checkNotifications(notificationCheckDto,
+				"test@gmail.com");
 
-		NotificationCheckDto notificationCheckDto = NotificationCheckDto.builder()
-				.notificationIds(List.of(1L))
+		// then
+		assertEquals(0, checkedCount);
+		verify(notificationRepository, never())
+				.updateCheckedAtByMemberAndIdIn(any(), anyCollection(), any());
+	}
+
+	@Test
+	@DisplayName("모든 알림 확인 처리 성공")
+	void successCheckAllNotifications() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.email("test@gmail.com")
 				.build();
 
+		given(memberRepository.findUserByEmail("test@gmail.com"))
+				.willReturn(Optional.of(member));
+
+		given(notificationRepository.updateCheckedAtByMember(eq(member), any()))
+				.willReturn(300);
+
 		// when
-		AuthException authException = assertThrows(AuthException.class,
-				() -> notificationService.checkNotifications(notificationCheckDto, "test@gmail.com"));
+		int checkedCount = notificationService.checkAllNotifications("test@gmail.com");
 
 		// then
-		assertEquals(ACCESS_DENIED.getHttpStatus(), authException.getHttpStatus());
+		assertEquals(300, checkedCount);
+		verify(notificationUnreadCountRepository, times(1)).adjust(1L, -300);
+	}
+
+	@Test
+	@DisplayName("모든 알림 확인 처리 실패 - 사용자 정보 없음")
+	void failCheckAllNotifications_UserNotFound() {
+		// given
+		given(memberRepository.findUserByEmail("test@gmail.com"))
+				.willReturn(Optional.empty());
+
+		// when
+		ServiceException serviceException = assertThrows(ServiceException.class,
+				() -> notificationService.checkAllNotifications("test@gmail.com"));
+
+		// then
+		assertEquals(USER_NOT_FOUND.getHttpStatus(), serviceException.getStatusCode());
 	}
 
 	@Test
@@ -248,22 +302,19 @@ class NotificationServiceTest {
 		given(memberRepository.findUserByEmail("test@gmail.com"))
 				.willReturn(Optional.of(member));
 
+		given(notificationRepository.updateCheckedAtByMemberAndId(eq(member), eq(1L), any()))
+				.willReturn(1);
+
 		Notification notification = Notification.builder()
 				.member(member)
 				.id(1L)
 				.notificationType(INGREDIENT_EXPIRED)
-				.checkedAt(null)
+				.checkedAt(LocalDateTime.now())
 				.build();
 
 		given(notificationRepository.findById(anyLong()))
 				.willReturn(Optional.of(notification));
 
-		given(notificationRepository.save(any()))
-				.willReturn(Notification.builder()
-						.id(1L)
-						.checkedAt(LocalDateTime.now())
-						.build());
-
 		// when
 		NotificationInfoDto notificationInfoDto = notificationService.checkNotification(1L,
 				"test@gmail.com");
@@ -271,6 +322,8 @@ class NotificationServiceTest {
 		// then
 		assertEquals(1L, notificationInfoDto.getId());
 		assertNotNull(notificationInfoDto.getCheckedAt());
+		verify(notificationRepository, never()).save(any());
+		verify(notificationUnreadCountRepository, times(1)).adjust(1L, -1L);
 	}
 
 	@Test
@@ -346,4 +399,173 @@ class NotificationServiceTest {
 		// then
 		assertEquals(ACCESS_DENIED.getHttpStatus(), authException.getHttpStatus());
 	}
+
+	@Test
+	@DisplayName("알림 이벤트 - outbox 저장만 수행")
+	void successEnqueueNotification() {
+		// given
+		NotificationEvent event = NotificationEvent.builder()
+				.email("test@gmail.com")
+				.notificationType(RECIPE_REVIEWED)
+				.notificationProperty(new NotificationProperty(1L, 2L, "내용"))
+				.build();
+
+		// when
+		notificationService.enqueueNotification(event);
+
+		// then
+		verify(notificationOutboxRepository, times(1)).save(any(NotificationOutbox.class));
+		verify(notificationBulkRepository, never()).saveAllIgnoringDuplicates(anyList());
+		verify(redisMessageService, never()).publishAll(anyList());
+	}
+
+	@Test
+	@DisplayName("outbox 발송 - 알림 일괄 저장, outbox 삭제, 한 번에 발행")
+	void successDispatchOutbox() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.email("test@gmail.com")
+				.build();
+
+		List<NotificationOutbox> outboxes = List.of(
+				outbox(1L, "test@gmail.com", new NotificationProperty(10L, 2L, "내용1")),
+				outbox(2L, "test@gmail.com", new NotificationProperty(11L, 2L, "내용2")),
+				// 이미 저장된 알림(중복 제거는 저장소가 수행)
+				outbox(3L, "test@gmail.com", new NotificationProperty(11L, 2L, "내용2")),
+				// 탈퇴한 회원
+				outbox(4L, "unknown@gmail.com", new NotificationProperty(12L, 2L, "내용3"))
+		);
+
+		given(notificationOutboxRepository.findPendingForUpdate(any()))
+				.willReturn(outboxes);
+		given(memberRepository.findAllByEmailIn(anyCollection()))
+				.willReturn(List.of(member));
+		given(notificationBulkRepository.saveAllIgnoringDuplicates(anyList()))
+				.willAnswer(invocation -> invocation.<List<Notification>>getArgument(0).subList(0, 2));
+
+		// when
+		int dispatched = notificationService.dispatchOutbox(100);
+
+		// then
+		assertEquals(4, dispatched);
+		verify(notificationBulkRepository, times(1))
+				.saveAllIgnoringDuplicates(notificationsCaptor.capture());
+		assertEquals(3, notificationsCaptor.getValue().size());
+		verify(notificationOutboxRepository, times(1))
+				.deleteAllByIdInBatch(List.of(1L, 2L, 3L, 4L));
+		verify(redisMessageService, times(1)).publishAll(anyList());
+		verify(notificationUnreadCountRepository, times(1)).adjustAll(Map.of(1L, 2L));
+	}
+
+	@Test
+	@DisplayName("outbox 발송 - 대기 알림 없음")
+	void dispatchEmptyOutbox() {
+		// given
+		given(notificationOutboxRepository.findPendingForUpdate(any()))
+				.willReturn(List.of());
+
+		// when
+		int dispatched = notificationService.dispatchOutbox(100);
+
+		// then
+		assertEquals(0, dispatched);
+		verify(notificationBulkRepository, never()).saveAllIgnoringDuplicates(anyList());
+		verify(redisMessageService, never()).publishAll(anyList());
+	}
+
+	private NotificationOutbox outbox(Long id, String email, NotificationProperty property) {
+		return NotificationOutbox.builder()
+				.id(id)
+				.email(email)
+				.notificationType(RECIPE_REVIEWED)
+				.notificationProperty(property)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	@Test
+	@DisplayName("이미 확인한 알림 조회 - 확인 시각 유지, 미확인 수 변경 없음")
+	void checkNotification_AlreadyChecked() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.email("test@gmail.com")
+				.build();
+		LocalDateTime checkedAt = LocalDateTime.of(2024, 1, 30, 0, 0, 0);
+
+		given(memberRepository.findUserByEmail("test@gmail.com"))
+				.willReturn(Optional.of(member));
+
+		given(notificationRepository.findById(anyLong()))
+				.willReturn(Optional.of(Notification.builder()
+						.member(member)
+						.id(1L)
+						.notificationType(INGREDIENT_EXPIRED)
+						.checkedAt(checkedAt)
+						.build()));
+
+		// when
+		NotificationInfoDto notificationInfoDto = notificationService.checkNotification(1L,
+				"test@gmail.com");
+
+		// then: 조건부 UPDATE 가 0건이므로 미확인 수를 줄이지 않음
+		assertEquals(checkedAt, notificationInfoDto.getCheckedAt());
+		verify(notificationRepository, times(1))
+				.updateCheckedAtByMemberAndId(eq(member), eq(1L), any());
+		verify(notificationRepository, never()).save(any());
+		verify(notificationUnreadCountRepository, never()).adjust(anyLong(), anyLong());
+	}
+
+	@Test
+	@DisplayName("미확인 알림 수 조회 - Redis 카운터 사용")
+	void getUnreadCount_Cached() {
+		// given
+		given(notificationUnreadCountRepository.get(1L))
+				.willReturn(5L);
+
+		// when
+		long unreadCount = notificationService.getUnreadCount(1L);
+
+		// then
+		assertEquals(5L, unreadCount);
+		verify(notificationRepository, never()).countUnreadByMemberId(anyLong());
+	}
+
+	@Test
+	@DisplayName("미확인 알림 수 조회 - 카운터 없으면 DB 에서 세어 저장")
+	void getUnreadCount_NotCached() {
+		// given
+		given(notificationUnreadCountRepository.get(1L))
+				.willReturn(null);
+		given(notificationRepository.countUnreadByMemberId(1L))
+				.willReturn(7L);
+
+		// when
+		long unreadCount = notificationService.getUnreadCount(1L);
+
+		// then
+		assertEquals(7L, unreadCount);
+		verify(notificationUnreadCountRepository, times(1)).set(1L, 7L);
+	}
+
+	@Test
+	@DisplayName("미확인 알림 수 보정 - 어긋난 카운터만 DB 값으로 덮어씀")
+	void reconcileUnreadCounts() {
+		// given
+		given(notificationRepository.countUnreadGroupByMemberIdIn(List.of(1L, 2L, 3L)))
+				.willReturn(List.of(new Object[]{1L, 3L}, new Object[]{2L, 4L}));
+		given(notificationUnreadCountRepository.get(1L)).willReturn(3L);
+		given(notificationUnreadCountRepository.get(2L)).willReturn(10L);
+		given(notificationUnreadCountRepository.get(3L)).willReturn(1L);
+
+		// when
+		int corrected = notificationService.reconcileUnreadCounts(List.of(1L, 2L, 3L));
+
+		// then
+		assertEquals(2, corrected);
+		verify(notificationUnreadCountRepository, never()).set(eq(1L), anyLong());
+		verify(notificationUnreadCountRepository, times(1)).set(2L, 4L);
+		verify(notificationUnreadCountRepository, times(1)).set(3L, 0L);
+	}
 }
@@ -0,0 +1,213 @@
+package team.rescue.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team.rescue.notification.repository.SseEmitterRepository;
+import team.rescue.notification.service.SseDeliveryService.OverflowPolicy;
+
+class SseDeliveryServiceTest {
+
+	private static final String EMAIL = "test@gmail.com";
+	private static final int QUEUE_CAPACITY = 3;
+	private static final int POOL_SIZE = 2;
+
+	private SseEmitterRepository sseEmitterRepository;
+	private SimpleMeterRegistry meterRegistry;
+	private SseDeliveryMetrics sseDeliveryMetrics;
+	// 등록된 전송 작업을 테스트에서 직접 실행
+	private List<Runnable> tasks;
+
+	@BeforeEach
+	void setup() {
+		sseEmitterRepository = new SseEmitterRepository();
+		meterRegistry = new SimpleMeterRegistry();
+		sseDeliveryMetrics = new SseDeliveryMetrics(meterRegistry);
+		tasks = new ArrayList<>();
+	}
+
+	@Test
+	@DisplayName("대기열 적재 - 전송 스레드에서 순서대로 전송")
+	void deliverInOrder() {
+		// given
+		SseDeliveryService sseDeliveryService = deliveryService(OverflowPolicy.DROP_OLDEST);
+		RecordingSseEmitter emitter = connect("connection1");
+
+		// when
+		for (int i = 0; i < QUEUE_CAPACITY; i++) {
+			sseDeliveryService.enqueue(EMAIL, "connection1", emitter, event(i));
+		}
+
+		// then: 전송 작업은 하나만 등록되고, 실행 전에는 보내지 않음
+		assertEquals(1, tasks.size());
+		assertTrue(emitter.events.isEmpty());
+		assertEquals(QUEUE_CAPACITY, sseDeliveryMetrics.getQueueDepth());
+
+		runTasks();
+		assertEquals(List.of("0", "1", "2"), emitter.events);
+		assertEquals(0, sseDeliveryMetrics.getQueueDepth());
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST - 가장 오래된 이벤트를 버리고 연결 유지")
+	void dropOldest() {
+		// given
+		SseDeliveryService sseDeliveryService = deliveryService(OverflowPolicy.DROP_OLDEST);
+		RecordingSseEmitter emitter = connect("connection1");
+
+		// when
+		for (int i = 0; i < QUEUE_CAPACITY + 2; i++) {
+			sseDeliveryService.enqueue(EMAIL, "connection1", emitter, event(i));
+		}
+		runTasks();
+
+		// then
+		assertEquals(List.of("2", "3", "4"), emitter.events);
+		assertEquals(2.0, dropped("drop_oldest"));
+		assertTrue(sseEmitterRepository.findAllByEmail(EMAIL).containsKey("connection1"));
+	}
+
+	@Test
+	@DisplayName("DISCONNECT - 대기열 초과 시 연결 종료")
+	void disconnect() {
+		// given
+		SseDeliveryService sseDeliveryService = deliveryService(OverflowPolicy.DISCONNECT);
+		RecordingSseEmitter emitter = connect("connection1");
+
+		// when
+		for (int i = 0; i < QUEUE_CAPACITY + 1; i++) {
+			sseDeliveryService.enqueue(EMAIL, "connection1", emitter, event(i));
+		}
+		runTasks();
+
+		// then
+		assertTrue(emitter.events.isEmpty());
+		assertEquals(QUEUE_CAPACITY + 1.0, dropped("disconnect"));
+		assertFalse(sseEmitterRepository.findAllByEmail(EMAIL).containsKey("connection1"));
+		assertEquals(0, sseDeliveryMetrics.getQueueDepth());
+	}
+
+	@Test
+	@DisplayName("heartbeat - 보낼 이벤트가 쌓인 연결에는 넣지 않음")
+	void heartbeatSkippedWhenBusy() {
+		// given
+		SseDeliveryService sseDeliveryService = deliveryService(OverflowPolicy.DROP_OLDEST);
+		RecordingSseEmitter emitter = connect("connection1");
+		sseDeliveryService.enqueue(EMAIL, "connection1", emitter, event(0));
+
+		// when
+		sseDeliveryService.enqueueHeartbeat(EMAIL, "connection1", emitter,
+				SseEmitter.event().comment("heartbeat"));
+		runTasks();
+
+		// then
+		assertEquals(List.of("0"), emitter.events);
+	}
+
+	@Test
+	@DisplayName("전송 시간 초과 - 풀 크기보다 많은 연결이 막혀도 다른 연결에 전송")
+	void disconnectStalled() throws InterruptedException {
+		// given: 받지 않는 클라이언트가 전송 스레드 수보다 많음
+		ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+		SseDeliveryService sseDeliveryService = new SseDeliveryService(sseEmitterRepository,
+				sseDeliveryMetrics, executor, QUEUE_CAPACITY, OverflowPolicy.DROP_OLDEST,
+				Duration.ofMillis(100));
+
+		List<String> blockedIds = new ArrayList<>();
+		for (int i = 0; i < POOL_SIZE + 2; i++) {
+			String connectionId = "blocked" + i;
+			BlockingSseEmitter blocked = new BlockingSseEmitter();
+			sseEmitterRepository.save(EMAIL, connectionId, blocked);
+			sseDeliveryService.enqueue(EMAIL, connectionId, blocked, event(i));
+			blockedIds.add(connectionId);
+		}
+		RecordingSseEmitter healthy = connect("healthy");
+
+		// when
+		sseDeliveryService.enqueue(EMAIL, "healthy", healthy, event(100));
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (System.nanoTime() < deadline && (healthy.events.isEmpty()
+				|| blockedIds.stream().anyMatch(sseEmitterRepository.findAllByEmail(EMAIL)::containsKey))) {
+			sseDeliveryService.disconnectStalled();
+			Thread.sleep(50);
+		}
+		executor.shutdownNow();
+
+		// then: 막힌 연결은 모두 정리되고 정상 연결은 유지
+		assertEquals(List.of("100"), healthy.events);
+		assertEquals(Set.of("healthy"), sseEmitterRepository.findAllByEmail(EMAIL).keySet());
+		assertEquals(POOL_SIZE + 2, meterRegistry.timer("sse.delivery.send", "result", "send_timeout")
+				.count());
+	}
+
+	private SseDeliveryService deliveryService(OverflowPolicy overflowPolicy) {
+		return new SseDeliveryService(sseEmitterRepository, sseDeliveryMetrics, tasks::add,
+				QUEUE_CAPACITY, overflowPolicy, Duration.ofSeconds(5));
+	}
+
+	private RecordingSseEmitter connect(String connectionId) {
+		RecordingSseEmitter emitter = new RecordingSseEmitter();
+		sseEmitterRepository.save(EMAIL, connectionId, emitter);
+		return emitter;
+	}
+
+	private SseEmitter.SseEventBuilder event(int id) {
+		return SseEmitter.event().id(String.valueOf(id)).data("data" + id);
+	}
+
+	private void runTasks() {
+		while (!tasks.isEmpty()) {
+			tasks.remove(0).run();
+		}
+	}
+
+	private double dropped(String reason) {
+		return meterRegistry.counter("sse.delivery.dropped", "reason", reason).count();
+	}
+
+	private static class RecordingSseEmitter extends SseEmitter {
+
+		private final List<String> events = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			// 이벤트 id 만 기록
+			builder.build().stream()
+					.map(data -> String.valueOf(data.getData()))
+					.filter(line -> line.startsWith("id:"))
+					.forEach(line -> events.add(line.substring(3, line.indexOf('\n'))));
+		}
+	}
+
+	/**
+	 * 소켓 쓰기가 막힌 클라이언트(interrupt 되면 전송 실패)
+	 */
+	private static class BlockingSseEmitter extends SseEmitter {
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException("write interrupted");
+			}
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package team.rescue.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.repository.SseEmitterRepository;
+import team.rescue.notification.service.SseDeliveryService.OverflowPolicy;
+
+class SseEmitterServiceTest {
+
+	private static final String EMAIL = "test@gmail.com";
+
+	private SseEmitterRepository sseEmitterRepository;
+	private SseDeliveryService sseDeliveryService;
+	private SseEmitterService sseEmitterService;
+
+	@BeforeEach
+	void setup() {
+		sseEmitterRepository = new SseEmitterRepository();
+		// 전송 스레드 대신 호출 스레드에서 바로 전송
+		sseDeliveryService = new SseDeliveryService(sseEmitterRepository,
+				new SseDeliveryMetrics(new SimpleMeterRegistry()), Runnable::run, 128,
+				OverflowPolicy.DROP_OLDEST, Duration.ofSeconds(5));
+		sseEmitterService = new SseEmitterService(sseEmitterRepository, sseDeliveryService);
+	}
+
+	@Test
+	@DisplayName("같은 회원 여러 연결 - 모든 연결에 알림 전송")
+	void sendToAllConnections() {
+		// given
+		RecordingSseEmitter first = connect("connection1");
+		RecordingSseEmitter second = connect("connection2");
+
+		// when
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(1L));
+
+		// then
+		assertEquals(1, first.events.size());
+		assertEquals(1, second.events.size());
+	}
+
+	@Test
+	@DisplayName("연결 하나 종료 - 다른 연결은 유지")
+	void deleteOneConnection() {
+		// given
+		connect("connection1");
+		RecordingSseEmitter second = connect("connection2");
+
+		// when
+		sseEmitterRepository.deleteById(EMAIL, "connection1");
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(1L));
+
+		// then
+		assertEquals(Set.of("connection2"), sseEmitterRepository.findAllByEmail(EMAIL).keySet());
+		assertEquals(1, second.events.size());
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 재연결 - 놓친 알림만 재전송")
+	void replayMissedEvents() {
+		// given
+		connect("connection1");
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(1L));
+		long lastEventId = sseEmitterRepository.findEventsAfter(EMAIL, 0).get(0).id();
+
+		sseEmitterRepository.deleteById(EMAIL, "connection1");
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(2L));
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(3L));
+
+		// when
+		List<SseEmitterRepository.SseEvent> missed =
+				sseEmitterRepository.findEventsAfter(EMAIL, lastEventId);
+		SseEmitter reconnected = sseEmitterService.connect(EMAIL, String.valueOf(lastEventId));
+
+		// then
+		assertEquals(2, missed.size());
+		assertEquals(2L, ((NotificationInfoDto) missed.get(0).data()).getId());
+		assertEquals(3L, ((NotificationInfoDto) missed.get(1).data()).getId());
+		assertEquals(1, sseEmitterRepository.findAllByEmail(EMAIL).size());
+		assertTrue(sseEmitterRepository.findAllByEmail(EMAIL).containsValue(reconnected));
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 재연결 중 새 알림 - 재전송과 새 알림이 중복 / 역순 없이 전송")
+	void replayWhileSending() throws InterruptedException {
+		// given
+		RecordingSseEmitter reconnected = new RecordingSseEmitter();
+		SseEmitterService reconnectingService = new SseEmitterService(sseEmitterRepository,
+				sseDeliveryService) {
+			@Override
+			SseEmitter createEmitter() {
+				return reconnected;
+			}
+		};
+		for (long i = 1; i <= 50; i++) {
+			reconnectingService.sendNotificationToClient(EMAIL, notification(i));
+		}
+		long lastEventId = sseEmitterRepository.findEventsAfter(EMAIL, 0).get(9).id();
+
+		// when: 재연결과 동시에 새 알림 전송
+		Thread sender = new Thread(() -> {
+			for (long i = 51; i <= 100; i++) {
+				reconnectingService.sendNotificationToClient(EMAIL, notification(i));
+			}
+		});
+		sender.start();
+		reconnectingService.connect(EMAIL, String.valueOf(lastEventId));
+		sender.join();
+
+		// then: 연결 이벤트 다음에 11 ~ 100 번 알림이 한 번씩 순서대로 전송
+		List<String> ids = reconnected.events.stream()
+				.skip(1)
+				.map(SseEmitterServiceTest::eventId)
+				.toList();
+		List<String> expected = sseEmitterRepository.findEventsAfter(EMAIL, lastEventId).stream()
+				.map(event -> String.valueOf(event.id()))
+				.toList();
+		assertEquals(90, expected.size());
+		assertEquals(expected, ids);
+		assertNull(eventName(reconnected.events.get(0)));
+		assertNull(eventName(reconnected.events.get(1)));
+	}
+
+	@Test
+	@DisplayName("재연결 버퍼 - 최대 개수 초과 시 오래된 알림부터 삭제")
+	void replayBufferBounded() {
+		// given
+		connect("connection1");
+
+		// when
+		for (long i = 0; i < SseEmitterRepository.REPLAY_BUFFER_SIZE + 10; i++) {
+			sseEmitterService.sendNotificationToClient(EMAIL, notification(i));
+		}
+
+		// then
+		List<SseEmitterRepository.SseEvent> events = sseEmitterRepository.findEventsAfter(EMAIL, 0);
+		assertEquals(SseEmitterRepository.REPLAY_BUFFER_SIZE, events.size());
+		assertEquals(10L, ((NotificationInfoDto) events.get(0).data()).getId());
+	}
+
+	@Test
+	@DisplayName("heartbeat - 끊긴 연결 정리")
+	void heartbeatRemovesDeadConnections() {
+		// given
+		connect("alive");
+		sseEmitterRepository.save(EMAIL, "dead", new BrokenSseEmitter());
+
+		// when
+		sseEmitterService.sendHeartbeat();
+
+		// then
+		assertEquals(Set.of("alive"), sseEmitterRepository.findAllByEmail(EMAIL).keySet());
+	}
+
+	@Test
+	@DisplayName("연결 없이 TTL 경과 - 재연결 버퍼 삭제")
+	void evictExpiredReplayBuffer() {
+		// given
+		connect("connection1");
+		sseEmitterService.sendNotificationToClient(EMAIL, notification(1L));
+		sseEmitterRepository.deleteById(EMAIL, "connection1");
+
+		// when
+		sseEmitterRepository.evictExpired(
+				Instant.now().plus(SseEmitterRepository.REPLAY_TTL).plusSeconds(1));
+
+		// then
+		assertFalse(sseEmitterRepository.isTracked(EMAIL));
+	}
+
+	private RecordingSseEmitter connect(String connectionId) {
+		RecordingSseEmitter emitter = new RecordingSseEmitter();
+		sseEmitterRepository.save(EMAIL, connectionId, emitter);
+		return emitter;
+	}
+
+	private static String eventId(SseEventBuilder builder) {
+		return field(builder, "id:");
+	}
+
+	private static String eventName(SseEventBuilder builder) {
+		return field(builder, "event:");
+	}
+
+	private static String field(SseEventBuilder builder, String prefix) {
+		for (DataWithMediaType data : builder.build()) {
+			if (data.getData() instanceof String text) {
+				for (String line : text.split("\n")) {
+					if (line.startsWith(prefix)) {
+						return line.substring(prefix.length());
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	private NotificationInfoDto notification(Long id) {
+		return NotificationInfoDto.builder()
+				.id(id)
+				.build();
+	}
+
+	private static class RecordingSseEmitter extends SseEmitter {
+
+		private final List<SseEventBuilder> events = new ArrayList<>();
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			events.add(builder);
+		}
+	}
+
+	private static class BrokenSseEmitter extends SseEmitter {
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			throw new IOException("broken pipe");
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package team.rescue.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import team.rescue.notification.RedisSubscriber;
+import team.rescue.notification.dto.NotificationDto.NotificationInfoDto;
+import team.rescue.notification.entity.NotificationProperty;
+import team.rescue.notification.repository.SseEmitterRepository;
+import team.rescue.notification.service.SseDeliveryService.OverflowPolicy;
+import team.rescue.notification.type.NotificationType;
+
+/**
+ * 패턴 구독 리스너 하나로 로컬 emitter 10k 개에 분배하는 부하 테스트
+ * <p>Redis 없이 PSUBSCRIBE 로 들어오는 메시지를 그대로 리스너에 넣어,
+ * 이 노드의 유저에게만 한 번씩 전달되고 다른 노드 유저의 메시지는 버려지는지 확인한다.
+ * <p>리스너 처리 시간(대기열 적재)과 전송 완료까지의 시간을 따로 기록한다.
+ */
+@Slf4j
+class SseFanOutLoadTest {
+
+	private static final int EMITTER_COUNT = 10_000;
+	private static final byte[] PATTERN =
+			RedisMessageService.CHANNEL_PATTERN.getBytes(StandardCharsets.UTF_8);
+
+	private final GenericJackson2JsonRedisSerializer serializer =
+			new GenericJackson2JsonRedisSerializer();
+
+	private SseEmitterRepository sseEmitterRepository;
+	private SseDeliveryMetrics sseDeliveryMetrics;
+	private ExecutorService deliveryExecutor;
+	private RedisSubscriber redisSubscriber;
+	private List<CountingSseEmitter> emitters;
+
+	@BeforeEach
+	void setup() {
+		sseEmitterRepository = new SseEmitterRepository();
+		sseDeliveryMetrics = new SseDeliveryMetrics(new SimpleMeterRegistry());
+		deliveryExecutor = Executors.newFixedThreadPool(8);
+		SseDeliveryService sseDeliveryService = new SseDeliveryService(sseEmitterRepository,
+				sseDeliveryMetrics, deliveryExecutor, 128, OverflowPolicy.DROP_OLDEST,
+				Duration.ofSeconds(5));
+		redisSubscriber = new RedisSubscriber(
+				new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false),
+				new SseEmitterService(sseEmitterRepository, sseDeliveryService));
+
+		emitters = new ArrayList<>(EMITTER_COUNT);
+		for (int i = 0; i < EMITTER_COUNT; i++) {
+			CountingSseEmitter emitter = new CountingSseEmitter();
+			emitters.add(emitter);
+			sseEmitterRepository.save(email(i), "connection" + i, emitter);
+		}
+	}
+
+	@AfterEach
+	void cleanup() {
+		deliveryExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("10k 로컬 emitter - 유저별 메시지가 해당 emitter 에만 한 번 전달")
+	void fanOutToLocalEmitters() throws InterruptedException {
+		// given
+		List<DefaultMessage> messages = new ArrayList<>(EMITTER_COUNT * 2);
+		for (int i = 0; i < EMITTER_COUNT; i++) {
+			messages.add(message(email(i)));
+			// 다른 노드에 연결된 유저
+			messages.add(message("remote" + i + "@gmail.com"));
+		}
+
+		// when
+		long start = System.nanoTime();
+		for (DefaultMessage message : messages) {
+			redisSubscriber.onMessage(message, PATTERN);
+		}
+		long listenerMillis = (System.nanoTime() - start) / 1_000_000;
+
+		deliveryExecutor.shutdown();
+		deliveryExecutor.awaitTermination(30, TimeUnit.SECONDS);
+		long deliveredMillis = (System.nanoTime() - start) / 1_000_000;
+
+		// then
+		log.info("[SSE fan-out] messages={}, emitters={}, listener={}ms, delivered={}ms",
+				messages.size(), EMITTER_COUNT, listenerMillis, deliveredMillis);
+		assertEquals(0, sseDeliveryMetrics.getQueueDepth());
+		for (CountingSseEmitter emitter : emitters) {
+			assertEquals(1, emitter.sent.get());
+		}
+	}
+
+	private DefaultMessage message(String email) {
+		NotificationInfoDto notificationInfoDto = NotificationInfoDto.builder()
+				.id(1L)
+				.notificationType(NotificationType.RECIPE_REVIEWED)
+				.notificationProperty(new NotificationProperty(1L, 2L, "리뷰 알림"))
+				.createdAt(LocalDateTime.now())
+				.build();
+
+		return new DefaultMessage(
+				(RedisMessageService.CHANNEL_PREFIX + email).getBytes(StandardCharsets.UTF_8),
+				serializer.serialize(notificationInfoDto));
+	}
+
+	private String email(int i) {
+		return "user" + i + "@gmail.com";
+	}
+
+	private static class CountingSseEmitter extends SseEmitter {
+
+		private final AtomicInteger sent = new AtomicInteger();
+
+		@Override
+		public void send(SseEventBuilder builder) throws IOException {
+			sent.incrementAndGet();
+		}
+	}
+}
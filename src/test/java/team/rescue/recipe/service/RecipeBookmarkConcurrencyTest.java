@@ -0,0 +1,201 @@
+package team.rescue.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.common.file.FileService;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.repository.BookmarkRepository;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.search.repository.RecipeSearchRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
+
+/**
+ * 분산 락 없이 북마크 수가 북마크 row 수와 일치하는지 검증
+ * <p>서비스 호출마다 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@Import({JpaConfig.class, RecipeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecipeBookmarkConcurrencyTest {
+
+	private static final int REQUEST_COUNT = 300;
+	private static final int THREAD_COUNT = 32;
+
+	@Autowired
+	RecipeService recipeService;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	RecipeRepository recipeRepository;
+
+	@Autowired
+	BookmarkRepository bookmarkRepository;
+
+	@Autowired
+	TransactionTemplate transactionTemplate;
+
+	@MockBean
+	FileService fileService;
+
+	@MockBean
+	RecipeSearchRepository recipeSearchRepository;
+
+	@MockBean
+	RecipeViewCountRepository recipeViewCountRepository;
+
+	@MockBean
+	RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+
+	@MockBean
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	private Recipe recipe;
+	private List<Member> members;
+
+	@BeforeEach
+	void setup() {
+		members = new ArrayList<>();
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			members.add(Member.builder()
+					.nickname("test" + i)
+					.email("test" + i + "@gmail.com")
+					.password("password")
+					.role(RoleType.USER)
+					.provider(ProviderType.EMAIL)
+					.isEnabled(true)
+					.build());
+		}
+		memberRepository.saveAll(members);
+
+		recipe = recipeRepository.save(Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(0)
+				.isBlocked(false)
+				.member(members.get(0))
+				.build());
+	}
+
+	@AfterEach
+	void cleanup() {
+		bookmarkRepository.deleteAllInBatch();
+		recipeRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("동시 북마크 요청 - 북마크 수와 북마크 row 수 일치")
+	void concurrentBookmark() throws InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+
+		// when
+		for (Member member : members) {
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					recipeService.bookmarkRecipe(recipe.getId(), member.getEmail());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+		ready.countDown();
+		done.await(30, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		Integer bookmarkCount = recipeRepository.findBookmarkCountById(recipe.getId());
+		assertEquals(REQUEST_COUNT, bookmarkRepository.count());
+		assertEquals(bookmarkRepository.count(), bookmarkCount.longValue());
+	}
+
+	@Test
+	@DisplayName("동시 북마크 / 북마크 취소 요청 - 북마크 수와 북마크 row 수 일치")
+	void concurrentBookmarkToggle() throws InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch done = new CountDownLatch(REQUEST_COUNT * 2);
+
+		// when: 같은 유저가 북마크 후 취소를 반복
+		for (Member member : members) {
+			for (int i = 0; i < 2; i++) {
+				executorService.submit(() -> {
+					try {
+						recipeService.bookmarkRecipe(recipe.getId(), member.getEmail());
+					} catch (Exception ignored) {
+						// 같은 유저의 동시 중복 북마크는 유니크 제약으로 거절될 수 있음
+					} finally {
+						done.countDown();
+					}
+				});
+			}
+		}
+		done.await(30, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		Integer bookmarkCount = recipeRepository.findBookmarkCountById(recipe.getId());
+		assertEquals(bookmarkRepository.count(), bookmarkCount.longValue());
+	}
+
+	@Test
+	@DisplayName("레시피 수정 중 북마크 - 수정 커밋이 북마크 수를 덮어쓰지 않음")
+	void bookmarkDuringEdit() throws Exception {
+		// given
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		// when: 수정 트랜잭션이 레시피를 읽은 뒤, 커밋 전에 다른 요청의 북마크가 커밋됨
+		transactionTemplate.executeWithoutResult(status -> {
+			Recipe editing = recipeRepository.findById(recipe.getId()).orElseThrow();
+			try {
+				executorService.submit(() -> recipeService.bookmarkRecipe(
+						recipe.getId(), members.get(1).getEmail())).get(10, TimeUnit.SECONDS);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			editing.updateWithoutImage("newTitle", "newSummary");
+		});
+		executorService.shutdown();
+
+		// then
+		Recipe updated = recipeRepository.findById(recipe.getId()).orElseThrow();
+		assertEquals("newTitle", updated.getTitle());
+		assertEquals(1, updated.getBookmarkCount());
+		assertEquals(bookmarkRepository.count(), updated.getBookmarkCount().longValue());
+	}
+}
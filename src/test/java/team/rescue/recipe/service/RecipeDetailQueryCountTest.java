@@ -0,0 +1,149 @@
+package team.rescue.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.auth.user.PrincipalDetails;
+import team.rescue.common.file.FileService;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.recipe.dto.RecipeDto.RecipeDetailDto;
+import team.rescue.recipe.entity.Bookmark;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.entity.RecipeIngredient;
+import team.rescue.recipe.entity.RecipeStep;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.search.repository.RecipeSearchRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
+
+/**
+ * 레시피 상세 조회 쿼리 수 회귀 테스트
+ * <p>상세 조회 한 번에 실행되는 SQL 수가 예산을 넘으면 실패한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaConfig.class, RecipeService.class})
+class RecipeDetailQueryCountTest {
+
+	// 레시피+작성자, 재료, 스탭, 북마크 여부(재료 / 스탭은 곱집합을 피하려고 따로 조회)
+	private static final long STATEMENT_BUDGET = 4;
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	RecipeService recipeService;
+
+	@MockBean
+	FileService fileService;
+
+	@MockBean
+	RecipeSearchRepository recipeSearchRepository;
+
+	@MockBean
+	RecipeViewCountRepository recipeViewCountRepository;
+
+	@MockBean
+	RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+
+	@MockBean
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	private Member member;
+	private Recipe recipe;
+	private Statistics statistics;
+
+	@BeforeEach
+	void setup() {
+		member = em.persist(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		recipe = em.persist(Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(1)
+				.isBlocked(false)
+				.member(member)
+				.build());
+
+		for (int i = 0; i < 10; i++) {
+			em.persist(RecipeIngredient.builder()
+					.recipe(recipe)
+					.name("재료" + i)
+					.amount("1개")
+					.build());
+			em.persist(RecipeStep.builder()
+					.recipe(recipe)
+					.stepNo(i)
+					.stepImageUrl("stepImageUrl" + i)
+					.stepDescription("스탭" + i)
+					.stepTip("팁" + i)
+					.build());
+		}
+
+		em.persist(Bookmark.builder()
+				.recipe(recipe)
+				.member(member)
+				.build());
+
+		em.flush();
+		em.clear();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	@DisplayName("로그인 유저 레시피 상세 조회 - 쿼리 예산 이내")
+	void getRecipeWithinStatementBudget() {
+		// when
+		RecipeDetailDto recipeDetailDto =
+				recipeService.getRecipe(recipe.getId(), new PrincipalDetails(member));
+
+		// then
+		assertEquals(10, recipeDetailDto.getRecipeIngredients().size());
+		assertEquals(10, recipeDetailDto.getRecipeSteps().size());
+		assertEquals(member.getNickname(), recipeDetailDto.getAuthor().getNickname());
+		assertTrue(recipeDetailDto.getIsBookmarked());
+		assertTrue(statistics.getPrepareStatementCount() <= STATEMENT_BUDGET,
+				"statements=" + statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	@DisplayName("비로그인 레시피 상세 조회 - 북마크 여부 조회 생략")
+	void getRecipeAnonymousWithinStatementBudget() {
+		// when
+		RecipeDetailDto recipeDetailDto = recipeService.getRecipe(recipe.getId(), null);
+
+		// then
+		assertEquals(false, recipeDetailDto.getIsBookmarked());
+		assertTrue(statistics.getPrepareStatementCount() <= STATEMENT_BUDGET - 1,
+				"statements=" + statistics.getPrepareStatementCount());
+	}
+}
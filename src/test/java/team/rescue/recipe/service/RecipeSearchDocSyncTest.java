@@ -0,0 +1,183 @@
+package team.rescue.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.auth.user.PrincipalDetails;
+import team.rescue.common.file.FileService;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.recipe.dto.RecipeDto.RecipeUpdateDto;
+import team.rescue.recipe.dto.RecipeIngredientDto.RecipeIngredientCreateDto;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.entity.RecipeIngredient;
+import team.rescue.recipe.repository.RecipeIngredientRepository;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.search.entity.RecipeDoc;
+import team.rescue.search.repository.RecipeSearchRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
+
+/**
+ * 레시피 수정 / 삭제가 커밋된 뒤 검색 인덱스(Recipe Document)에 반영되는지 검증
+ * <p>커밋 후 반영을 확인해야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@Import({JpaConfig.class, RecipeService.class, RecipeViewCountBulkRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecipeSearchDocSyncTest {
+
+	@Autowired
+	RecipeService recipeService;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	RecipeRepository recipeRepository;
+
+	@Autowired
+	RecipeIngredientRepository recipeIngredientRepository;
+
+	@MockBean
+	FileService fileService;
+
+	@MockBean
+	RecipeSearchRepository recipeSearchRepository;
+
+	@MockBean
+	RecipeViewCountRepository recipeViewCountRepository;
+
+	@MockBean
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	private Member member;
+	private Recipe recipe;
+
+	@BeforeEach
+	void setup() {
+		member = memberRepository.save(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		recipe = recipeRepository.save(Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(0)
+				.isBlocked(false)
+				.member(member)
+				.build());
+
+		recipeIngredientRepository.saveAll(List.of(
+				ingredient("감자"),
+				ingredient("계란")));
+	}
+
+	@AfterEach
+	void cleanup() {
+		recipeIngredientRepository.deleteAllInBatch();
+		recipeRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("레시피 수정 - 바뀐 재료로 Recipe Document 재저장")
+	void updateRecipeSavesDoc() {
+		// given: 제목 / 요약은 그대로 두고 재료만 변경
+		RecipeUpdateDto info = RecipeUpdateDto.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.ingredients(List.of(ingredientDto("양파"), ingredientDto(" 계란 ")))
+				.updateSteps(List.of())
+				.deleteSteps(List.of())
+				.build();
+
+		// when
+		recipeService.updateRecipe(recipe.getId(), info, null, null, new PrincipalDetails(member));
+
+		// then
+		ArgumentCaptor<RecipeDoc> docCaptor = ArgumentCaptor.forClass(RecipeDoc.class);
+		verify(recipeSearchRepository).save(docCaptor.capture());
+		RecipeDoc recipeDoc = docCaptor.getValue();
+		assertEquals(recipe.getId(), recipeDoc.getId());
+		assertEquals(List.of("양파", "계란"), recipeDoc.getIngredientNames());
+		assertEquals(2, recipeDoc.getIngredientCount());
+	}
+
+	@Test
+	@DisplayName("레시피 수정 - 재료만 바뀌어도 수정 시각 갱신(재색인 변경분 기준)")
+	void updateIngredientsOnlyTouchesModifiedAt() {
+		// given
+		RecipeUpdateDto info = RecipeUpdateDto.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.ingredients(List.of(ingredientDto("양파")))
+				.updateSteps(List.of())
+				.deleteSteps(List.of())
+				.build();
+		LocalDateTime startedAt = LocalDateTime.now();
+
+		// when
+		recipeService.updateRecipe(recipe.getId(), info, null, null, new PrincipalDetails(member));
+
+		// then
+		assertEquals(List.of(recipe.getId()), recipeRepository
+				.findAllModifiedSinceForIndexing(0L, startedAt, PageRequest.of(0, 10))
+				.stream().map(Recipe::getId).toList());
+	}
+
+	@Test
+	@DisplayName("레시피 삭제 - 커밋 후 Recipe Document 삭제")
+	void deleteRecipeDeletesDoc() {
+		// when
+		recipeService.deleteRecipe(recipe.getId(), new PrincipalDetails(member));
+
+		// then
+		verify(recipeSearchRepository).delete(recipe.getId());
+		verify(recipeSearchRepository, never()).save(any());
+	}
+
+	private RecipeIngredient ingredient(String name) {
+		return RecipeIngredient.builder()
+				.recipe(recipe)
+				.name(name)
+				.amount("1개")
+				.build();
+	}
+
+	private RecipeIngredientCreateDto ingredientDto(String name) {
+		RecipeIngredientCreateDto ingredientDto = new RecipeIngredientCreateDto();
+		ingredientDto.setName(name);
+		ingredientDto.setAmount("1개");
+		return ingredientDto;
+	}
+}
@@ -43,6 +43,9 @@ import team.rescue.recipe.entity.RecipeStep;
 import team.rescue.recipe.repository.RecipeIngredientRepository;
 import team.rescue.recipe.repository.RecipeRepository;
 import team.rescue.recipe.repository.RecipeStepRepository;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
 
 @ExtendWith(MockitoExtension.class)
 public class RecipeServiceTest {
@@ -62,6 +65,15 @@ public class RecipeServiceTest {
 	@Mock
 	FileService fileService;
 
+	@Mock
+	RecipeViewCountRepository recipeViewCountRepository;
+
+	@Mock
+	RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+
+	@Mock
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
 	@InjectMocks
 	RecipeService recipeService;
 
@@ -102,8 +114,7 @@ public class RecipeServiceTest {
 				.member(member)
 				.build();
 
-		given(recipeRepository.findById(1L)).willReturn(Optional.of(recipe));
-		given(memberRepository.findById(1L)).willReturn(Optional.of(member));
+		given(recipeRepository.findDetailById(1L)).willReturn(Optional.of(recipe));
 
 		RecipeIngredient recipeIngredient1 = RecipeIngredient.builder()
 				.id(1L)
@@ -119,7 +130,7 @@ public class RecipeServiceTest {
 				.build();
 		List<RecipeIngredient> recipeIngredientList = new ArrayList<>(
 				Arrays.asList(recipeIngredient1, recipeIngredient2));
-		given(recipeIngredientRepository.findByRecipe(recipe)).willReturn(recipeIngredientList);
+		given(recipeIngredientRepository.findAllByRecipeId(1L)).willReturn(recipeIngredientList);
 
 		RecipeStep recipeStep1 = RecipeStep.builder()
 				.id(1L)
@@ -139,21 +150,25 @@ public class RecipeServiceTest {
 				.build();
 		List<RecipeStep> recipeStepList = new ArrayList<>(
 				Arrays.asList(recipeStep1, recipeStep2));
-		given(recipeStepRepository.findByRecipe(recipe)).willReturn(recipeStepList);
+		given(recipeStepRepository.findAllByRecipeId(1L)).willReturn(recipeStepList);
+		given(recipeViewCountRepository.increase(1L)).willReturn(1L);
 
 		// when
-		RecipeDetailDto recipeDetailDto = recipeService.getRecipe(1L);
+		RecipeDetailDto recipeDetailDto = recipeService.getRecipe(1L, null);
 
 		// then
 		assertEquals(recipeDetailDto.getId(), recipe.getId());
 		assertEquals(recipeDetailDto.getTitle(), recipe.getTitle());
 		assertEquals(recipeDetailDto.getSummary(), recipe.getSummary());
 		assertEquals(recipeDetailDto.getRecipeImageUrl(), recipe.getRecipeImageUrl());
-		assertEquals(recipeDetailDto.getViewCount(), recipe.getViewCount());
+		assertEquals(recipeDetailDto.getViewCount(), recipe.getViewCount() + 1);
 		assertEquals(recipeDetailDto.getReviewCount(), recipe.getReviewCount());
 		assertEquals(recipeDetailDto.getReportCount(), recipe.getReportCount());
 		assertEquals(recipeDetailDto.getBookmarkCount(), recipe.getBookmarkCount());
 		assertEquals(recipeDetailDto.getCreatedAt(), recipe.getCreatedAt());
+		assertEquals(recipeDetailDto.getAuthor().getNickname(), member.getNickname());
+		assertEquals(2, recipeDetailDto.getRecipeIngredients().size());
+		assertEquals(2, recipeDetailDto.getRecipeSteps().size());
 	}
 
 	@Test
@@ -162,47 +177,11 @@ public class RecipeServiceTest {
 	void failGetRecipe_RecipeNotFound() {
 
 		// given
-		given(recipeRepository.findById(1L)).willReturn(Optional.empty());
-
-		// when
-		ServiceException serviceException = assertThrows(ServiceException.class,
-				() -> recipeService.getRecipe(1L));
-
-		// then
-		assertEquals(RECIPE_NOT_FOUND.getHttpStatus(), serviceException.getStatusCode());
-	}
-
-	@Test
-	@DisplayName("레시피 조회 실패 = 사용자 정보 없음")
-	@WithMockMember(role = RoleType.USER)
-	void failGetRecipe_UserNotFound() {
-
-		// given
-		Member member = Member.builder()
-				.id(1L)
-				.nickname("테스트")
-				.email("test@gmail.com")
-				.build();
-
-		Recipe recipe = Recipe.builder()
-				.id(1L)
-				.title("testTitle")
-				.summary("testSummary")
-				.recipeImageUrl("mockedFilePath")
-				.viewCount(0)
-				.reportCount(0)
-				.reportCount(0)
-				.bookmarkCount(0)
-				.createdAt(LocalDateTime.now())
-				.member(member)
-				.build();
-
-		given(recipeRepository.findById(1L)).willReturn(Optional.of(recipe));
-		given(memberRepository.findById(1L)).willReturn(Optional.empty());
+		given(recipeRepository.findDetailById(1L)).willReturn(Optional.empty());
 
 		// when
 		ServiceException serviceException = assertThrows(ServiceException.class,
-				() -> recipeService.getRecipe(1L));
+				() -> recipeService.getRecipe(1L, null));
 
 		// then
 		assertEquals(RECIPE_NOT_FOUND.getHttpStatus(), serviceException.getStatusCode());
@@ -0,0 +1,130 @@
+package team.rescue.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.common.file.FileService;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.recipe.repository.RecipeViewCountBulkRepository;
+import team.rescue.recipe.repository.RecipeViewCountRepository;
+import team.rescue.search.repository.RecipeSearchRepository;
+import team.rescue.search.service.IngredientAutocompleteIndex;
+
+/**
+ * 조회수 증가분 묶음 반영이 재시도되어도 한 번만 반영되는지 검증
+ * <p>묶음마다 트랜잭션이 커밋되어야 하므로 테스트 트랜잭션은 사용하지 않는다.
+ */
+@DataJpaTest
+@Import({JpaConfig.class, RecipeService.class, RecipeViewCountBulkRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RecipeViewCountFlushTest {
+
+	@Autowired
+	RecipeService recipeService;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	RecipeRepository recipeRepository;
+
+	@Autowired
+	RecipeViewCountBulkRepository recipeViewCountBulkRepository;
+
+	@MockBean
+	FileService fileService;
+
+	@MockBean
+	RecipeSearchRepository recipeSearchRepository;
+
+	@MockBean
+	RecipeViewCountRepository recipeViewCountRepository;
+
+	@MockBean
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	private Recipe first;
+	private Recipe second;
+
+	@BeforeEach
+	void setup() {
+		Member member = memberRepository.save(Member.builder()
+				.nickname("test")
+				.email("test@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		first = recipeRepository.save(recipe(member, 10));
+		second = recipeRepository.save(recipe(member, 0));
+	}
+
+	@AfterEach
+	void cleanup() {
+		recipeViewCountBulkRepository.deleteAppliedBefore(LocalDateTime.now().plusDays(1));
+		recipeRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("조회수 묶음 반영 - 같은 묶음을 다시 반영해도 한 번만 증가")
+	void flushViewCountsIdempotent() {
+		// given
+		Map<Long, Integer> deltas = Map.of(first.getId(), 3, second.getId(), 5);
+
+		// when: 반영 커밋 후 Redis 묶음 삭제 전에 실패해 같은 묶음이 다시 들어옴
+		Map<Long, Integer> applied = recipeService.flushViewCounts("flush-1", deltas);
+		Map<Long, Integer> retried = recipeService.flushViewCounts("flush-1", deltas);
+
+		// then
+		assertEquals(Map.of(first.getId(), 13, second.getId(), 5), applied);
+		assertTrue(retried.isEmpty());
+		assertEquals(13, recipeRepository.findById(first.getId()).orElseThrow().getViewCount());
+		assertEquals(5, recipeRepository.findById(second.getId()).orElseThrow().getViewCount());
+	}
+
+	@Test
+	@DisplayName("조회수 묶음 반영 - 다른 묶음은 각각 반영")
+	void flushViewCountsDifferentBatches() {
+		// when
+		recipeService.flushViewCounts("flush-1", Map.of(first.getId(), 1));
+		recipeService.flushViewCounts("flush-2", Map.of(first.getId(), 2));
+
+		// then
+		assertEquals(13, recipeRepository.findById(first.getId()).orElseThrow().getViewCount());
+	}
+
+	private Recipe recipe(Member member, int viewCount) {
+		return Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(viewCount)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(0)
+				.isBlocked(false)
+				.member(member)
+				.build();
+	}
+}
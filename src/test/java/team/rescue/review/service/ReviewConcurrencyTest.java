@@ -0,0 +1,171 @@
+package team.rescue.review.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.auth.user.PrincipalDetails;
+import team.rescue.common.file.FileService;
+import team.rescue.config.JpaConfig;
+import team.rescue.cook.entity.Cook;
+import team.rescue.cook.repository.CookRepository;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.notification.event.NotificationEventPublisher;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.review.dto.ReviewDto.ReviewReqDto;
+import team.rescue.review.repository.ReviewRepository;
+
+/**
+ * 락 없이 동시에 리뷰를 등록해도 레시피 리뷰 수가 리뷰 row 수와 일치하는지 검증
+ * <p>리뷰 수는 원자적 UPDATE 로 증가하므로 {@code @DistributedLock} 없이도 유실되지 않아야 한다.
+ */
+@Slf4j
+@DataJpaTest
+@Import({JpaConfig.class, ReviewService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReviewConcurrencyTest {
+
+	private static final int REQUEST_COUNT = 200;
+	private static final int THREAD_COUNT = 32;
+
+	@Autowired
+	ReviewService reviewService;
+
+	@Autowired
+	MemberRepository memberRepository;
+
+	@Autowired
+	RecipeRepository recipeRepository;
+
+	@Autowired
+	CookRepository cookRepository;
+
+	@Autowired
+	ReviewRepository reviewRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	FileService fileService;
+
+	@MockBean
+	NotificationEventPublisher notificationEventPublisher;
+
+	private Recipe recipe;
+	private List<Member> members;
+	private List<Cook> cooks;
+
+	@BeforeEach
+	void setup() {
+		members = new ArrayList<>();
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			members.add(Member.builder()
+					.nickname("test" + i)
+					.email("test" + i + "@gmail.com")
+					.password("password")
+					.role(RoleType.USER)
+					.provider(ProviderType.EMAIL)
+					.isEnabled(true)
+					.build());
+		}
+		memberRepository.saveAll(members);
+
+		recipe = recipeRepository.save(Recipe.builder()
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.reportCount(0)
+				.bookmarkCount(0)
+				.isBlocked(false)
+				.member(members.get(0))
+				.build());
+
+		cooks = new ArrayList<>();
+		for (Member member : members) {
+			cooks.add(Cook.builder()
+					.member(member)
+					.recipe(recipe)
+					.build());
+		}
+		cookRepository.saveAll(cooks);
+	}
+
+	@AfterEach
+	void cleanup() {
+		reviewRepository.deleteAllInBatch();
+		cookRepository.deleteAllInBatch();
+		recipeRepository.deleteAllInBatch();
+		memberRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("동시 리뷰 등록 - 리뷰 수와 리뷰 row 수 일치")
+	void concurrentCreateReview() throws InterruptedException {
+		// given
+		ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+		MockMultipartFile image = new MockMultipartFile(
+				"image", "image.png", "image/png", new byte[]{1});
+
+		// when
+		for (int i = 0; i < REQUEST_COUNT; i++) {
+			Member member = members.get(i);
+			ReviewReqDto reviewReqDto = new ReviewReqDto();
+			reviewReqDto.setRecipeId(recipe.getId());
+			reviewReqDto.setCookId(cooks.get(i).getId());
+			reviewReqDto.setTitle("title" + i);
+			reviewReqDto.setContents("contents" + i);
+
+			executorService.submit(() -> {
+				try {
+					ready.await();
+					reviewService.createReview(reviewReqDto, image, new PrincipalDetails(member));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		long startedAt = System.nanoTime();
+		ready.countDown();
+		done.await(30, TimeUnit.SECONDS);
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+		executorService.shutdown();
+
+		// then
+		Integer reviewCount = jdbcTemplate.queryForObject(
+				"SELECT review_count FROM recipe WHERE recipe_id = ?", Integer.class, recipe.getId());
+
+		log.info("[Review Concurrency] {} requests / {} threads - {} ms",
+				REQUEST_COUNT, THREAD_COUNT, elapsedMillis);
+		assertEquals(REQUEST_COUNT, reviewRepository.count());
+		assertEquals(reviewRepository.count(), reviewCount.longValue());
+	}
+}
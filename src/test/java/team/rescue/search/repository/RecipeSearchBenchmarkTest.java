@@ -0,0 +1,203 @@
+package team.rescue.search.repository;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.ClientConfiguration;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchClients;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import team.rescue.auth.type.RoleType;
+import team.rescue.search.entity.RecipeDoc;
+
+/**
+ * 재료 검색 지연 시간 벤치마크(레시피 10만 건 로컬 인덱스)
+ * <p>기존 OR 검색(searchByIngredients)과 소비기한 가중치 검색(searchByIngredientWeights)을
+ * 같은 냉장고 재료로 번갈아 실행해 p50 / p95 를 로그로 남긴다.
+ * <p>로컬 Elasticsearch 가 있어야 하므로 -Dsearch.benchmark.uris=localhost:9200 을 줄 때만 실행한다.
+ * 처음 실행할 때 recipes_v{N} 인덱스(recipes alias)에 10만 건을 채우므로 개발 / 운영 클러스터를 가리키면 안 된다.
+ */
+@Slf4j
+@TestInstance(Lifecycle.PER_CLASS)
+@EnabledIfSystemProperty(named = "search.benchmark.uris", matches = ".+")
+class RecipeSearchBenchmarkTest {
+
+	private static final int RECIPE_COUNT = 100_000;
+	private static final int VOCABULARY_SIZE = 500;
+	private static final int FRIDGE_SIZE = 20;
+	private static final int BULK_SIZE = 5_000;
+	private static final int WARMUP = 50;
+	private static final int ITERATIONS = 300;
+
+	private final Random random = new Random(42);
+	private final Pageable pageable = PageRequest.of(0, 20);
+
+	private ElasticsearchTemplate elasticsearchTemplate;
+	private RecipeSearchRepository recipeSearchRepository;
+
+	@BeforeAll
+	void setup() {
+		elasticsearchTemplate = new ElasticsearchTemplate(ElasticsearchClients.createImperative(
+				ClientConfiguration.create(System.getProperty("search.benchmark.uris"))));
+		recipeSearchRepository = new RecipeSearchRepository(elasticsearchTemplate);
+
+		// 운영과 같은 설정 / 매핑의 recipes_v{N} 인덱스를 만들고 recipes alias 로 연결(RecipeIndexInitializer 와 동일)
+		IndexOperations indexOperations =
+				elasticsearchTemplate.indexOps(IndexCoordinates.of(RecipeDoc.versionedIndexName()));
+		if (!indexOperations.exists()) {
+			indexOperations.create(indexOperations.createSettings(RecipeDoc.class),
+					indexOperations.createMapping(RecipeDoc.class));
+		}
+		linkAlias();
+
+		long indexed = elasticsearchTemplate.count(Query.findAll(), RecipeDoc.class);
+		if (indexed < RECIPE_COUNT) {
+			seed(indexed);
+			indexOperations.refresh();
+		}
+	}
+
+	private void linkAlias() {
+		IndexOperations aliasOperations =
+				elasticsearchTemplate.indexOps(IndexCoordinates.of(RecipeDoc.INDEX_ALIAS));
+		Set<String> currentIndices = aliasOperations.exists()
+				? aliasOperations.getAliasesForIndex(RecipeDoc.INDEX_ALIAS).keySet()
+				: Set.of();
+		if (currentIndices.equals(Set.of(RecipeDoc.versionedIndexName()))) {
+			return;
+		}
+
+		AliasActions aliasActions = new AliasActions();
+		if (currentIndices.contains(RecipeDoc.INDEX_ALIAS)) {
+			// 이전 벤치마크가 동적 매핑으로 만든 recipes 인덱스
+			aliasActions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+					.withIndices(RecipeDoc.INDEX_ALIAS)
+					.build()));
+		}
+		aliasActions.add(new AliasAction.Add(AliasActionParameters.builder()
+				.withIndices(RecipeDoc.versionedIndexName())
+				.withAliases(RecipeDoc.INDEX_ALIAS)
+				.build()));
+		aliasOperations.alias(aliasActions);
+	}
+
+	@Test
+	@DisplayName("OR 재료 검색 / 소비기한 가중치 검색 지연 시간 비교")
+	void compareLatency() {
+		// given
+		List<Map<String, Float>> fridges = new ArrayList<>();
+		for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+			fridges.add(fridge());
+		}
+
+		// when
+		long[] plain = measure(fridges, fridge -> () -> recipeSearchRepository.searchByIngredients(
+				String.join(" ", fridge.keySet()), pageable).getTotalElements());
+		long[] weighted = measure(fridges, fridge -> () -> recipeSearchRepository
+				.searchByIngredientWeights(fridge, pageable).getTotalHits());
+
+		// then: 두 검색 모두 매번 결과가 있는지는 measure 에서 검증
+		log.info("[Search Benchmark] recipes={}, fridge={}, plain p50={}ms p95={}ms, "
+						+ "weighted p50={}ms p95={}ms", RECIPE_COUNT, FRIDGE_SIZE,
+				percentile(plain, 50), percentile(plain, 95),
+				percentile(weighted, 50), percentile(weighted, 95));
+	}
+
+	private long[] measure(List<Map<String, Float>> fridges,
+			Function<Map<String, Float>, Supplier<Long>> search) {
+		long[] elapsed = new long[ITERATIONS];
+		for (int i = 0; i < fridges.size(); i++) {
+			Supplier<Long> query = search.apply(fridges.get(i));
+			long startedAt = System.nanoTime();
+			long totalHits = query.get();
+			if (i >= WARMUP) {
+				elapsed[i - WARMUP] = System.nanoTime() - startedAt;
+				assertTrue(totalHits > 0);
+			}
+		}
+		return elapsed;
+	}
+
+	private double percentile(long[] elapsed, int percentile) {
+		long[] sorted = elapsed.clone();
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	private void seed(long from) {
+		List<RecipeDoc> recipeDocs = new ArrayList<>(BULK_SIZE);
+		for (long id = from + 1; id <= RECIPE_COUNT; id++) {
+			List<String> ingredientNames = List.copyOf(ingredients(5 + random.nextInt(8)));
+			recipeDocs.add(RecipeDoc.builder()
+					.id(id)
+					.title("레시피" + id)
+					.summary("요약" + id)
+					.viewCount(random.nextInt(1000))
+					.reviewCount(random.nextInt(100))
+					.ingredients(String.join(" ", ingredientNames))
+					.ingredientNames(ingredientNames)
+					.ingredientCount(ingredientNames.size())
+					.createdAt(ZonedDateTime.now())
+					.memberId(1L)
+					.memberNickname("bench")
+					.memberRole(RoleType.USER)
+					.image("image.jpg")
+					.build());
+
+			if (recipeDocs.size() == BULK_SIZE) {
+				elasticsearchTemplate.save(recipeDocs);
+				recipeDocs.clear();
+			}
+		}
+
+		if (!recipeDocs.isEmpty()) {
+			elasticsearchTemplate.save(recipeDocs);
+		}
+	}
+
+	private Map<String, Float> fridge() {
+		Map<String, Float> fridge = new LinkedHashMap<>();
+		for (String ingredient : ingredients(FRIDGE_SIZE)) {
+			fridge.put(ingredient, 1.0f + 4.0f / (1 + random.nextInt(14)));
+		}
+		return fridge;
+	}
+
+	/**
+	 * 앞쪽 재료가 자주 쓰이도록 치우친 분포로 재료 선택
+	 */
+	private Set<String> ingredients(int size) {
+		Set<String> ingredients = new LinkedHashSet<>();
+		while (ingredients.size() < size) {
+			double skewed = Math.pow(random.nextDouble(), 2);
+			ingredients.add("재료" + (int) (skewed * VOCABULARY_SIZE));
+		}
+		return ingredients;
+	}
+}
@@ -0,0 +1,158 @@
+package team.rescue.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import team.rescue.auth.type.ProviderType;
+import team.rescue.auth.type.RoleType;
+import team.rescue.config.JpaConfig;
+import team.rescue.member.entity.Member;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.entity.RecipeIngredient;
+
+/**
+ * 재료 자동완성 벤치마크
+ * <p>기존 LIKE 'prefix%' 조회와 메모리 trie 조회를 같은 prefix 목록으로 번갈아 실행해 p50 / p95 를 로그로 남긴다.
+ * 절대 시간은 환경에 따라 달라지므로 결과 개수만 검증한다.
+ */
+@Slf4j
+@DataJpaTest
+@Import({JpaConfig.class, IngredientAutocompleteIndex.class})
+class IngredientAutocompleteBenchmarkTest {
+
+	private static final String[] SYLLABLES = {
+			"가", "고", "김", "감", "계", "나", "당", "대", "마", "무",
+			"바", "배", "버", "사", "새", "소", "양", "오", "참", "파"};
+	private static final int RECIPE_COUNT = 1_000;
+	private static final int INGREDIENTS_PER_RECIPE = 10;
+	private static final int SUGGESTION_SIZE = 10;
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 1_000;
+
+	private final Random random = new Random(42);
+
+	@Autowired
+	TestEntityManager em;
+
+	@Autowired
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	@BeforeEach
+	void setup() {
+		Member member = em.persist(Member.builder()
+				.nickname("bench")
+				.email("bench@gmail.com")
+				.password("password")
+				.role(RoleType.USER)
+				.provider(ProviderType.EMAIL)
+				.isEnabled(true)
+				.build());
+
+		for (int i = 0; i < RECIPE_COUNT; i++) {
+			Recipe recipe = em.persist(Recipe.builder()
+					.title("레시피" + i)
+					.summary("요약" + i)
+					.recipeImageUrl("recipeImageUrl")
+					.viewCount(0)
+					.reviewCount(0)
+					.reportCount(0)
+					.bookmarkCount(0)
+					.isBlocked(false)
+					.member(member)
+					.build());
+
+			for (int j = 0; j < INGREDIENTS_PER_RECIPE; j++) {
+				em.persist(RecipeIngredient.builder()
+						.recipe(recipe)
+						.name(syllables(3))
+						.amount("1개")
+						.build());
+			}
+		}
+
+		em.flush();
+		em.clear();
+		ingredientAutocompleteIndex.reload();
+	}
+
+	@Test
+	@DisplayName("재료 자동완성 - LIKE 조회 / trie 조회 지연 시간 비교")
+	void compareLatency() {
+		// given
+		List<String> prefixes = new ArrayList<>();
+		for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+			prefixes.add(syllables(1 + random.nextInt(2)));
+		}
+
+		// when
+		long[] like = measure(prefixes, prefix -> {
+			List<String> names = findNamesByLike(prefix);
+			return names.subList(0, Math.min(SUGGESTION_SIZE, names.size()));
+		});
+		long[] trie = measure(prefixes,
+				prefix -> ingredientAutocompleteIndex.complete(prefix, SUGGESTION_SIZE));
+
+		// then
+		log.info("[Autocomplete Benchmark] rows={}, like p50={}us p95={}us, trie p50={}us p95={}us",
+				RECIPE_COUNT * INGREDIENTS_PER_RECIPE,
+				percentile(like, 50), percentile(like, 95),
+				percentile(trie, 50), percentile(trie, 95));
+
+		for (String prefix : prefixes) {
+			List<String> names = findNamesByLike(prefix);
+			List<String> completed = ingredientAutocompleteIndex.complete(prefix, SUGGESTION_SIZE);
+			assertEquals(Math.min(SUGGESTION_SIZE, names.size()), completed.size());
+			assertTrue(completed.stream().allMatch(name -> name.startsWith(prefix)));
+		}
+	}
+
+	// 자동완성을 trie 로 옮기기 전의 조회(비교용으로만 남긴다)
+	private List<String> findNamesByLike(String prefix) {
+		return em.getEntityManager()
+				.createQuery("SELECT DISTINCT ri.name FROM RecipeIngredient ri "
+						+ "WHERE ri.name LIKE CONCAT(:prefix, '%') ORDER BY ri.name ASC", String.class)
+				.setParameter("prefix", prefix)
+				.getResultList();
+	}
+
+	private long[] measure(List<String> prefixes, Function<String, List<String>> complete) {
+		long[] elapsed = new long[ITERATIONS];
+		for (int i = 0; i < prefixes.size(); i++) {
+			long startedAt = System.nanoTime();
+			complete.apply(prefixes.get(i));
+			if (i >= WARMUP) {
+				elapsed[i - WARMUP] = System.nanoTime() - startedAt;
+			}
+		}
+		return elapsed;
+	}
+
+	private long percentile(long[] elapsed, int percentile) {
+		long[] sorted = elapsed.clone();
+		Arrays.sort(sorted);
+		int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+		return TimeUnit.NANOSECONDS.toMicros(sorted[Math.max(0, index)]);
+	}
+
+	private String syllables(int length) {
+		StringBuilder name = new StringBuilder();
+		for (int i = 0; i < length; i++) {
+			name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+		}
+		return name.toString();
+	}
+}
@@ -0,0 +1,96 @@
+package team.rescue.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import team.rescue.recipe.repository.RecipeIngredientRepository;
+
+@ExtendWith(MockitoExtension.class)
+class IngredientAutocompleteIndexTest {
+
+	@Mock
+	RecipeIngredientRepository recipeIngredientRepository;
+
+	@InjectMocks
+	IngredientAutocompleteIndex ingredientAutocompleteIndex;
+
+	@Test
+	@DisplayName("자동완성 - 사용 레시피 수 내림차순, 같으면 이름순")
+	void completeByPopularity() {
+		// given
+		given(recipeIngredientRepository.countRecipesGroupByName()).willReturn(rows(
+				"계란", 3L, "계란말이", 5L, "계피", 3L, "고추", 10L, " 계란 ", 1L));
+
+		// when
+		int loaded = ingredientAutocompleteIndex.reload();
+
+		// then: 앞뒤 공백만 다른 재료명은 합쳐짐
+		assertEquals(4, loaded);
+		assertEquals(List.of("계란말이", "계란", "계피"), ingredientAutocompleteIndex.complete("계", 10));
+		assertEquals(List.of("계란말이", "계란"), ingredientAutocompleteIndex.complete(" 계란", 10));
+		assertEquals(List.of("계란말이"), ingredientAutocompleteIndex.complete("계란말", 10));
+		assertEquals(List.of("계란말이"), ingredientAutocompleteIndex.complete("계", 1));
+		assertEquals(List.of(), ingredientAutocompleteIndex.complete("계란빵", 10));
+		assertEquals(List.of(), ingredientAutocompleteIndex.complete("", 10));
+	}
+
+	@Test
+	@DisplayName("재료 변경 반영 - 새 재료 추가와 순위 변경")
+	void updateIncrease() {
+		// given
+		given(recipeIngredientRepository.countRecipesGroupByName())
+				.willReturn(rows("감자", 2L, "감자전분", 1L));
+		ingredientAutocompleteIndex.reload();
+
+		// when: 트랜잭션 밖이므로 바로 반영
+		ingredientAutocompleteIndex.updateAfterCommit(List.of(), List.of("감귤", "감자전분"));
+		ingredientAutocompleteIndex.updateAfterCommit(List.of(), List.of("감자전분", "감자전분"));
+
+		// then: 레시피 안의 중복 재료는 한 번만 셈
+		assertEquals(List.of("감자전분", "감자", "감귤"), ingredientAutocompleteIndex.complete("감", 10));
+		assertEquals(List.of("감귤"), ingredientAutocompleteIndex.complete("감귤", 10));
+	}
+
+	@Test
+	@DisplayName("재료 변경 반영 - 줄어든 재료 대신 상위 목록 밖 재료가 올라옴")
+	void updateDecrease() {
+		// given: 상위 10개 밖에 있는 "재료0" 이 가장 적게 쓰임
+		List<Object> counts = new ArrayList<>();
+		IntStream.rangeClosed(0, IngredientTrie.TOP_K).forEach(i -> {
+			counts.add("재료" + i);
+			counts.add(i + 1L);
+		});
+		given(recipeIngredientRepository.countRecipesGroupByName())
+				.willReturn(rows(counts.toArray()));
+		ingredientAutocompleteIndex.reload();
+
+		// when: 가장 많이 쓰인 재료가 모든 레시피에서 빠짐
+		for (int i = 0; i <= IngredientTrie.TOP_K; i++) {
+			ingredientAutocompleteIndex.updateAfterCommit(List.of("재료" + IngredientTrie.TOP_K), List.of());
+		}
+
+		// then
+		List<String> completed = ingredientAutocompleteIndex.complete("재료", 10);
+		assertEquals(IngredientTrie.TOP_K, completed.size());
+		assertEquals("재료9", completed.get(0));
+		assertEquals("재료0", completed.get(completed.size() - 1));
+		assertEquals(List.of(), ingredientAutocompleteIndex.complete("재료" + IngredientTrie.TOP_K, 10));
+	}
+
+	private List<Object[]> rows(Object... values) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int i = 0; i < values.length; i += 2) {
+			rows.add(new Object[]{values[i], values[i + 1]});
+		}
+		return rows;
+	}
+}
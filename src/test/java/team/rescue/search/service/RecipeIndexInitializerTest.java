@@ -0,0 +1,196 @@
+package team.rescue.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.MappingBuilder;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import team.rescue.member.entity.Member;
+import team.rescue.recipe.entity.Recipe;
+import team.rescue.recipe.repository.RecipeIngredientRepository;
+import team.rescue.recipe.repository.RecipeRepository;
+import team.rescue.search.entity.RecipeDoc;
+import team.rescue.search.repository.RecipeSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeIndexInitializerTest {
+
+	@Mock
+	ElasticsearchOperations searchOperations;
+
+	@Mock
+	RecipeSearchRepository recipeSearchRepository;
+
+	@Mock
+	RecipeRepository recipeRepository;
+
+	@Mock
+	RecipeIngredientRepository recipeIngredientRepository;
+
+	@Mock
+	IndexOperations versionedIndexOperations;
+
+	@Mock
+	IndexOperations aliasOperations;
+
+	@InjectMocks
+	RecipeIndexInitializer recipeIndexInitializer;
+
+	@BeforeEach
+	void setup() {
+		lenient().when(searchOperations.indexOps(argThat(isIndex(RecipeDoc.versionedIndexName()))))
+				.thenReturn(versionedIndexOperations);
+		lenient().when(searchOperations.indexOps(argThat(isIndex(RecipeDoc.INDEX_ALIAS))))
+				.thenReturn(aliasOperations);
+	}
+
+	@Test
+	@DisplayName("검색 인덱스 초기화 - 설정 / 매핑으로 새 인덱스 생성 후 alias 를 한 번의 요청으로 전환")
+	void initializeNewIndex() {
+		// given: 동적 매핑으로 자동 생성된 recipes 인덱스가 있음
+		Settings settings = new Settings();
+		Document mapping = Document.create();
+		given(versionedIndexOperations.exists()).willReturn(false);
+		given(versionedIndexOperations.createSettings(RecipeDoc.class)).willReturn(settings);
+		given(versionedIndexOperations.createMapping(RecipeDoc.class)).willReturn(mapping);
+		given(versionedIndexOperations.create(settings, mapping)).willReturn(true);
+		given(aliasOperations.exists()).willReturn(true);
+		given(aliasOperations.getAliasesForIndex(RecipeDoc.INDEX_ALIAS))
+				.willReturn(Map.of(RecipeDoc.INDEX_ALIAS, Set.of()));
+
+		// 1, 2번 레시피를 색인했고, 색인 중 2번이 삭제되고 3번이 등록됨
+		given(recipeRepository.findAllForIndexing(eq(0L), any()))
+				.willReturn(List.of(recipe(1L), recipe(2L)));
+		given(recipeRepository.findAllForIndexing(eq(2L), any())).willReturn(List.of());
+		given(recipeRepository.findAllModifiedSinceForIndexing(eq(0L), any(), any()))
+				.willReturn(List.of(recipe(3L)));
+		given(recipeRepository.findAllModifiedSinceForIndexing(eq(3L), any(), any()))
+				.willReturn(List.of());
+		given(recipeRepository.findExistingIds(List.of(1L, 2L))).willReturn(List.of(1L));
+
+		// when
+		recipeIndexInitializer.initialize();
+
+		// then
+		verify(versionedIndexOperations).create(settings, mapping);
+
+		ArgumentCaptor<AliasActions> aliasCaptor = ArgumentCaptor.forClass(AliasActions.class);
+		verify(aliasOperations).alias(aliasCaptor.capture());
+		AliasAction[] actions = aliasCaptor.getValue().getActions();
+		assertEquals(2, actions.length);
+		assertInstanceOf(AliasAction.RemoveIndex.class, actions[0]);
+		assertArrayEquals(new String[]{RecipeDoc.INDEX_ALIAS}, actions[0].getParameters().getIndices());
+		assertInstanceOf(AliasAction.Add.class, actions[1]);
+		assertArrayEquals(new String[]{RecipeDoc.versionedIndexName()},
+				actions[1].getParameters().getIndices());
+		assertArrayEquals(new String[]{RecipeDoc.INDEX_ALIAS}, actions[1].getParameters().getAliases());
+		verify(aliasOperations, never()).delete();
+
+		ArgumentMatcher<IndexCoordinates> index = isIndex(RecipeDoc.versionedIndexName());
+		verify(recipeSearchRepository).saveAll(argThat(docs -> docs.size() == 2), argThat(index));
+		verify(recipeSearchRepository).saveAll(argThat(docs -> docs.size() == 1
+				&& docs.get(0).getId().equals(3L)), argThat(index));
+		verify(recipeSearchRepository).deleteAll(eq(Set.of(2L)), argThat(index));
+	}
+
+	@Test
+	@DisplayName("검색 인덱스 초기화 - 다른 노드가 먼저 인덱스를 만들면 색인하지 않음")
+	void initializeCreatedByOtherNode() {
+		// given
+		given(versionedIndexOperations.exists()).willReturn(false, true);
+		willThrow(new RuntimeException("resource_already_exists_exception"))
+				.given(versionedIndexOperations).create(any(), any());
+
+		// when
+		recipeIndexInitializer.initialize();
+
+		// then
+		verify(recipeRepository, never()).findAllForIndexing(anyLong(), any());
+		verify(aliasOperations, never()).alias(any());
+	}
+
+	@Test
+	@DisplayName("검색 인덱스 매핑 - 매핑이 사용하는 analyzer 가 모두 설정에 정의됨")
+	void mappingAnalyzersDefinedInSettings() throws Exception {
+		// given
+		ObjectMapper objectMapper = new ObjectMapper();
+		MappingBuilder mappingBuilder = new MappingBuilder(
+				new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext()));
+
+		JsonNode settings;
+		try (InputStream input =
+				new ClassPathResource("elasticsearch/recipe-settings.json").getInputStream()) {
+			settings = objectMapper.readTree(input);
+		}
+
+		// when
+		JsonNode mapping = objectMapper.readTree(mappingBuilder.buildPropertyMapping(RecipeDoc.class));
+
+		// then
+		List<String> analyzers = new ArrayList<>();
+		mapping.findValues("analyzer").forEach(node -> analyzers.add(node.asText()));
+		mapping.findValues("search_analyzer").forEach(node -> analyzers.add(node.asText()));
+
+		assertTrue(analyzers.containsAll(List.of("korean_ngram", "prefix", "prefix_search")));
+		JsonNode definedAnalyzers = settings.path("analysis").path("analyzer");
+		analyzers.forEach(analyzer -> assertTrue(definedAnalyzers.has(analyzer), analyzer));
+		assertEquals("keyword",
+				mapping.path("properties").path("ingredientNames").path("type").asText());
+	}
+
+	private ArgumentMatcher<IndexCoordinates> isIndex(String indexName) {
+		return index -> index != null && index.getIndexName().equals(indexName);
+	}
+
+	private Recipe recipe(Long id) {
+		return Recipe.builder()
+				.id(id)
+				.title("testTitle")
+				.summary("testSummary")
+				.recipeImageUrl("recipeImageUrl")
+				.viewCount(0)
+				.reviewCount(0)
+				.createdAt(LocalDateTime.now())
+				.member(Member.builder()
+						.id(1L)
+						.build())
+				.build();
+	}
+}
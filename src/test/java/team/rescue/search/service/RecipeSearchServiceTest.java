@@ -0,0 +1,332 @@
+package team.rescue.search.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static team.rescue.error.type.ServiceError.SEARCH_SIZE_INVALID;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitSupport;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import team.rescue.auth.type.RoleType;
+import team.rescue.error.exception.ServiceException;
+import team.rescue.fridge.entity.Fridge;
+import team.rescue.fridge.entity.FridgeIngredient;
+import team.rescue.fridge.repository.FridgeRepository;
+import team.rescue.member.entity.Member;
+import team.rescue.member.repository.MemberRepository;
+import team.rescue.recipe.dto.RecipeDto.RecipeInfoDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCoverageDto;
+import team.rescue.search.dto.RecipeSearchDto.RecipeCursorDto;
+import team.rescue.search.entity.RecipeDoc;
+import team.rescue.search.repository.RecipeSearchRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RecipeSearchServiceTest {
+
+	@Mock
+	RecipeSearchRepository recipeSearchRepository;
+
+	@Mock
+	MemberRepository memberRepository;
+
+	@Mock
+	FridgeRepository fridgeRepository;
+
+	@InjectMocks
+	RecipeSearchService recipeSearchService;
+
+	@Test
+	@DisplayName("키워드 검색 - 요청한 페이지 정보와 전체 검색 결과 수 유지")
+	void searchRecipeByKeywordKeepsPageMetadata() {
+		// given
+		Pageable pageable = PageRequest.of(2, 10);
+		SearchHits<RecipeDoc> searchHits = searchHits(List.of(1L, 2L), 42L);
+		given(recipeSearchRepository.searchByKeyword("계란", pageable))
+				.willReturn(SearchHitSupport.searchPageFor(searchHits, pageable));
+
+		// when
+		Page<RecipeInfoDto> result = recipeSearchService.searchRecipeByKeyword("계란", pageable);
+
+		// then
+		assertEquals(2, result.getNumber());
+		assertEquals(10, result.getSize());
+		assertEquals(42, result.getTotalElements());
+		assertEquals(5, result.getTotalPages());
+		assertEquals(2, result.getContent().size());
+	}
+
+	@Test
+	@DisplayName("키워드 커서 검색 - 다음 페이지가 있으면 마지막 문서 정렬 값으로 커서 생성")
+	void searchRecipeByKeywordAfter() {
+		// given
+		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+		SearchHits<RecipeDoc> firstHits = searchHits(List.of(1L, 2L, 3L), 10L);
+		given(recipeSearchRepository.searchByKeywordAfter("계란", sort, null, 3))
+				.willReturn(firstHits);
+
+		// when
+		RecipeCursorDto first = recipeSearchService.searchRecipeByKeywordAfter("계란", sort, null, 2);
+
+		// then
+		assertTrue(first.getHasNext());
+		assertEquals(2, first.getContent().size());
+		assertEquals(List.of(1000L, 2L), SearchCursor.decode(first.getNextCursor()).stream()
+				.map(value -> ((Number) value).longValue())
+				.toList());
+	}
+
+	@Test
+	@DisplayName("키워드 커서 검색 - 마지막 페이지면 다음 커서 없음")
+	void searchRecipeByKeywordAfterLastPage() {
+		// given
+		Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+		List<Object> searchAfter = List.of(1000L, 2L);
+		SearchHits<RecipeDoc> lastHits = searchHits(List.of(3L), 10L);
+		given(recipeSearchRepository.searchByKeywordAfter(eq("계란"), eq(sort), any(), eq(3)))
+				.willReturn(lastHits);
+
+		// when
+		RecipeCursorDto last = recipeSearchService.searchRecipeByKeywordAfter(
+				"계란", sort, SearchCursor.encode(searchAfter), 2);
+
+		// then
+		assertFalse(last.getHasNext());
+		assertNull(last.getNextCursor());
+		assertEquals(1, last.getContent().size());
+	}
+
+	@Test
+	@DisplayName("키워드 커서 검색 실패 - 잘못된 커서")
+	void searchRecipeByKeywordAfterInvalidCursor() {
+		// when
+		assertThrows(ServiceException.class, () -> recipeSearchService
+				.searchRecipeByKeywordAfter("계란", Sort.unsorted(), "not-a-cursor!", 2));
+
+		// then
+		verify(recipeSearchRepository, never())
+				.searchByKeywordAfter(anyString(), any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("커서 검색 실패 - 조회 개수가 범위를 벗어남")
+	void searchRecipeAfterInvalidSize() {
+		for (int size : new int[]{0, -1, RecipeSearchService.MAX_CURSOR_SIZE + 1}) {
+			// when
+			ServiceException keywordException = assertThrows(ServiceException.class,
+					() -> recipeSearchService.searchRecipeByKeywordAfter("계란", Sort.unsorted(), null, size));
+			ServiceException fridgeException = assertThrows(ServiceException.class,
+					() -> recipeSearchService.searchRecipeByFridgeAfter(1L, null, size));
+
+			// then
+			assertEquals(SEARCH_SIZE_INVALID.getHttpStatus(), keywordException.getStatusCode());
+			assertEquals(SEARCH_SIZE_INVALID.getHttpStatus(), fridgeException.getStatusCode());
+		}
+		verify(recipeSearchRepository, never())
+				.searchByKeywordAfter(anyString(), any(), any(), anyInt());
+		verify(memberRepository, never()).findById(any());
+	}
+
+	@Test
+	@DisplayName("냉장고 재료 일치율 검색 - 레시피별 있는 재료 / 없는 재료 반환")
+	@SuppressWarnings("unchecked")
+	void searchRecipeByFridgeCoverage() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.build();
+		Fridge fridge = fridgeWith(member, "양파", " 계란 ", "계란", "두부");
+		Pageable pageable = PageRequest.of(0, 10);
+
+		given(memberRepository.findById(1L))
+				.willReturn(Optional.of(member));
+		given(fridgeRepository.findByMember(member))
+				.willReturn(Optional.of(fridge));
+
+		SearchHit<RecipeDoc> hit = mock(SearchHit.class);
+		given(hit.getContent())
+				.willReturn(recipeDoc(List.of("양파", "계란", "대파", "간장")));
+		SearchHits<RecipeDoc> searchHits = mock(SearchHits.class);
+		given(searchHits.getSearchHits())
+				.willReturn(List.of(hit));
+		given(searchHits.getTotalHits())
+				.willReturn(1L);
+		given(recipeSearchRepository.searchByFridgeCoverage(anyCollection(), anyInt(), any()))
+				.willReturn(searchHits);
+
+		// when
+		Page<RecipeCoverageDto> result =
+				recipeSearchService.searchRecipeByFridgeCoverage(1L, pageable);
+
+		// then
+		ArgumentCaptor<Collection<String>> ingredientsCaptor = ArgumentCaptor.forClass(Collection.class);
+		verify(recipeSearchRepository).searchByFridgeCoverage(
+				ingredientsCaptor.capture(), eq(2), eq(pageable));
+		assertEquals(List.of("양파", "계란", "두부"), List.copyOf(ingredientsCaptor.getValue()));
+
+		RecipeCoverageDto recipeCoverageDto = result.getContent().get(0);
+		assertEquals(1, result.getTotalElements());
+		assertEquals(0.5, recipeCoverageDto.getCoverage());
+		assertEquals(List.of("양파", "계란"), recipeCoverageDto.getMatchedIngredients());
+		assertEquals(List.of("대파", "간장"), recipeCoverageDto.getMissingIngredients());
+	}
+
+	@Test
+	@DisplayName("냉장고 재료 일치율 검색 - 냉장고가 비어 있으면 검색하지 않음")
+	void searchRecipeByFridgeCoverageEmptyFridge() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.build();
+
+		given(memberRepository.findById(1L))
+				.willReturn(Optional.of(member));
+		given(fridgeRepository.findByMember(member))
+				.willReturn(Optional.of(fridgeWith(member)));
+
+		// when
+		Page<RecipeCoverageDto> result =
+				recipeSearchService.searchRecipeByFridgeCoverage(1L, PageRequest.of(0, 10));
+
+		// then
+		assertTrue(result.isEmpty());
+		verify(recipeSearchRepository, never())
+				.searchByFridgeCoverage(anyCollection(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("소비기한 임박 재료 검색 - 남은 일수가 적을수록 큰 가중치, 지난 재료 제외")
+	@SuppressWarnings("unchecked")
+	void searchRecipeByExpiringIngredients() {
+		// given
+		Member member = Member.builder()
+				.id(1L)
+				.build();
+		LocalDate today = LocalDate.now();
+		Fridge fridge = fridgeWith(member);
+		addIngredient(fridge, "양파", today);
+		addIngredient(fridge, "계란", today.plusDays(3));
+		addIngredient(fridge, "계란", today.plusDays(1));
+		addIngredient(fridge, "두부", null);
+		addIngredient(fridge, "우유", today.minusDays(1));
+
+		given(memberRepository.findById(1L))
+				.willReturn(Optional.of(member));
+		given(fridgeRepository.findByMember(member))
+				.willReturn(Optional.of(fridge));
+
+		SearchHits<RecipeDoc> searchHits = mock(SearchHits.class);
+		given(searchHits.getSearchHits())
+				.willReturn(List.of());
+		given(recipeSearchRepository.searchByIngredientWeights(any(), any()))
+				.willReturn(searchHits);
+
+		// when
+		recipeSearchService.searchRecipeByExpiringIngredients(1L, PageRequest.of(0, 10));
+
+		// then
+		ArgumentCaptor<Map<String, Float>> weightsCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(recipeSearchRepository).searchByIngredientWeights(weightsCaptor.capture(), any());
+		Map<String, Float> weights = weightsCaptor.getValue();
+		assertEquals(Map.of("양파", 5.0f, "계란", 3.0f, "두부", 1.0f), weights);
+	}
+
+	@Test
+	@DisplayName("소비기한 가중치 - 남은 일수에 따라 감소")
+	void expiryWeight() {
+		LocalDate today = LocalDate.of(2024, 1, 10);
+
+		assertEquals(5.0f, RecipeSearchService.expiryWeight(today, today));
+		assertEquals(3.0f, RecipeSearchService.expiryWeight(today.plusDays(1), today));
+		assertEquals(1.5f, RecipeSearchService.expiryWeight(today.plusDays(7), today));
+		assertEquals(1.0f, RecipeSearchService.expiryWeight(null, today));
+	}
+
+	/**
+	 * 정렬 값이 [1000, id] 인 검색 결과
+	 */
+	@SuppressWarnings("unchecked")
+	private SearchHits<RecipeDoc> searchHits(List<Long> ids, long totalHits) {
+		List<SearchHit<RecipeDoc>> hits = ids.stream()
+				.map(id -> {
+					SearchHit<RecipeDoc> hit = mock(SearchHit.class);
+					lenient().when(hit.getContent()).thenReturn(recipeDoc(List.of("계란")));
+					lenient().when(hit.getSortValues()).thenReturn(List.of(1000L, id));
+					return hit;
+				})
+				.toList();
+
+		SearchHits<RecipeDoc> searchHits = mock(SearchHits.class);
+		lenient().when(searchHits.getSearchHits()).thenReturn(hits);
+		lenient().when(searchHits.getTotalHits()).thenReturn(totalHits);
+		return searchHits;
+	}
+
+	private void addIngredient(Fridge fridge, String name, LocalDate expiredAt) {
+		fridge.getIngredientList().add(FridgeIngredient.builder()
+				.fridge(fridge)
+				.name(name)
+				.expiredAt(expiredAt)
+				.build());
+	}
+
+	private Fridge fridgeWith(Member member, String... names) {
+		Fridge fridge = Fridge.builder()
+				.member(member)
+				.build();
+		for (String name : names) {
+			fridge.getIngredientList().add(FridgeIngredient.builder()
+					.fridge(fridge)
+					.name(name)
+					.build());
+		}
+		return fridge;
+	}
+
+	private RecipeDoc recipeDoc(List<String> ingredientNames) {
+		return RecipeDoc.builder()
+				.id(1L)
+				.title("title")
+				.summary("summary")
+				.viewCount(0)
+				.reviewCount(0)
+				.ingredients(String.join(" ", ingredientNames))
+				.ingredientNames(ingredientNames)
+				.ingredientCount(ingredientNames.size())
+				.createdAt(ZonedDateTime.now())
+				.memberId(2L)
+				.memberNickname("author")
+				.memberRole(RoleType.USER)
+				.image("image.jpg")
+				.build();
+	}
+}